@@ -0,0 +1,49 @@
+package com.sap.ase.poker.config;
+
+import com.sap.ase.poker.model.evaluator.BitmaskHandEvaluator;
+import com.sap.ase.poker.model.evaluator.CachingHandEvaluator;
+import com.sap.ase.poker.model.evaluator.HandEvaluator;
+import com.sap.ase.poker.model.evaluator.LookupTableGenerator;
+import com.sap.ase.poker.model.evaluator.LookupTableHandEvaluator;
+import com.sap.ase.poker.model.evaluator.OmahaHandEvaluator;
+import com.sap.ase.poker.model.evaluator.PerfectHashHandEvaluator;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class HandEvaluatorConfig {
+
+  @Bean
+  public HandEvaluator handEvaluator(
+      @Value("${poker.evaluator.strategy:bitmask}") String strategy,
+      @Value("${poker.evaluator.lookup-table.path:hand-ranks.dat}") Path lookupTablePath,
+      @Value("${poker.evaluator.cache.enabled:false}") boolean cacheEnabled,
+      @Value("${poker.evaluator.cache.capacity:1048576}") int cacheCapacity) {
+    HandEvaluator handEvaluator = createHandEvaluator(strategy, lookupTablePath);
+    return cacheEnabled ? new CachingHandEvaluator(handEvaluator, cacheCapacity) : handEvaluator;
+  }
+
+  @Bean
+  public OmahaHandEvaluator omahaHandEvaluator() {
+    return new OmahaHandEvaluator();
+  }
+
+  private HandEvaluator createHandEvaluator(String strategy, Path lookupTablePath) {
+    return switch (strategy) {
+      case "bitmask" -> new BitmaskHandEvaluator();
+      case "lookup-table" -> lookupTableHandEvaluator(lookupTablePath);
+      case "perfect-hash" -> new PerfectHashHandEvaluator();
+      default -> throw new IllegalArgumentException("Unknown hand evaluator: " + strategy);
+    };
+  }
+
+  private HandEvaluator lookupTableHandEvaluator(Path path) {
+    if (!Files.exists(path)) {
+      new LookupTableGenerator().generate(path);
+    }
+    return new LookupTableHandEvaluator(path);
+  }
+}
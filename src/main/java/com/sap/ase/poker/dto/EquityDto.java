@@ -0,0 +1,52 @@
+package com.sap.ase.poker.dto;
+
+import com.sap.ase.poker.model.equity.Equity;
+
+public class EquityDto {
+
+  private String playerId;
+  private double win;
+  private double tie;
+  private double equity;
+
+  public EquityDto() {}
+
+  public EquityDto(String playerId, Equity equity) {
+    this.playerId = playerId;
+    this.win = equity.getWin();
+    this.tie = equity.getTie();
+    this.equity = equity.getEquity();
+  }
+
+  public String getPlayerId() {
+    return playerId;
+  }
+
+  public void setPlayerId(String playerId) {
+    this.playerId = playerId;
+  }
+
+  public double getWin() {
+    return win;
+  }
+
+  public void setWin(double win) {
+    this.win = win;
+  }
+
+  public double getTie() {
+    return tie;
+  }
+
+  public void setTie(double tie) {
+    this.tie = tie;
+  }
+
+  public double getEquity() {
+    return equity;
+  }
+
+  public void setEquity(double equity) {
+    this.equity = equity;
+  }
+}
@@ -9,6 +9,7 @@ public class GetTableResponseDto {
 
   private List<PlayerDto> players = new ArrayList<>();
   private List<CardDto> playerCards = new ArrayList<>();
+  private String playerHand;
   private PlayerDto currentPlayer;
   private List<CardDto> communityCards = new ArrayList<>();
   private int pot;
@@ -37,6 +38,14 @@ public class GetTableResponseDto {
     this.playerCards = playerCards;
   }
 
+  public String getPlayerHand() {
+    return playerHand;
+  }
+
+  public void setPlayerHand(String playerHand) {
+    this.playerHand = playerHand;
+  }
+
   public PlayerDto getCurrentPlayer() {
     return currentPlayer;
   }
@@ -0,0 +1,54 @@
+package com.sap.ase.poker.dto;
+
+import com.sap.ase.poker.model.equity.Outs;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class OutsDto {
+
+  private List<CardDto> cards;
+  private double win;
+  private double tie;
+  private double equity;
+
+  public OutsDto() {}
+
+  public OutsDto(Outs outs) {
+    this.cards = outs.getCards().stream().map(CardDto::new).collect(Collectors.toList());
+    this.win = outs.getEquity().getWin();
+    this.tie = outs.getEquity().getTie();
+    this.equity = outs.getEquity().getEquity();
+  }
+
+  public List<CardDto> getCards() {
+    return cards;
+  }
+
+  public void setCards(List<CardDto> cards) {
+    this.cards = cards;
+  }
+
+  public double getWin() {
+    return win;
+  }
+
+  public void setWin(double win) {
+    this.win = win;
+  }
+
+  public double getTie() {
+    return tie;
+  }
+
+  public void setTie(double tie) {
+    this.tie = tie;
+  }
+
+  public double getEquity() {
+    return equity;
+  }
+
+  public void setEquity(double equity) {
+    this.equity = equity;
+  }
+}
@@ -0,0 +1,22 @@
+package com.sap.ase.poker.model;
+
+/*
+ * The poker variant played at a table, i.e. how many hole cards every player gets. In Omaha a hand
+ * has to use exactly two of them and three community cards.
+ */
+public enum GameVariant {
+  TEXAS_HOLDEM(2),
+  OMAHA(4);
+
+  public static final int COMMUNITY_CARDS = 5;
+
+  private final int holeCards;
+
+  GameVariant(int holeCards) {
+    this.holeCards = holeCards;
+  }
+
+  public int getHoleCards() {
+    return holeCards;
+  }
+}
@@ -0,0 +1,66 @@
+package com.sap.ase.poker.model.deck;
+
+/*
+ * Canonical hole cards and board, together with the suit permutation that produced them. Equal
+ * canonical cards stand for isomorphic inputs, so they can be used as key of caches and tables;
+ * the permutation maps further cards of the same spot (e.g. an opponent's) into and out of it.
+ */
+public final class CanonicalCards {
+
+  private final long holeCards;
+  private final long board;
+  private final int[] permutation;
+
+  CanonicalCards(long holeCards, long board, int[] permutation) {
+    this.holeCards = holeCards;
+    this.board = board;
+    this.permutation = permutation;
+  }
+
+  public long getHoleCards() {
+    return holeCards;
+  }
+
+  public long getBoard() {
+    return board;
+  }
+
+  /* the canonical suit ordinal the suit with the given ordinal was renamed to */
+  public int canonicalSuit(int suit) {
+    return permutation[suit];
+  }
+
+  public long toCanonical(long cards) {
+    return SuitCanonicalizer.permute(cards, permutation);
+  }
+
+  public long fromCanonical(long cards) {
+    int[] inverse = new int[SuitCanonicalizer.SUITS];
+    for (int suit = 0; suit < inverse.length; suit++) {
+      inverse[permutation[suit]] = suit;
+    }
+    return SuitCanonicalizer.permute(cards, inverse);
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (obj == null || getClass() != obj.getClass()) {
+      return false;
+    }
+    CanonicalCards other = (CanonicalCards) obj;
+    return holeCards == other.holeCards && board == other.board;
+  }
+
+  @Override
+  public int hashCode() {
+    return Long.hashCode(holeCards * 31 + board);
+  }
+
+  @Override
+  public String toString() {
+    return CardMask.toCards(holeCards) + " on " + CardMask.toCards(board);
+  }
+}
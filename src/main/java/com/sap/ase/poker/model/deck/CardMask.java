@@ -0,0 +1,71 @@
+package com.sap.ase.poker.model.deck;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+ * Encodes a set of cards as a 64-bit mask. Every suit owns a 16-bit lane and the lower 13 bits
+ * of a lane hold the ranks TWO (bit 0) to ACE (bit 12) of that suit.
+ */
+public final class CardMask {
+
+  public static final int LANE_WIDTH = 16;
+  public static final int RANK_BITS = 0x1FFF;
+  public static final int CARDS_IN_DECK = 52;
+  public static final long FULL_DECK = 0x1FFF1FFF1FFF1FFFL;
+
+  private static final Suit[] SUITS = Suit.values();
+  private static final Kind[] KINDS = Kind.values();
+  private static final Card[] CARDS = new Card[64];
+
+  static {
+    for (Suit suit : SUITS) {
+      for (Kind kind : KINDS) {
+        Card card = new Card(kind, suit);
+        CARDS[bitIndex(card)] = card;
+      }
+    }
+  }
+
+  private CardMask() {}
+
+  public static int bitIndex(Card card) {
+    return card.getSuit().ordinal() * LANE_WIDTH + card.getKind().getRank() - 1;
+  }
+
+  public static long of(Card card) {
+    return 1L << bitIndex(card);
+  }
+
+  public static long of(List<Card> cards) {
+    long mask = 0L;
+    for (Card card : cards) {
+      mask |= of(card);
+    }
+    return mask;
+  }
+
+  public static Card card(int bitIndex) {
+    return CARDS[bitIndex];
+  }
+
+  public static List<Card> toCards(long mask) {
+    List<Card> cards = new ArrayList<>(Long.bitCount(mask));
+    for (long rest = mask; rest != 0; rest &= rest - 1) {
+      cards.add(card(Long.numberOfTrailingZeros(rest)));
+    }
+    return cards;
+  }
+
+  public static int size(long mask) {
+    return Long.bitCount(mask);
+  }
+
+  public static int ranks(long mask, int suit) {
+    return (int) (mask >>> (suit * LANE_WIDTH)) & RANK_BITS;
+  }
+
+  public static int ranks(long mask) {
+    return ranks(mask, 0) | ranks(mask, 1) | ranks(mask, 2) | ranks(mask, 3);
+  }
+}
@@ -0,0 +1,53 @@
+package com.sap.ase.poker.model.deck;
+
+import java.util.List;
+
+/*
+ * Maps hole cards and board to a canonical representative of all their suit relabelings. Every
+ * suit gets a signature of its board ranks followed by its hole card ranks; the suits are then
+ * renamed in descending order of their signatures. Relabeling the suits of the input only
+ * reorders the signatures, so all isomorphic inputs end up with the same canonical cards.
+ */
+public final class SuitCanonicalizer {
+
+  static final int SUITS = 4;
+
+  private SuitCanonicalizer() {}
+
+  public static CanonicalCards canonicalize(List<Card> holeCards, List<Card> board) {
+    return canonicalize(CardMask.of(holeCards), CardMask.of(board));
+  }
+
+  public static CanonicalCards canonicalize(long holeCards, long board) {
+    long[] signatures = new long[SUITS];
+    int[] suitsBySignature = new int[SUITS];
+    for (int suit = 0; suit < SUITS; suit++) {
+      long signature =
+          (long) CardMask.ranks(board, suit) << CardMask.LANE_WIDTH
+              | CardMask.ranks(holeCards, suit);
+      int position = suit;
+      while (position > 0 && signatures[position - 1] < signature) {
+        signatures[position] = signatures[position - 1];
+        suitsBySignature[position] = suitsBySignature[position - 1];
+        position--;
+      }
+      signatures[position] = signature;
+      suitsBySignature[position] = suit;
+    }
+
+    int[] permutation = new int[SUITS];
+    for (int canonicalSuit = 0; canonicalSuit < SUITS; canonicalSuit++) {
+      permutation[suitsBySignature[canonicalSuit]] = canonicalSuit;
+    }
+    return new CanonicalCards(
+        permute(holeCards, permutation), permute(board, permutation), permutation);
+  }
+
+  static long permute(long cards, int[] permutation) {
+    long result = 0L;
+    for (int suit = 0; suit < SUITS; suit++) {
+      result |= (long) CardMask.ranks(cards, suit) << (permutation[suit] * CardMask.LANE_WIDTH);
+    }
+    return result;
+  }
+}
@@ -0,0 +1,274 @@
+package com.sap.ase.poker.model.equity;
+
+import com.sap.ase.poker.model.evaluator.HandEvaluator;
+import com.sap.ase.poker.model.range.Combos;
+import java.util.Arrays;
+
+/*
+ * The strengths of all combos on a board and on each of its runouts to the river (1,176 on the
+ * flop), evaluated once and shared by all holdings on that board, so a holding only compares
+ * strengths and evaluates nothing. The combos are kept in the order of their strength on the
+ * board, which makes the opponents a holding is ahead of, tied with and behind three ranges to
+ * scan. On the flop the strengths on each turn card are kept as well, on the turn those are the
+ * runouts.
+ */
+final class BoardRanks {
+
+  static final int AHEAD = 0;
+  static final int TIED = 1;
+  static final int BEHIND = 2;
+
+  private static final int COMBO_BITS = 11;
+  // more than the combos of a range, so two counts of them fit into an int
+  private static final int TALLY_BITS = 16;
+  private static final int TALLY_MASK = (1 << TALLY_BITS) - 1;
+
+  // the strengths of the combos alive on the board, in ascending order, and the position of each
+  // combo among them (-1 if the board holds one of its cards)
+  private final int[] now;
+  private final int[] positions;
+  // the strengths on every runout to the river and the positions of the combos the runout kills
+  private final long[] runouts;
+  private final int[][] strengths;
+  private final int[][] dead;
+  // the same for every next card
+  private final long[] nextCards;
+  private final int[][] nextStrengths;
+  private final int[][] nextDead;
+
+  private BoardRanks(
+      int[] now,
+      int[] positions,
+      long[] runouts,
+      int[][] strengths,
+      int[][] dead,
+      long[] nextCards,
+      int[][] nextStrengths,
+      int[][] nextDead) {
+    this.now = now;
+    this.positions = positions;
+    this.runouts = runouts;
+    this.strengths = strengths;
+    this.dead = dead;
+    this.nextCards = nextCards;
+    this.nextStrengths = nextStrengths;
+    this.nextDead = nextDead;
+  }
+
+  static BoardRanks rank(HandEvaluator handEvaluator, long board) {
+    long[] deck = EquityCalculator.undealtCards(new long[0], board);
+    long[] runouts;
+    if (EquityCalculator.missingCards(board) == 0) {
+      runouts = new long[0];
+    } else if (EquityCalculator.missingCards(board) == 1) {
+      runouts = deck;
+    } else {
+      runouts = new long[deck.length * (deck.length - 1) / 2];
+      int runout = 0;
+      for (int turn = 0; turn < deck.length; turn++) {
+        for (int river = turn + 1; river < deck.length; river++) {
+          runouts[runout++] = deck[turn] | deck[river];
+        }
+      }
+    }
+
+    // the combos alive on the board by ascending strength
+    HandEvaluator evaluator = handEvaluator.withBoard(board);
+    long[] sorted = new long[Combos.COMBOS];
+    int alive = 0;
+    for (int combo = 0; combo < Combos.COMBOS; combo++) {
+      long holeCards = Combos.holeCards(combo);
+      if ((holeCards & board) == 0) {
+        sorted[alive++] = (long) evaluator.evaluate(holeCards) << COMBO_BITS | combo;
+      }
+    }
+    Arrays.sort(sorted, 0, alive);
+    long[] combos = new long[alive];
+    int[] now = new int[alive];
+    int[] positions = new int[Combos.COMBOS];
+    Arrays.fill(positions, -1);
+    for (int position = 0; position < alive; position++) {
+      int combo = (int) (sorted[position] & ((1 << COMBO_BITS) - 1));
+      combos[position] = Combos.holeCards(combo);
+      now[position] = (int) (sorted[position] >>> COMBO_BITS);
+      positions[combo] = position;
+    }
+
+    int[][] strengths = strengths(handEvaluator, board, runouts, combos);
+    int[][] dead = dead(strengths);
+    if (EquityCalculator.missingCards(board) != 2) {
+      return new BoardRanks(now, positions, runouts, strengths, dead, runouts, strengths, dead);
+    }
+    int[][] nextStrengths = strengths(handEvaluator, board, deck, combos);
+    return new BoardRanks(
+        now, positions, runouts, strengths, dead, deck, nextStrengths, dead(nextStrengths));
+  }
+
+  /* the strengths of the combos on every runout of a board, 0 where it holds one of their cards */
+  private static int[][] strengths(
+      HandEvaluator handEvaluator, long board, long[] runouts, long[] combos) {
+    int[][] strengths = new int[runouts.length][combos.length];
+    for (int runout = 0; runout < runouts.length; runout++) {
+      HandEvaluator evaluator = handEvaluator.withBoard(board | runouts[runout]);
+      for (int position = 0; position < combos.length; position++) {
+        if ((combos[position] & runouts[runout]) == 0) {
+          strengths[runout][position] = evaluator.evaluate(combos[position]);
+        }
+      }
+    }
+    return strengths;
+  }
+
+  /* the positions of the combos each runout holds one of the cards of, in ascending order */
+  private static int[][] dead(int[][] strengths) {
+    int[][] dead = new int[strengths.length][];
+    for (int runout = 0; runout < strengths.length; runout++) {
+      int[] positions = new int[strengths[runout].length];
+      int count = 0;
+      for (int position = 0; position < positions.length; position++) {
+        if (strengths[runout][position] == 0) {
+          positions[count++] = position;
+        }
+      }
+      dead[runout] = Arrays.copyOf(positions, count);
+    }
+    return dead;
+  }
+
+  long[] nextCards() {
+    return nextCards;
+  }
+
+  /* the holding's position among the combos and the opponents it is ahead of, tied with, behind */
+  Holding holding(long holeCards) {
+    int hero = positions[Combos.index(holeCards)];
+    int[] bounds = {0, lowerBound(now, now[hero]), lowerBound(now, now[hero] + 1), now.length};
+    // the positions of the combos sharing a card with the hole cards, by their state now
+    int[][] blocked = new int[3][Combos.COMBOS];
+    int[] blockedCounts = new int[3];
+    for (int combo = 0; combo < Combos.COMBOS; combo++) {
+      int position = positions[combo];
+      if (position >= 0 && (Combos.holeCards(combo) & holeCards) != 0) {
+        int state = position < bounds[TIED] ? AHEAD : position < bounds[BEHIND] ? TIED : BEHIND;
+        blocked[state][blockedCounts[state]++] = position;
+      }
+    }
+    int[] opponents = new int[3];
+    for (int state = AHEAD; state <= BEHIND; state++) {
+      blocked[state] = Arrays.copyOf(blocked[state], blockedCounts[state]);
+      opponents[state] = bounds[state + 1] - bounds[state] - blockedCounts[state];
+    }
+    return new Holding(holeCards, hero, bounds, blocked, opponents);
+  }
+
+  /* the opponents by their state now and on the river, each once per runout leaving them alive */
+  Transitions toRiver(Holding holding) {
+    Transitions transitions = new Transitions();
+    for (int runout = 0; runout < runouts.length; runout++) {
+      count(holding, runouts[runout], strengths[runout], dead[runout], transitions);
+    }
+    return transitions;
+  }
+
+  /* the opponents by their state now and once the given one of the next cards is dealt */
+  Transitions onNextCard(Holding holding, int nextCard) {
+    Transitions transitions = new Transitions();
+    count(holding, nextCards[nextCard], nextStrengths[nextCard], nextDead[nextCard], transitions);
+    return transitions;
+  }
+
+  private static void count(
+      Holding holding, long runout, int[] strengths, int[] dead, Transitions transitions) {
+    if ((runout & holding.holeCards) != 0) {
+      return;
+    }
+    int ours = strengths[holding.hero];
+    for (int state = AHEAD; state <= BEHIND; state++) {
+      int from = holding.bounds[state];
+      int to = holding.bounds[state + 1];
+      int tally = tally(strengths, from, to, ours);
+      int deadCount = lowerBound(dead, to) - lowerBound(dead, from);
+      // the opponents holding one of our cards were counted along, take them out again
+      for (int position : holding.blocked[state]) {
+        int strength = strengths[position];
+        tally -= tally(strength, ours);
+        deadCount -= (strength - 1) >>> 31;
+      }
+      int below = tally & TALLY_MASK;
+      int notAbove = tally >>> TALLY_BITS;
+      transitions.counts[state][AHEAD] += below - deadCount;
+      transitions.counts[state][TIED] += notAbove - below;
+      transitions.counts[state][BEHIND] += holding.opponents[state] - notAbove;
+      transitions.totals[state] += holding.opponents[state] - deadCount;
+    }
+  }
+
+  /*
+   * The combos of a range that are weaker than ours and those that are not stronger, dead ones
+   * being 0 and so among both, packed into one int: the scan adds a single sum per combo.
+   */
+  private static int tally(int[] strengths, int from, int to, int ours) {
+    int tally = 0;
+    for (int position = from; position < to; position++) {
+      tally += tally(strengths[position], ours);
+    }
+    return tally;
+  }
+
+  // branch-free, as the comparisons are unpredictable
+  private static int tally(int strength, int ours) {
+    return ((strength - ours) >>> 31) + ((strength - ours - 1) >>> 31 << TALLY_BITS);
+  }
+
+  private static int lowerBound(int[] sorted, int key) {
+    int low = 0;
+    int high = sorted.length;
+    while (low < high) {
+      int middle = (low + high) >>> 1;
+      if (sorted[middle] < key) {
+        low = middle + 1;
+      } else {
+        high = middle;
+      }
+    }
+    return low;
+  }
+
+  static final class Holding {
+
+    private final long holeCards;
+    private final int hero;
+    // the positions of the opponents the holding is ahead of, tied with and behind now
+    private final int[] bounds;
+    private final int[][] blocked;
+    private final int[] opponents;
+
+    private Holding(long holeCards, int hero, int[] bounds, int[][] blocked, int[] opponents) {
+      this.holeCards = holeCards;
+      this.hero = hero;
+      this.bounds = bounds;
+      this.blocked = blocked;
+      this.opponents = opponents;
+    }
+
+    /* the opponents alive in the given state now */
+    int opponents(int state) {
+      return opponents[state];
+    }
+  }
+
+  /* opponents by their state now and later, and the opponents alive per state now */
+  static final class Transitions {
+
+    private final long[][] counts = new long[3][3];
+    private final long[] totals = new long[3];
+
+    long count(int now, int later) {
+      return counts[now][later];
+    }
+
+    long total(int now) {
+      return totals[now];
+    }
+  }
+}
@@ -0,0 +1,105 @@
+package com.sap.ase.poker.model.equity;
+
+import com.sap.ase.poker.model.deck.SuitCanonicalizer;
+import com.sap.ase.poker.model.evaluator.HandEvaluator;
+import com.sap.ase.poker.model.rules.InvalidAmountOfCardsException;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/*
+ * The BoardRanks of the boards in play, shared by the HandPotentialCalculator and the
+ * OutsCalculator. Boards are kept by their canonical cards (see SuitCanonicalizer), as suits with
+ * the same board cards are alike on the board whatever the hole cards; the least recently used
+ * board is dropped once the boards of all tables are kept.
+ */
+@Component
+public class BoardRanksCache {
+
+  // a table's flop and turn; the strengths on the runouts of a flop take 5.5 MB
+  static final int BOARDS_PER_TABLE = 2;
+
+  private final HandEvaluator handEvaluator;
+  private final Executor executor;
+  private final Map<Long, CompletableFuture<BoardRanks>> boards;
+
+  @Autowired
+  public BoardRanksCache(
+      HandEvaluator handEvaluator, @Value("${poker.equity.board-ranks.tables:1}") int tables) {
+    this(handEvaluator, tables, ForkJoinPool.commonPool());
+  }
+
+  /* keeps the boards of the given number of tables, which are prepared on the given executor */
+  public BoardRanksCache(HandEvaluator handEvaluator, int tables, Executor executor) {
+    this.handEvaluator = handEvaluator;
+    this.executor = executor;
+    this.boards = new LeastRecentlyUsed<>(tables * BOARDS_PER_TABLE);
+  }
+
+  /*
+   * Ranks a board in the background, so that the first holding on it doesn't have to, e.g. when
+   * a consumer of the potentials subscribes to a table and again as its turn is dealt. A holding
+   * on a board that is still being ranked waits for it. Completes exceptionally if the board
+   * dropped out of the cache before the executor got to it.
+   */
+  public CompletableFuture<Void> prepare(long communityCards) {
+    if (EquityCalculator.missingCards(communityCards) > 2) {
+      throw new InvalidAmountOfCardsException("a flop, turn or river needed");
+    }
+    long board = SuitCanonicalizer.canonicalize(0L, communityCards).getBoard();
+    return boardRanks(board, executor).thenAccept(ranks -> {});
+  }
+
+  /* waits for a canonical board that is being ranked, or else ranks it on the calling thread */
+  BoardRanks ranked(long board) {
+    while (true) {
+      try {
+        return boardRanks(board, Runnable::run).join();
+      } catch (CancellationException e) {
+        // dropped from the cache before it was ranked, the next attempt ranks it here
+      }
+    }
+  }
+
+  /* the board's ranks, ranked on the given executor unless they are or are being already */
+  private CompletableFuture<BoardRanks> boardRanks(long board, Executor executor) {
+    CompletableFuture<BoardRanks> ranks;
+    synchronized (boards) {
+      ranks = boards.get(board);
+      if (ranks != null) {
+        return ranks;
+      }
+      ranks = new CompletableFuture<>();
+      boards.put(board, ranks);
+    }
+    CompletableFuture<BoardRanks> ranking = ranks;
+    executor.execute(() -> rank(board, ranking));
+    return ranks;
+  }
+
+  /*
+   * Ranked outside the lock, so other boards aren't held up. Boards dealt faster than they are
+   * ranked drop out of the cache while they wait for the executor, those are skipped.
+   */
+  private void rank(long board, CompletableFuture<BoardRanks> ranking) {
+    synchronized (boards) {
+      if (!boards.containsValue(ranking)) {
+        ranking.cancel(false);
+        return;
+      }
+    }
+    try {
+      ranking.complete(BoardRanks.rank(handEvaluator, board));
+    } catch (RuntimeException e) {
+      synchronized (boards) {
+        boards.remove(board, ranking);
+      }
+      ranking.completeExceptionally(e);
+    }
+  }
+}
@@ -0,0 +1,35 @@
+package com.sap.ase.poker.model.equity;
+
+/*
+ * The share of the runouts a player wins outright or ties, and their equity: the expected share of
+ * the pot, where a tie between k players is worth 1/k.
+ */
+public class Equity {
+
+  private final double win;
+  private final double tie;
+  private final double equity;
+
+  public Equity(double win, double tie, double equity) {
+    this.win = win;
+    this.tie = tie;
+    this.equity = equity;
+  }
+
+  public double getWin() {
+    return win;
+  }
+
+  public double getTie() {
+    return tie;
+  }
+
+  public double getEquity() {
+    return equity;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("%.2f %% (win %.2f %%, tie %.2f %%)", 100 * equity, 100 * win, 100 * tie);
+  }
+}
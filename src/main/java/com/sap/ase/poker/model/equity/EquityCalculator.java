@@ -0,0 +1,133 @@
+package com.sap.ase.poker.model.equity;
+
+import com.sap.ase.poker.model.GameVariant;
+import com.sap.ase.poker.model.deck.CardMask;
+import com.sap.ase.poker.model.evaluator.HandEvaluator;
+import com.sap.ase.poker.model.rules.InvalidAmountOfCardsException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import org.springframework.stereotype.Component;
+
+/*
+ * Exact all-in equities: every runout of the community cards from the cards nobody holds is
+ * evaluated for every player. The runouts are split by their lowest card into fork/join tasks on
+ * the common pool, preflop heads-up these are 1,712,304 runouts.
+ */
+@Component
+public class EquityCalculator {
+
+  private final HandEvaluator handEvaluator;
+
+  public EquityCalculator(HandEvaluator handEvaluator) {
+    this.handEvaluator = handEvaluator;
+  }
+
+  public List<Equity> calculate(long[] holeCards, long communityCards) {
+    HandEvaluator[] evaluators = new HandEvaluator[holeCards.length];
+    Arrays.fill(evaluators, handEvaluator);
+    return calculate(holeCards, evaluators, communityCards);
+  }
+
+  /* with an evaluator per player, e.g. the ones of OmahaHandEvaluator.forHoleCards */
+  public List<Equity> calculate(long[] holeCards, HandEvaluator[] evaluators, long communityCards) {
+    int missingCards = missingCards(communityCards);
+    long[] deck = undealtCards(holeCards, communityCards);
+
+    Runouts runouts = new Runouts(holeCards, evaluators, communityCards, deck, missingCards);
+    if (missingCards == 0) {
+      return runouts.enumerate(0, 0, communityCards, new Tally(holeCards.length)).toEquities();
+    }
+    int lowestCards = deck.length - missingCards + 1;
+    return ForkJoinPool.commonPool().invoke(new Enumeration(runouts, 0, lowestCards)).toEquities();
+  }
+
+  static int missingCards(long communityCards) {
+    int missingCards = GameVariant.COMMUNITY_CARDS - CardMask.size(communityCards);
+    if (missingCards < 0) {
+      throw new InvalidAmountOfCardsException("at most 5 community cards allowed");
+    }
+    return missingCards;
+  }
+
+  /* one single card mask per card nobody holds */
+  static long[] undealtCards(long[] holeCards, long communityCards) {
+    long undealt = CardMask.FULL_DECK & ~communityCards;
+    for (long cards : holeCards) {
+      undealt &= ~cards;
+    }
+    long[] deck = new long[CardMask.size(undealt)];
+    int card = 0;
+    for (long rest = undealt; rest != 0; rest &= rest - 1) {
+      deck[card++] = Long.lowestOneBit(rest);
+    }
+    return deck;
+  }
+
+  private static final class Runouts {
+
+    private final long[] holeCards;
+    private final HandEvaluator[] evaluators;
+    private final long communityCards;
+    private final long[] deck;
+    private final int missingCards;
+
+    private Runouts(
+        long[] holeCards,
+        HandEvaluator[] evaluators,
+        long communityCards,
+        long[] deck,
+        int missingCards) {
+      this.holeCards = holeCards;
+      this.evaluators = evaluators;
+      this.communityCards = communityCards;
+      this.deck = deck;
+      this.missingCards = missingCards;
+    }
+
+    /* all runouts with the given lowest card */
+    private Tally enumerate(int lowestCard) {
+      Tally tally = new Tally(holeCards.length);
+      return enumerate(lowestCard + 1, missingCards - 1, communityCards | deck[lowestCard], tally);
+    }
+
+    private Tally enumerate(int from, int missing, long board, Tally tally) {
+      if (missing == 0) {
+        tally.score(holeCards, evaluators, board);
+        return tally;
+      }
+      for (int card = from; card <= deck.length - missing; card++) {
+        enumerate(card + 1, missing - 1, board | deck[card], tally);
+      }
+      return tally;
+    }
+  }
+
+  private static final class Enumeration extends RecursiveTask<Tally> {
+
+    private static final long serialVersionUID = 1L;
+
+    private final transient Runouts runouts;
+    private final int from;
+    private final int to;
+
+    private Enumeration(Runouts runouts, int from, int to) {
+      this.runouts = runouts;
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    protected Tally compute() {
+      if (to - from == 1) {
+        return runouts.enumerate(from);
+      }
+      int middle = (from + to) >>> 1;
+      Enumeration upper = new Enumeration(runouts, middle, to);
+      upper.fork();
+      Tally lower = new Enumeration(runouts, from, middle).compute();
+      return lower.add(upper.join());
+    }
+  }
+}
@@ -0,0 +1,29 @@
+package com.sap.ase.poker.model.equity;
+
+/* an equity sampled from random runouts, with the standard error of the estimate */
+public class EstimatedEquity extends Equity {
+
+  private final double standardError;
+  private final long samples;
+
+  public EstimatedEquity(
+      double win, double tie, double equity, double standardError, long samples) {
+    super(win, tie, equity);
+    this.standardError = standardError;
+    this.samples = samples;
+  }
+
+  public double getStandardError() {
+    return standardError;
+  }
+
+  public long getSamples() {
+    return samples;
+  }
+
+  @Override
+  public String toString() {
+    return super.toString()
+        + String.format(" +/- %.2f %% from %,d samples", 100 * standardError, samples);
+  }
+}
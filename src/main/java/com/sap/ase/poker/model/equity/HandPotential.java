@@ -0,0 +1,47 @@
+package com.sap.ase.poker.model.equity;
+
+/*
+ * How a holding stands against a single random opponent hand on a board. The hand strength is the
+ * share of the opponent hands it beats now, ties counting half. The positive potential is the
+ * chance to end up ahead on the river when behind now, the negative potential the chance to fall
+ * behind when ahead now. The effective hand strength combines them into the chance to be ahead on
+ * the river: HS * (1 - NPot) + (1 - HS) * PPot.
+ */
+public class HandPotential {
+
+  private final double handStrength;
+  private final double positivePotential;
+  private final double negativePotential;
+
+  public HandPotential(double handStrength, double positivePotential, double negativePotential) {
+    this.handStrength = handStrength;
+    this.positivePotential = positivePotential;
+    this.negativePotential = negativePotential;
+  }
+
+  public double getHandStrength() {
+    return handStrength;
+  }
+
+  public double getPositivePotential() {
+    return positivePotential;
+  }
+
+  public double getNegativePotential() {
+    return negativePotential;
+  }
+
+  public double getEffectiveHandStrength() {
+    return handStrength * (1 - negativePotential) + (1 - handStrength) * positivePotential;
+  }
+
+  @Override
+  public String toString() {
+    return String.format(
+        "EHS %.2f %% (HS %.2f %%, PPot %.2f %%, NPot %.2f %%)",
+        100 * getEffectiveHandStrength(),
+        100 * handStrength,
+        100 * positivePotential,
+        100 * negativePotential);
+  }
+}
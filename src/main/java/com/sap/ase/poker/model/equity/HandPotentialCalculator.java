@@ -0,0 +1,76 @@
+package com.sap.ase.poker.model.equity;
+
+import static com.sap.ase.poker.model.equity.BoardRanks.AHEAD;
+import static com.sap.ase.poker.model.equity.BoardRanks.BEHIND;
+import static com.sap.ase.poker.model.equity.BoardRanks.TIED;
+
+import com.sap.ase.poker.model.deck.CanonicalCards;
+import com.sap.ase.poker.model.deck.CardMask;
+import com.sap.ase.poker.model.deck.SuitCanonicalizer;
+import com.sap.ase.poker.model.rules.InvalidAmountOfCardsException;
+import java.util.Map;
+import org.springframework.stereotype.Component;
+
+/*
+ * Hand strength and potential of a holding against every opponent hand, over all runouts to the
+ * river. The strengths of all combos on the board and its runouts come from the BoardRanksCache,
+ * so a holding only compares strengths and evaluates nothing. Results are kept by their canonical
+ * cards (see SuitCanonicalizer), since renaming the suits doesn't change them, and the least
+ * recently used ones are dropped.
+ */
+@Component
+public class HandPotentialCalculator {
+
+  static final int RESULT_CAPACITY = 1 << 16;
+
+  private final BoardRanksCache boardRanks;
+  private final Map<CanonicalCards, HandPotential> results =
+      new LeastRecentlyUsed<>(RESULT_CAPACITY);
+
+  public HandPotentialCalculator(BoardRanksCache boardRanks) {
+    this.boardRanks = boardRanks;
+  }
+
+  public HandPotential calculate(long holeCards, long communityCards) {
+    int missingCards = EquityCalculator.missingCards(communityCards);
+    if (missingCards > 2 || CardMask.size(holeCards) != 2 || (holeCards & communityCards) != 0) {
+      throw new InvalidAmountOfCardsException(
+          "two hole cards and a flop, turn or river without them needed");
+    }
+    CanonicalCards canonical = SuitCanonicalizer.canonicalize(holeCards, communityCards);
+    HandPotential potential;
+    synchronized (results) {
+      potential = results.get(canonical);
+    }
+    if (potential == null) {
+      potential = calculate(canonical.getHoleCards(), boardRanks.ranked(canonical.getBoard()));
+      synchronized (results) {
+        results.put(canonical, potential);
+      }
+    }
+    return potential;
+  }
+
+  private static HandPotential calculate(long holeCards, BoardRanks board) {
+    BoardRanks.Holding holding = board.holding(holeCards);
+    BoardRanks.Transitions river = board.toRiver(holding);
+    int ahead = holding.opponents(AHEAD);
+    int tied = holding.opponents(TIED);
+    double handStrength = (ahead + tied / 2.0) / (ahead + tied + holding.opponents(BEHIND));
+    double positivePotential =
+        ratio(
+            river.count(BEHIND, AHEAD) + river.count(BEHIND, TIED) / 2.0
+                + river.count(TIED, AHEAD) / 2.0,
+            river.total(BEHIND) + river.total(TIED) / 2.0);
+    double negativePotential =
+        ratio(
+            river.count(AHEAD, BEHIND) + river.count(TIED, BEHIND) / 2.0
+                + river.count(AHEAD, TIED) / 2.0,
+            river.total(AHEAD) + river.total(TIED) / 2.0);
+    return new HandPotential(handStrength, positivePotential, negativePotential);
+  }
+
+  private static double ratio(double numerator, double denominator) {
+    return denominator == 0 ? 0 : numerator / denominator;
+  }
+}
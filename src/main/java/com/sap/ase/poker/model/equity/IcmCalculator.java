@@ -0,0 +1,215 @@
+package com.sap.ase.poker.model.equity;
+
+import java.util.SplittableRandom;
+import java.util.stream.LongStream;
+import org.springframework.stereotype.Component;
+
+/*
+ * Tournament equities by the Independent Chip Model: every place goes to one of the players not
+ * placed yet with a chance proportional to their chips, and a player's equity is their expected
+ * payout. The exact calculation memoizes the chance of every set of players taking the places on
+ * top, one entry per bitmask, instead of following every finishing order; it takes 2^n * n steps
+ * and 2^n doubles, so 20 players at most. Larger fields are estimated from random finishing
+ * orders: ranking the players by exponentially distributed times with their chips as rates
+ * picks the places in just the same proportions.
+ */
+@Component
+public class IcmCalculator {
+
+  public static final int MAX_EXACT_PLAYERS = 20;
+
+  static final int BATCH_SAMPLES = 4096;
+  static final int ROUND_BATCHES = 32;
+  // of the standard normal distribution, for 95 % confidence
+  private static final double CONFIDENCE_Z = 1.96;
+
+  /* the expected payout of every player, the payouts by place from the first one on */
+  public double[] calculate(int[] stacks, double[] payouts) {
+    validate(stacks, payouts);
+    if (stacks.length > MAX_EXACT_PLAYERS) {
+      throw new IllegalArgumentException(
+          "At most " + MAX_EXACT_PLAYERS + " players calculated exactly, estimate the others");
+    }
+    int players = stacks.length;
+    int places = Math.min(players, payouts.length);
+    double[] equities = new double[players];
+    // the chance of the players in a mask to take the places on top, in any order
+    double[] chances = new double[1 << players];
+    chances[0] = 1;
+    long total = chips(stacks, (1 << players) - 1);
+    // a mask is complete before any larger one is visited, as all its subsets are smaller
+    for (int placed = 0; placed < chances.length; placed++) {
+      int place = Integer.bitCount(placed);
+      if (place >= places || chances[placed] == 0) {
+        continue;
+      }
+      double chancePerChip = chances[placed] / (total - chips(stacks, placed));
+      for (int left = ~placed & (1 << players) - 1; left != 0; left &= left - 1) {
+        int player = Integer.numberOfTrailingZeros(left);
+        double chance = chancePerChip * stacks[player];
+        equities[player] += chance * payouts[place];
+        chances[placed | 1 << player] += chance;
+      }
+    }
+    return equities;
+  }
+
+  /*
+   * The expected payouts estimated from random finishing orders, for fields of any size. The
+   * sample counts are summed up as integers, so a seed and a sample count give the same estimates
+   * on any number of threads. A margin of the budget applies to the share of the prize pool.
+   */
+  public double[] estimate(int[] stacks, double[] payouts, SampleBudget budget) {
+    long start = System.nanoTime();
+    validate(stacks, payouts);
+    Sampler sampler = new Sampler(stacks, Math.min(stacks.length, payouts.length), budget);
+    long batches =
+        budget.getSamples() / BATCH_SAMPLES + (budget.getSamples() % BATCH_SAMPLES == 0 ? 0 : 1);
+    PlaceCounts counts = new PlaceCounts(stacks.length, sampler.places);
+    long batch = 0;
+    do {
+      long roundEnd = Math.min(batch + ROUND_BATCHES, batches);
+      counts.add(
+          LongStream.range(batch, roundEnd)
+              .parallel()
+              .mapToObj(sampler::sample)
+              .reduce(PlaceCounts::add)
+              .orElseThrow());
+      batch = roundEnd;
+    } while (batch < batches
+        && System.nanoTime() - start < budget.getNanos()
+        && !counts.isWithinMargin(payouts, budget.getMargin()));
+    return counts.equities(payouts);
+  }
+
+  private static void validate(int[] stacks, double[] payouts) {
+    if (stacks.length == 0 || payouts.length == 0) {
+      throw new IllegalArgumentException("At least one player and one payout needed");
+    }
+    for (int stack : stacks) {
+      if (stack <= 0) {
+        throw new IllegalArgumentException("Only players with chips can be placed");
+      }
+    }
+    for (double payout : payouts) {
+      if (payout < 0) {
+        throw new IllegalArgumentException("Payouts must not be negative");
+      }
+    }
+  }
+
+  private static long chips(int[] stacks, int players) {
+    long chips = 0;
+    for (int rest = players; rest != 0; rest &= rest - 1) {
+      chips += stacks[Integer.numberOfTrailingZeros(rest)];
+    }
+    return chips;
+  }
+
+  private static final class Sampler {
+
+    private final int[] stacks;
+    private final int places;
+    private final long seed;
+    private final long samples;
+
+    private Sampler(int[] stacks, int places, SampleBudget budget) {
+      this.stacks = stacks;
+      this.places = places;
+      this.seed = budget.getSeed();
+      this.samples = budget.getSamples();
+    }
+
+    /* the players with the shortest times so far are kept sorted, the rest is only compared */
+    private PlaceCounts sample(long batch) {
+      // the seed of the batch is mixed first, as neighbouring seeds start overlapping streams
+      SplittableRandom random = new SplittableRandom(new SplittableRandom(seed + batch).nextLong());
+      PlaceCounts counts = new PlaceCounts(stacks.length, places);
+      double[] times = new double[places];
+      int[] finishers = new int[places];
+      long batchSamples = Math.min(BATCH_SAMPLES, samples - batch * BATCH_SAMPLES);
+      for (long sample = 0; sample < batchSamples; sample++) {
+        int ranked = 0;
+        for (int player = 0; player < stacks.length; player++) {
+          double time = random.nextExponential() / stacks[player];
+          if (ranked == places && time >= times[places - 1]) {
+            continue;
+          }
+          int position = ranked == places ? places - 1 : ranked++;
+          while (position > 0 && times[position - 1] > time) {
+            times[position] = times[position - 1];
+            finishers[position] = finishers[position - 1];
+            position--;
+          }
+          times[position] = time;
+          finishers[position] = player;
+        }
+        counts.count(finishers);
+      }
+      return counts;
+    }
+  }
+
+  /* how often every player took every paid place */
+  private static final class PlaceCounts {
+
+    private final long[][] counts;
+    private long samples;
+
+    private PlaceCounts(int players, int places) {
+      counts = new long[players][places];
+    }
+
+    private void count(int[] finishers) {
+      for (int place = 0; place < finishers.length; place++) {
+        counts[finishers[place]][place]++;
+      }
+      samples++;
+    }
+
+    private PlaceCounts add(PlaceCounts other) {
+      for (int player = 0; player < counts.length; player++) {
+        for (int place = 0; place < counts[player].length; place++) {
+          counts[player][place] += other.counts[player][place];
+        }
+      }
+      samples += other.samples;
+      return this;
+    }
+
+    private double[] equities(double[] payouts) {
+      double[] equities = new double[counts.length];
+      for (int player = 0; player < counts.length; player++) {
+        for (int place = 0; place < counts[player].length; place++) {
+          equities[player] += counts[player][place] * payouts[place];
+        }
+        equities[player] /= samples;
+      }
+      return equities;
+    }
+
+    private boolean isWithinMargin(double[] payouts, double margin) {
+      double pool = 0;
+      for (int place = 0; place < counts[0].length; place++) {
+        pool += payouts[place];
+      }
+      if (pool == 0) {
+        return true;
+      }
+      for (int player = 0; player < counts.length; player++) {
+        double mean = 0;
+        double squares = 0;
+        for (int place = 0; place < counts[player].length; place++) {
+          double share = payouts[place] / pool;
+          mean += counts[player][place] * share / samples;
+          squares += counts[player][place] * share * share / samples;
+        }
+        double variance = Math.max(squares - mean * mean, 0) * samples / (samples - 1);
+        if (samples < 2 || CONFIDENCE_Z * Math.sqrt(variance / samples) > margin) {
+          return false;
+        }
+      }
+      return true;
+    }
+  }
+}
@@ -0,0 +1,22 @@
+package com.sap.ase.poker.model.equity;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/* a map dropping its least recently used entry once it holds more than its capacity */
+final class LeastRecentlyUsed<K, V> extends LinkedHashMap<K, V> {
+
+  private static final long serialVersionUID = 1L;
+
+  private final int capacity;
+
+  LeastRecentlyUsed(int capacity) {
+    super(16, 0.75f, true);
+    this.capacity = capacity;
+  }
+
+  @Override
+  protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+    return size() > capacity;
+  }
+}
@@ -0,0 +1,168 @@
+package com.sap.ase.poker.model.equity;
+
+import com.sap.ase.poker.model.evaluator.HandEvaluator;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import org.springframework.stereotype.Component;
+
+/*
+ * Estimates equities from random runouts where enumerating all of them is too expensive, e.g.
+ * multiway preflop. The samples are drawn in batches, every batch from an own SplittableRandom
+ * seeded by the budget's seed and the batch number, and summed up in a fixed order. Which worker
+ * draws a batch doesn't matter, so a seed and a sample count give the same equities on any number
+ * of threads. The budget is checked after every round of batches.
+ */
+@Component
+public class MonteCarloEquityCalculator {
+
+  static final int BATCH_SAMPLES = 4096;
+  static final int ROUND_BATCHES = 32;
+  // of the standard normal distribution, for 95 % confidence
+  private static final double CONFIDENCE_Z = 1.96;
+
+  private final HandEvaluator handEvaluator;
+
+  public MonteCarloEquityCalculator(HandEvaluator handEvaluator) {
+    this.handEvaluator = handEvaluator;
+  }
+
+  public List<EstimatedEquity> calculate(
+      long[] holeCards, long communityCards, SampleBudget budget) {
+    HandEvaluator[] evaluators = new HandEvaluator[holeCards.length];
+    Arrays.fill(evaluators, handEvaluator);
+    return calculate(holeCards, evaluators, communityCards, budget);
+  }
+
+  public List<EstimatedEquity> calculate(
+      long[] holeCards, HandEvaluator[] evaluators, long communityCards, SampleBudget budget) {
+    long start = System.nanoTime();
+    int missingCards = EquityCalculator.missingCards(communityCards);
+    Tally tally = new Tally(holeCards.length);
+    if (missingCards == 0) {
+      tally.score(holeCards, evaluators, communityCards);
+      return toEstimates(tally, true);
+    }
+
+    Sampler sampler =
+        new Sampler(
+            holeCards,
+            evaluators,
+            communityCards,
+            EquityCalculator.undealtCards(holeCards, communityCards),
+            missingCards,
+            budget);
+    long batches =
+        budget.getSamples() / BATCH_SAMPLES + (budget.getSamples() % BATCH_SAMPLES == 0 ? 0 : 1);
+    long batch = 0;
+    do {
+      long roundEnd = Math.min(batch + ROUND_BATCHES, batches);
+      tally.add(ForkJoinPool.commonPool().invoke(new Sampling(sampler, batch, roundEnd)));
+      batch = roundEnd;
+    } while (batch < batches
+        && System.nanoTime() - start < budget.getNanos()
+        && !isWithinMargin(tally, budget.getMargin()));
+    return toEstimates(tally, false);
+  }
+
+  private static boolean isWithinMargin(Tally tally, double margin) {
+    for (int player = 0; player < tally.wins.length; player++) {
+      if (CONFIDENCE_Z * tally.standardError(player) > margin) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static List<EstimatedEquity> toEstimates(Tally tally, boolean exact) {
+    List<EstimatedEquity> estimates = new ArrayList<>(tally.wins.length);
+    for (int player = 0; player < tally.wins.length; player++) {
+      estimates.add(
+          new EstimatedEquity(
+              (double) tally.wins[player] / tally.runouts,
+              (double) tally.ties[player] / tally.runouts,
+              tally.equity(player),
+              exact ? 0 : tally.standardError(player),
+              tally.runouts));
+    }
+    return estimates;
+  }
+
+  private static final class Sampler {
+
+    private final long[] holeCards;
+    private final HandEvaluator[] evaluators;
+    private final long communityCards;
+    private final long[] deck;
+    private final int missingCards;
+    private final long seed;
+    private final long samples;
+
+    private Sampler(
+        long[] holeCards,
+        HandEvaluator[] evaluators,
+        long communityCards,
+        long[] deck,
+        int missingCards,
+        SampleBudget budget) {
+      this.holeCards = holeCards;
+      this.evaluators = evaluators;
+      this.communityCards = communityCards;
+      this.deck = deck;
+      this.missingCards = missingCards;
+      this.seed = budget.getSeed();
+      this.samples = budget.getSamples();
+    }
+
+    /* the runouts are dealt from the front of an own copy of the deck, by partial shuffles */
+    private Tally sample(long batch) {
+      // the seed of the batch is mixed first, as neighbouring seeds start overlapping streams
+      SplittableRandom random = new SplittableRandom(new SplittableRandom(seed + batch).nextLong());
+      long[] cards = deck.clone();
+      Tally tally = new Tally(holeCards.length);
+      long batchSamples = Math.min(BATCH_SAMPLES, samples - batch * BATCH_SAMPLES);
+      for (long sample = 0; sample < batchSamples; sample++) {
+        long board = communityCards;
+        for (int card = 0; card < missingCards; card++) {
+          int pick = card + random.nextInt(cards.length - card);
+          long picked = cards[pick];
+          cards[pick] = cards[card];
+          cards[card] = picked;
+          board |= picked;
+        }
+        tally.score(holeCards, evaluators, board);
+      }
+      return tally;
+    }
+  }
+
+  private static final class Sampling extends RecursiveTask<Tally> {
+
+    private static final long serialVersionUID = 1L;
+
+    private final transient Sampler sampler;
+    private final long from;
+    private final long to;
+
+    private Sampling(Sampler sampler, long from, long to) {
+      this.sampler = sampler;
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    protected Tally compute() {
+      if (to - from == 1) {
+        return sampler.sample(from);
+      }
+      long middle = (from + to) >>> 1;
+      Sampling upper = new Sampling(sampler, middle, to);
+      upper.fork();
+      Tally lower = new Sampling(sampler, from, middle).compute();
+      return lower.add(upper.join());
+    }
+  }
+}
@@ -0,0 +1,41 @@
+package com.sap.ase.poker.model.equity;
+
+import com.sap.ase.poker.model.deck.Card;
+import com.sap.ase.poker.model.deck.CardMask;
+import java.util.List;
+
+/*
+ * The unseen cards that put a player ahead of most of the opponent hands they trail now, and their
+ * equity over all runouts of the board, both against an opponent holding any two unseen cards.
+ */
+public class Outs {
+
+  private final long cards;
+  private final Equity equity;
+
+  public Outs(long cards, Equity equity) {
+    this.cards = cards;
+    this.equity = equity;
+  }
+
+  public long getCardMask() {
+    return cards;
+  }
+
+  public List<Card> getCards() {
+    return CardMask.toCards(cards);
+  }
+
+  public int size() {
+    return CardMask.size(cards);
+  }
+
+  public Equity getEquity() {
+    return equity;
+  }
+
+  @Override
+  public String toString() {
+    return size() + " outs " + getCards() + ", " + equity;
+  }
+}
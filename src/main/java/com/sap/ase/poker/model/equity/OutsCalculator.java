@@ -0,0 +1,83 @@
+package com.sap.ase.poker.model.equity;
+
+import static com.sap.ase.poker.model.equity.BoardRanks.AHEAD;
+import static com.sap.ase.poker.model.equity.BoardRanks.BEHIND;
+import static com.sap.ase.poker.model.equity.BoardRanks.TIED;
+
+import com.sap.ase.poker.model.deck.CanonicalCards;
+import com.sap.ase.poker.model.deck.CardMask;
+import com.sap.ase.poker.model.deck.SuitCanonicalizer;
+import com.sap.ase.poker.model.rules.InvalidAmountOfCardsException;
+import java.util.Map;
+import org.springframework.stereotype.Component;
+
+/*
+ * The outs of a player on the flop or the turn against an opponent nothing is known about, holding
+ * any two of the cards the player doesn't see, so that the hint gives nothing away about the hands
+ * actually held. An unseen card is an out when, dealt as the next one, it puts the player ahead of
+ * most of the opponent hands they trail now: the remaining hearts and the overcards of a flush
+ * draw, but not a card pairing the board. Both the outs and the equity against that opponent over
+ * all runouts to the river are counted from the strengths of the BoardRanksCache, without
+ * evaluating a hand. Results are kept by their canonical cards (see SuitCanonicalizer).
+ */
+@Component
+public class OutsCalculator {
+
+  static final int RESULT_CAPACITY = 1 << 16;
+
+  private final BoardRanksCache boardRanks;
+  // the outs in canonical suits
+  private final Map<CanonicalCards, Outs> results = new LeastRecentlyUsed<>(RESULT_CAPACITY);
+
+  public OutsCalculator(BoardRanksCache boardRanks) {
+    this.boardRanks = boardRanks;
+  }
+
+  public Outs calculate(long holeCards, long communityCards) {
+    int missingCards = EquityCalculator.missingCards(communityCards);
+    if (missingCards != 1 && missingCards != 2) {
+      throw new InvalidAmountOfCardsException("outs are only counted on the flop and the turn");
+    }
+    if (CardMask.size(holeCards) != 2 || (holeCards & communityCards) != 0) {
+      throw new InvalidAmountOfCardsException("two hole cards besides the community cards needed");
+    }
+    CanonicalCards canonical = SuitCanonicalizer.canonicalize(holeCards, communityCards);
+    Outs outs;
+    synchronized (results) {
+      outs = results.get(canonical);
+    }
+    if (outs == null) {
+      outs = calculate(canonical.getHoleCards(), boardRanks.ranked(canonical.getBoard()));
+      synchronized (results) {
+        results.put(canonical, outs);
+      }
+    }
+    return new Outs(canonical.fromCanonical(outs.getCardMask()), outs.getEquity());
+  }
+
+  private static Outs calculate(long holeCards, BoardRanks board) {
+    BoardRanks.Holding holding = board.holding(holeCards);
+    long outs = 0;
+    long[] nextCards = board.nextCards();
+    for (int nextCard = 0; nextCard < nextCards.length; nextCard++) {
+      BoardRanks.Transitions next = board.onNextCard(holding, nextCard);
+      // a card among the hole cards leaves every count at 0, so it is no out
+      if (2 * next.count(BEHIND, AHEAD) > next.total(BEHIND)) {
+        outs |= nextCards[nextCard];
+      }
+    }
+
+    BoardRanks.Transitions river = board.toRiver(holding);
+    long wins = 0;
+    long ties = 0;
+    long total = 0;
+    for (int state = AHEAD; state <= BEHIND; state++) {
+      wins += river.count(state, AHEAD);
+      ties += river.count(state, TIED);
+      total += river.total(state);
+    }
+    Equity equity =
+        new Equity((double) wins / total, (double) ties / total, (wins + ties / 2.0) / total);
+    return new Outs(outs, equity);
+  }
+}
@@ -0,0 +1,273 @@
+package com.sap.ase.poker.model.equity;
+
+import com.sap.ase.poker.model.deck.CardMask;
+import com.sap.ase.poker.model.range.Combos;
+import com.sap.ase.poker.model.range.PreflopMatchups;
+import com.sap.ase.poker.model.rules.InvalidAmountOfCardsException;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/*
+ * Multiway preflop equities, simulated once per matchup and kept in an append-only file. The hands
+ * are stored in their canonical order (see PreflopMatchups.canonicalCombos), so all orders and suit
+ * renamings of a matchup share one record. A lookup tries the equities in memory first, then the
+ * records of earlier runs in the memory-mapped file. The file is opened, and its records indexed by
+ * their keys, on the cache's thread by the first lookup that misses the memory, so no caller waits
+ * for it and an application that never asks for multiway equities doesn't touch it. If it can't be
+ * opened or written, the equities are kept in memory only. A miss is simulated on the same thread
+ * and appended to the file; concurrent requests for the same matchup share its future.
+ */
+@Component
+public class PreflopEquityCache implements Closeable {
+
+  public static final int MIN_PLAYERS = 3;
+  public static final int MAX_PLAYERS = 6;
+
+  // the key, the samples and win, tie, equity and standard error per hand as floats
+  static final int RECORD_BYTES = 3 * Long.BYTES + MAX_PLAYERS * 4 * Float.BYTES;
+
+  private static final int COMBO_BITS = 11;
+  private static final int KEY_COMBOS = 3;
+
+  private final MonteCarloEquityCalculator monteCarloEquityCalculator;
+  private final Path path;
+  private final SampleBudget budget;
+  private final Map<Key, List<EstimatedEquity>> memory = new ConcurrentHashMap<>();
+  private final Map<Key, CompletableFuture<List<EstimatedEquity>>> pending =
+      new ConcurrentHashMap<>();
+  private volatile Records records;
+  private ExecutorService executor;
+  private boolean unavailable;
+  private boolean closed;
+
+  public PreflopEquityCache(
+      MonteCarloEquityCalculator monteCarloEquityCalculator,
+      @Value("${poker.equity.preflop-cache.path:preflop-equities.dat}") Path path,
+      @Value("${poker.equity.preflop-cache.samples:1000000}") long samples) {
+    this.monteCarloEquityCalculator = monteCarloEquityCalculator;
+    this.path = path;
+    this.budget = SampleBudget.samples(samples);
+  }
+
+  /* the equities of the hands in the given order, completed right away unless it's a miss */
+  public CompletableFuture<List<EstimatedEquity>> equities(long[] holeCards) {
+    if (holeCards.length < MIN_PLAYERS || holeCards.length > MAX_PLAYERS) {
+      throw new IllegalArgumentException(
+          "Between " + MIN_PLAYERS + " and " + MAX_PLAYERS + " hands are cached");
+    }
+    long cards = 0;
+    for (long hand : holeCards) {
+      cards |= hand;
+    }
+    if (CardMask.size(cards) != 2 * holeCards.length) {
+      throw new InvalidAmountOfCardsException("two hole cards per hand without common ones needed");
+    }
+    int[] slots = new int[holeCards.length];
+    int[] combos = PreflopMatchups.canonicalCombos(holeCards, slots);
+    Key key = Key.of(combos);
+
+    List<EstimatedEquity> cached = memory.get(key);
+    Records opened = records;
+    if (cached == null && opened != null) {
+      cached = opened.read(key, combos.length);
+    }
+    if (cached != null) {
+      memory.put(key, cached);
+      return CompletableFuture.completedFuture(inOrder(cached, slots));
+    }
+    return pending
+        .computeIfAbsent(
+            key,
+            missing -> CompletableFuture.supplyAsync(() -> lookUp(key, combos), executor()))
+        .thenApply(equities -> inOrder(equities, slots));
+  }
+
+  @Override
+  public synchronized void close() throws IOException {
+    closed = true;
+    if (executor != null) {
+      executor.shutdownNow();
+    }
+    if (records != null) {
+      records.close();
+      records = null;
+    }
+  }
+
+  private synchronized ExecutorService executor() {
+    if (executor == null) {
+      executor =
+          Executors.newSingleThreadExecutor(
+              runnable -> {
+                Thread thread = new Thread(runnable, "preflop-equity-cache");
+                thread.setDaemon(true);
+                return thread;
+              });
+    }
+    return executor;
+  }
+
+  /* opened on the cache's thread, null if the file can't be used */
+  private synchronized Records records() {
+    if (records == null && !unavailable && !closed) {
+      try {
+        records = new Records(path);
+      } catch (UncheckedIOException e) {
+        unavailable = true;
+      }
+    }
+    return records;
+  }
+
+  private List<EstimatedEquity> lookUp(Key key, int[] combos) {
+    try {
+      // a request may have missed just before the last lookup of the matchup finished
+      List<EstimatedEquity> equities = memory.get(key);
+      if (equities != null) {
+        return equities;
+      }
+      Records opened = records();
+      equities = opened == null ? null : opened.read(key, combos.length);
+      if (equities == null) {
+        equities = simulate(combos);
+        append(opened, key, equities);
+      }
+      memory.put(key, equities);
+      return equities;
+    } finally {
+      pending.remove(key);
+    }
+  }
+
+  private List<EstimatedEquity> simulate(int[] combos) {
+    long[] holeCards = new long[combos.length];
+    for (int player = 0; player < combos.length; player++) {
+      holeCards[player] = Combos.holeCards(combos[player]);
+    }
+    return monteCarloEquityCalculator.calculate(holeCards, 0L, budget);
+  }
+
+  private synchronized void append(Records opened, Key key, List<EstimatedEquity> equities) {
+    if (opened == null || unavailable) {
+      return;
+    }
+    try {
+      opened.append(key, equities);
+    } catch (UncheckedIOException e) {
+      unavailable = true;
+    }
+  }
+
+  private static List<EstimatedEquity> inOrder(List<EstimatedEquity> canonical, int[] slots) {
+    List<EstimatedEquity> equities = new ArrayList<>(slots.length);
+    for (int slot : slots) {
+      equities.add(canonical.get(slot));
+    }
+    return equities;
+  }
+
+  /* the open file with the positions of the records it had when it was opened */
+  private static final class Records implements Closeable {
+
+    private final FileChannel channel;
+    private final MappedByteBuffer mapped;
+    private final Map<Key, Integer> positions = new HashMap<>();
+    private long fileSize;
+
+    private Records(Path path) {
+      try {
+        channel =
+            FileChannel.open(
+                path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        // a record cut off by a crash is dropped and overwritten by the next one
+        fileSize = channel.size() - channel.size() % RECORD_BYTES;
+        mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, fileSize);
+      } catch (IOException e) {
+        throw new UncheckedIOException("Could not open preflop equity cache " + path, e);
+      }
+      for (int position = 0; position < fileSize; position += RECORD_BYTES) {
+        Key key = new Key(mapped.getLong(position), mapped.getLong(position + Long.BYTES));
+        positions.put(key, position);
+      }
+    }
+
+    private List<EstimatedEquity> read(Key key, int players) {
+      Integer position = positions.get(key);
+      if (position == null) {
+        return null;
+      }
+      long samples = mapped.getLong(position + 2 * Long.BYTES);
+      List<EstimatedEquity> equities = new ArrayList<>(players);
+      for (int player = 0; player < players; player++) {
+        int offset = position + 3 * Long.BYTES + player * 4 * Float.BYTES;
+        equities.add(
+            new EstimatedEquity(
+                mapped.getFloat(offset),
+                mapped.getFloat(offset + Float.BYTES),
+                mapped.getFloat(offset + 2 * Float.BYTES),
+                mapped.getFloat(offset + 3 * Float.BYTES),
+                samples));
+      }
+      return equities;
+    }
+
+    private void append(Key key, List<EstimatedEquity> equities) {
+      ByteBuffer record = ByteBuffer.allocate(RECORD_BYTES);
+      record.putLong(key.high).putLong(key.low).putLong(equities.get(0).getSamples());
+      for (EstimatedEquity equity : equities) {
+        record
+            .putFloat((float) equity.getWin())
+            .putFloat((float) equity.getTie())
+            .putFloat((float) equity.getEquity())
+            .putFloat((float) equity.getStandardError());
+      }
+      record.clear();
+      try {
+        while (record.hasRemaining()) {
+          fileSize += channel.write(record, fileSize);
+        }
+      } catch (IOException e) {
+        throw new UncheckedIOException("Could not append to the preflop equity cache", e);
+      }
+    }
+
+    @Override
+    public void close() throws IOException {
+      channel.close();
+    }
+  }
+
+  /* the canonical combos, three per long with the number of hands on top of the first */
+  private record Key(long high, long low) {
+
+    private static Key of(int[] combos) {
+      long high = combos.length;
+      long low = 0;
+      for (int combo = 0; combo < MAX_PLAYERS; combo++) {
+        int value = combo < combos.length ? combos[combo] : 0;
+        if (combo < KEY_COMBOS) {
+          high = high << COMBO_BITS | value;
+        } else {
+          low = low << COMBO_BITS | value;
+        }
+      }
+      return new Key(high, low);
+    }
+  }
+}
@@ -0,0 +1,140 @@
+package com.sap.ase.poker.model.equity;
+
+import com.sap.ase.poker.model.deck.CardMask;
+import com.sap.ase.poker.model.range.PreflopMatchups;
+import com.sap.ase.poker.model.rules.InvalidAmountOfCardsException;
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.List;
+
+/*
+ * Exact heads-up preflop equities of all 47,008 matchups that differ by more than the naming of
+ * the suits (see PreflopMatchups), so hands sharing a suit get their own entry instead of an
+ * average over the 169 x 169 hand classes. The table is generated offline by the tools'
+ * PreflopEquityTableGenerator and shipped as a resource of one long per matchup: the matchup, the
+ * runouts the first hand wins and the ones it ties, 21 bits each. The matchups are grouped by the
+ * cell of their hand classes, where at most seven share one, so a lookup costs the 24 suit
+ * permutations of the canonical key and a search among at most seven keys.
+ */
+public class PreflopEquityTable {
+
+  public static final int RUNOUTS = 1_712_304;
+
+  static final String RESOURCE = "/preflop/heads-up-equities.bin";
+  static final int MAGIC = 0x504b4851;
+  static final int VERSION = 1;
+
+  private static final int FIELD_BITS = 21;
+  private static final long FIELD_MASK = (1L << FIELD_BITS) - 1;
+
+  private static final int CELLS = PreflopMatchups.HAND_CLASSES * PreflopMatchups.HAND_CLASSES;
+
+  private final int[] cellStarts = new int[CELLS + 1];
+  private final int[] keys;
+  private final int[] wins;
+  private final int[] ties;
+
+  PreflopEquityTable(long[] entries) {
+    keys = new int[entries.length];
+    wins = new int[entries.length];
+    ties = new int[entries.length];
+    for (long entry : entries) {
+      cellStarts[cell((int) (entry >>> 2 * FIELD_BITS)) + 1]++;
+    }
+    for (int cell = 1; cell < cellStarts.length; cell++) {
+      cellStarts[cell] += cellStarts[cell - 1];
+    }
+    // sorted by key first, so the keys of every cell stay sorted for the binary search
+    int[] next = Arrays.copyOf(cellStarts, CELLS);
+    long[] sorted = entries.clone();
+    Arrays.sort(sorted);
+    for (long entry : sorted) {
+      int key = (int) (entry >>> 2 * FIELD_BITS);
+      int position = next[cell(key)]++;
+      keys[position] = key;
+      wins[position] = (int) (entry >>> FIELD_BITS & FIELD_MASK);
+      ties[position] = (int) (entry & FIELD_MASK);
+    }
+  }
+
+  /* the table shipped with the application, read once on first use */
+  public static PreflopEquityTable headsUp() {
+    return HeadsUp.TABLE;
+  }
+
+  /* the equities of the first and the second hand */
+  public List<Equity> calculate(long firstHoleCards, long secondHoleCards) {
+    if (CardMask.size(firstHoleCards) != 2
+        || CardMask.size(secondHoleCards) != 2
+        || (firstHoleCards & secondHoleCards) != 0) {
+      throw new InvalidAmountOfCardsException("two hole cards per hand without common ones needed");
+    }
+    int key = PreflopMatchups.canonicalKey(firstHoleCards, secondHoleCards);
+    int swappedKey = PreflopMatchups.canonicalKey(secondHoleCards, firstHoleCards);
+    int canonicalKey = Math.min(key, swappedKey);
+    int cell = cell(canonicalKey);
+    int position = Arrays.binarySearch(keys, cellStarts[cell], cellStarts[cell + 1], canonicalKey);
+    Equity first = equity(wins[position], ties[position]);
+    Equity second = equity(RUNOUTS - wins[position] - ties[position], ties[position]);
+    return swappedKey < key ? List.of(second, first) : List.of(first, second);
+  }
+
+  public static long entry(int key, long wins, long ties) {
+    return (long) key << 2 * FIELD_BITS | wins << FIELD_BITS | ties;
+  }
+
+  public static void write(long[] entries, OutputStream out) throws IOException {
+    DataOutputStream data = new DataOutputStream(out);
+    data.writeInt(MAGIC);
+    data.writeInt(VERSION);
+    data.writeInt(entries.length);
+    for (long entry : entries) {
+      data.writeLong(entry);
+    }
+    data.flush();
+  }
+
+  static PreflopEquityTable read(InputStream in) throws IOException {
+    DataInputStream data = new DataInputStream(new BufferedInputStream(in));
+    if (data.readInt() != MAGIC || data.readInt() != VERSION) {
+      throw new IllegalStateException("Not a valid preflop equity table");
+    }
+    long[] entries = new long[data.readInt()];
+    for (int entry = 0; entry < entries.length; entry++) {
+      entries[entry] = data.readLong();
+    }
+    return new PreflopEquityTable(entries);
+  }
+
+  private static int cell(int key) {
+    return PreflopMatchups.handClass(PreflopMatchups.firstHand(key)) * PreflopMatchups.HAND_CLASSES
+        + PreflopMatchups.handClass(PreflopMatchups.secondHand(key));
+  }
+
+  private static Equity equity(int wins, int ties) {
+    return new Equity(
+        (double) wins / RUNOUTS, (double) ties / RUNOUTS, (wins + ties / 2.0) / RUNOUTS);
+  }
+
+  private static final class HeadsUp {
+
+    private static final PreflopEquityTable TABLE = load();
+
+    private static PreflopEquityTable load() {
+      try (InputStream in = PreflopEquityTable.class.getResourceAsStream(RESOURCE)) {
+        if (in == null) {
+          throw new IllegalStateException("Missing preflop equity table " + RESOURCE);
+        }
+        return read(in);
+      } catch (IOException e) {
+        throw new UncheckedIOException("Could not read preflop equity table " + RESOURCE, e);
+      }
+    }
+  }
+}
@@ -0,0 +1,331 @@
+package com.sap.ase.poker.model.equity;
+
+import com.sap.ase.poker.model.evaluator.HandEvaluator;
+import com.sap.ase.poker.model.range.Combos;
+import com.sap.ase.poker.model.range.HandRange;
+import com.sap.ase.poker.model.range.InvalidRangeException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import org.springframework.stereotype.Component;
+
+/*
+ * Equity of a range against another, weighting every pair of hands that don't share a card by the
+ * product of their weights. A board scores every live hand once and sorts them by strength; a
+ * single sweep then sums for each hand of the first range the weight of the weaker and the equal
+ * hands of the second. Pairs sharing a card are taken out by card removal, with the weight swept
+ * so far on each card, instead of looping over all pairs. From the flop on every runout is
+ * enumerated, before it the boards are sampled within the budget as in MonteCarloEquityCalculator.
+ */
+@Component
+public class RangeEquityCalculator {
+
+  static final int BATCH_BOARDS = 64;
+  static final int ROUND_BATCHES = 16;
+  private static final int MAX_ENUMERATED_CARDS = 2;
+  private static final int ENUMERATED_BOARDS_PER_TASK = 8;
+  private static final int COMBO_BITS = 11;
+  private static final long COMBO_MASK = (1L << COMBO_BITS) - 1;
+  private static final double CONFIDENCE_Z = 1.96;
+
+  private final HandEvaluator handEvaluator;
+
+  public RangeEquityCalculator(HandEvaluator handEvaluator) {
+    this.handEvaluator = handEvaluator;
+  }
+
+  /* the equities of the first and the second range */
+  public List<EstimatedEquity> calculate(
+      HandRange first, HandRange second, long communityCards, SampleBudget budget) {
+    long start = System.nanoTime();
+    Matchup matchup =
+        new Matchup(
+            handEvaluator,
+            first.without(communityCards),
+            second.without(communityCards),
+            communityCards,
+            EquityCalculator.missingCards(communityCards),
+            budget.getSeed());
+    if (matchup.missingCards <= MAX_ENUMERATED_CARDS) {
+      long[] boards = matchup.runouts();
+      Sums sums = ForkJoinPool.commonPool().invoke(new Sweeps(matchup, boards, 0, boards.length));
+      return sums.toEquities(true);
+    }
+
+    // the sampled boards are rounded up to whole batches
+    long batches =
+        budget.getSamples() / BATCH_BOARDS + (budget.getSamples() % BATCH_BOARDS == 0 ? 0 : 1);
+    Sums sums = new Sums();
+    long batch = 0;
+    do {
+      long roundEnd = Math.min(batch + ROUND_BATCHES, batches);
+      sums.add(ForkJoinPool.commonPool().invoke(new Sweeps(matchup, null, batch, roundEnd)));
+      batch = roundEnd;
+    } while (batch < batches
+        && System.nanoTime() - start < budget.getNanos()
+        && CONFIDENCE_Z * sums.standardError() > budget.getMargin());
+    return sums.toEquities(false);
+  }
+
+  /* per board of the first range's wins, ties and all pairs, each weighted */
+  private static final class Sums {
+
+    private long boards;
+    private double wins;
+    private double ties;
+    private double pairs;
+    // of the first range's pot share and pairs per board, for the error of sampled boards
+    private double squaredShares;
+    private double squaredPairs;
+    private double sharesTimesPairs;
+
+    private void add(double boardWins, double boardTies, double boardPairs) {
+      double share = boardWins + boardTies / 2;
+      boards++;
+      wins += boardWins;
+      ties += boardTies;
+      pairs += boardPairs;
+      squaredShares += share * share;
+      squaredPairs += boardPairs * boardPairs;
+      sharesTimesPairs += share * boardPairs;
+    }
+
+    private Sums add(Sums other) {
+      boards += other.boards;
+      wins += other.wins;
+      ties += other.ties;
+      pairs += other.pairs;
+      squaredShares += other.squaredShares;
+      squaredPairs += other.squaredPairs;
+      sharesTimesPairs += other.sharesTimesPairs;
+      return this;
+    }
+
+    private double equity() {
+      return (wins + ties / 2) / pairs;
+    }
+
+    /* of the ratio of the summed shares and pairs, by the delta method */
+    private double standardError() {
+      if (boards < 2) {
+        return Double.POSITIVE_INFINITY;
+      }
+      double equity = equity();
+      double variance =
+          (squaredShares - 2 * equity * sharesTimesPairs + equity * equity * squaredPairs)
+              / (boards - 1);
+      return Math.sqrt(Math.max(variance, 0) / boards) / (pairs / boards);
+    }
+
+    private List<EstimatedEquity> toEquities(boolean exact) {
+      if (pairs == 0) {
+        throw new InvalidRangeException("The ranges have no hands without common cards");
+      }
+      double standardError = exact ? 0 : standardError();
+      return List.of(
+          new EstimatedEquity(wins / pairs, ties / pairs, equity(), standardError, boards),
+          new EstimatedEquity(
+              (pairs - wins - ties) / pairs, ties / pairs, 1 - equity(), standardError, boards));
+    }
+  }
+
+  private static final class Matchup {
+
+    private final HandEvaluator handEvaluator;
+    private final double[] firstWeights = new double[Combos.COMBOS];
+    private final double[] secondWeights = new double[Combos.COMBOS];
+    private final int[] liveCombos;
+    private final long communityCards;
+    private final long[] deck;
+    private final int missingCards;
+    private final long seed;
+
+    private Matchup(
+        HandEvaluator handEvaluator,
+        HandRange first,
+        HandRange second,
+        long communityCards,
+        int missingCards,
+        long seed) {
+      this.handEvaluator = handEvaluator;
+      int[] combos = new int[Combos.COMBOS];
+      int live = 0;
+      for (int combo = 0; combo < Combos.COMBOS; combo++) {
+        firstWeights[combo] = first.weight(combo);
+        secondWeights[combo] = second.weight(combo);
+        if (firstWeights[combo] > 0 || secondWeights[combo] > 0) {
+          combos[live++] = combo;
+        }
+      }
+      this.liveCombos = Arrays.copyOf(combos, live);
+      this.communityCards = communityCards;
+      this.deck = EquityCalculator.undealtCards(new long[0], communityCards);
+      this.missingCards = missingCards;
+      this.seed = seed;
+    }
+
+    private long[] runouts() {
+      if (missingCards == 0) {
+        return new long[] {communityCards};
+      }
+      if (missingCards == 1) {
+        return Arrays.stream(deck).map(card -> communityCards | card).toArray();
+      }
+      long[] boards = new long[deck.length * (deck.length - 1) / 2];
+      int board = 0;
+      for (int low = 0; low < deck.length; low++) {
+        for (int high = low + 1; high < deck.length; high++) {
+          boards[board++] = communityCards | deck[low] | deck[high];
+        }
+      }
+      return boards;
+    }
+
+    /* boards dealt from the front of an own copy of the deck, seeded as in Monte Carlo */
+    private Sums sample(long batch, Sweep sweep) {
+      SplittableRandom random = new SplittableRandom(new SplittableRandom(seed + batch).nextLong());
+      long[] cards = deck.clone();
+      Sums sums = new Sums();
+      for (int sample = 0; sample < BATCH_BOARDS; sample++) {
+        long board = communityCards;
+        for (int card = 0; card < missingCards; card++) {
+          int pick = card + random.nextInt(cards.length - card);
+          long picked = cards[pick];
+          cards[pick] = cards[card];
+          cards[card] = picked;
+          board |= picked;
+        }
+        sweep.sweep(board, sums);
+      }
+      return sums;
+    }
+  }
+
+  /* the scratch space of one task */
+  private static final class Sweep {
+
+    private final Matchup matchup;
+    private final long[] keys = new long[Combos.COMBOS];
+    private final double[] weaker = new double[Combos.COMBOS];
+    // weight of the second range per card bit, in total and among the hands swept so far
+    private final double[] cardWeights = new double[Long.SIZE];
+    private final double[] sweptCardWeights = new double[Long.SIZE];
+
+    private Sweep(Matchup matchup) {
+      this.matchup = matchup;
+    }
+
+    private void sweep(long board, Sums sums) {
+      HandEvaluator boardEvaluator = matchup.handEvaluator.withBoard(board);
+      double[] firstWeights = matchup.firstWeights;
+      double[] secondWeights = matchup.secondWeights;
+      Arrays.fill(cardWeights, 0);
+      Arrays.fill(sweptCardWeights, 0);
+      double secondWeight = 0;
+      int hands = 0;
+      for (int combo : matchup.liveCombos) {
+        long holeCards = Combos.holeCards(combo);
+        if ((holeCards & board) != 0) {
+          continue;
+        }
+        keys[hands++] = (long) boardEvaluator.evaluate(holeCards) << COMBO_BITS | combo;
+        secondWeight += secondWeights[combo];
+        cardWeights[low(holeCards)] += secondWeights[combo];
+        cardWeights[high(holeCards)] += secondWeights[combo];
+      }
+      Arrays.sort(keys, 0, hands);
+
+      double wins = 0;
+      double ties = 0;
+      double pairs = 0;
+      double swept = 0;
+      for (int from = 0, to; from < hands; from = to) {
+        long strength = keys[from] >>> COMBO_BITS;
+        to = from;
+        while (to < hands && keys[to] >>> COMBO_BITS == strength) {
+          long holeCards = Combos.holeCards((int) (keys[to] & COMBO_MASK));
+          weaker[to] =
+              swept - sweptCardWeights[low(holeCards)] - sweptCardWeights[high(holeCards)];
+          to++;
+        }
+        for (int hand = from; hand < to; hand++) {
+          int combo = (int) (keys[hand] & COMBO_MASK);
+          long holeCards = Combos.holeCards(combo);
+          swept += secondWeights[combo];
+          sweptCardWeights[low(holeCards)] += secondWeights[combo];
+          sweptCardWeights[high(holeCards)] += secondWeights[combo];
+        }
+        for (int hand = from; hand < to; hand++) {
+          int combo = (int) (keys[hand] & COMBO_MASK);
+          if (firstWeights[combo] == 0) {
+            continue;
+          }
+          long holeCards = Combos.holeCards(combo);
+          // the hand itself is on both of its cards, so it was taken out twice
+          double notStronger =
+              swept
+                  - sweptCardWeights[low(holeCards)]
+                  - sweptCardWeights[high(holeCards)]
+                  + secondWeights[combo];
+          double all =
+              secondWeight
+                  - cardWeights[low(holeCards)]
+                  - cardWeights[high(holeCards)]
+                  + secondWeights[combo];
+          wins += firstWeights[combo] * weaker[hand];
+          ties += firstWeights[combo] * (notStronger - weaker[hand]);
+          pairs += firstWeights[combo] * all;
+        }
+      }
+      sums.add(wins, ties, pairs);
+    }
+
+    private static int low(long holeCards) {
+      return Long.numberOfTrailingZeros(holeCards);
+    }
+
+    private static int high(long holeCards) {
+      return Long.SIZE - 1 - Long.numberOfLeadingZeros(holeCards);
+    }
+  }
+
+  /* enumerated boards, or batches of sampled boards without them */
+  private static final class Sweeps extends RecursiveTask<Sums> {
+
+    private static final long serialVersionUID = 1L;
+
+    private final transient Matchup matchup;
+    private final long[] boards;
+    private final long from;
+    private final long to;
+
+    private Sweeps(Matchup matchup, long[] boards, long from, long to) {
+      this.matchup = matchup;
+      this.boards = boards;
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    protected Sums compute() {
+      if (boards == null && to - from == 1) {
+        return matchup.sample(from, new Sweep(matchup));
+      }
+      if (boards != null && to - from <= ENUMERATED_BOARDS_PER_TASK) {
+        Sweep sweep = new Sweep(matchup);
+        Sums sums = new Sums();
+        for (int board = (int) from; board < to; board++) {
+          sweep.sweep(boards[board], sums);
+        }
+        return sums;
+      }
+      long middle = (from + to) >>> 1;
+      Sweeps upper = new Sweeps(matchup, boards, middle, to);
+      upper.fork();
+      Sums lower = new Sweeps(matchup, boards, from, middle).compute();
+      return lower.add(upper.join());
+    }
+  }
+}
@@ -0,0 +1,61 @@
+package com.sap.ase.poker.model.equity;
+
+import java.time.Duration;
+
+/*
+ * How long a Monte Carlo simulation may run: a number of samples or a wall-clock duration,
+ * optionally ending early once every equity is known to within a margin at 95 % confidence. The
+ * seed makes a simulation over a sample count reproducible.
+ */
+public class SampleBudget {
+
+  public static final long DEFAULT_SEED = 0x5DEECE66DL;
+
+  private final long samples;
+  private final long nanos;
+  private final double margin;
+  private final long seed;
+
+  private SampleBudget(long samples, long nanos, double margin, long seed) {
+    this.samples = samples;
+    this.nanos = nanos;
+    this.margin = margin;
+    this.seed = seed;
+  }
+
+  public static SampleBudget samples(long samples) {
+    if (samples <= 0) {
+      throw new IllegalArgumentException("At least one sample needed");
+    }
+    return new SampleBudget(samples, Long.MAX_VALUE, 0, DEFAULT_SEED);
+  }
+
+  public static SampleBudget duration(Duration duration) {
+    return new SampleBudget(Long.MAX_VALUE, duration.toNanos(), 0, DEFAULT_SEED);
+  }
+
+  /* the half width of the 95 % confidence interval of every equity, e.g. 0.005 */
+  public SampleBudget untilMargin(double margin) {
+    return new SampleBudget(samples, nanos, margin, seed);
+  }
+
+  public SampleBudget withSeed(long seed) {
+    return new SampleBudget(samples, nanos, margin, seed);
+  }
+
+  public long getSamples() {
+    return samples;
+  }
+
+  public long getNanos() {
+    return nanos;
+  }
+
+  public double getMargin() {
+    return margin;
+  }
+
+  public long getSeed() {
+    return seed;
+  }
+}
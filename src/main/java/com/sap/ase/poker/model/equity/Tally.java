@@ -0,0 +1,93 @@
+package com.sap.ase.poker.model.equity;
+
+import com.sap.ase.poker.model.evaluator.HandEvaluator;
+import java.util.ArrayList;
+import java.util.List;
+
+/* wins, ties and pot shares of the players over the runouts one task has scored */
+class Tally {
+
+  long runouts;
+  final long[] wins;
+  final long[] ties;
+  final double[] shares;
+  // of the pot share of every runout, for the standard error of sampled equities
+  final double[] squaredShares;
+  private final int[] strengths;
+
+  Tally(int players) {
+    wins = new long[players];
+    ties = new long[players];
+    shares = new double[players];
+    squaredShares = new double[players];
+    strengths = new int[players];
+  }
+
+  /* the board is prepared once per runout for consecutive players sharing an evaluator */
+  void score(long[] holeCards, HandEvaluator[] evaluators, long board) {
+    int best = 0;
+    int winners = 0;
+    HandEvaluator boardEvaluator = null;
+    for (int player = 0; player < holeCards.length; player++) {
+      if (player == 0 || evaluators[player] != evaluators[player - 1]) {
+        boardEvaluator = evaluators[player].withBoard(board);
+      }
+      strengths[player] = boardEvaluator.evaluate(holeCards[player]);
+      if (strengths[player] > best) {
+        best = strengths[player];
+        winners = 1;
+      } else if (strengths[player] == best) {
+        winners++;
+      }
+    }
+    runouts++;
+    for (int player = 0; player < holeCards.length; player++) {
+      if (strengths[player] != best) {
+        continue;
+      }
+      if (winners == 1) {
+        wins[player]++;
+        squaredShares[player]++;
+      } else {
+        ties[player]++;
+        shares[player] += 1.0 / winners;
+        squaredShares[player] += 1.0 / ((double) winners * winners);
+      }
+    }
+  }
+
+  Tally add(Tally other) {
+    runouts += other.runouts;
+    for (int player = 0; player < wins.length; player++) {
+      wins[player] += other.wins[player];
+      ties[player] += other.ties[player];
+      shares[player] += other.shares[player];
+      squaredShares[player] += other.squaredShares[player];
+    }
+    return this;
+  }
+
+  double equity(int player) {
+    return (wins[player] + shares[player]) / runouts;
+  }
+
+  /* of the mean pot share, i.e. of the equity as estimated from these runouts */
+  double standardError(int player) {
+    if (runouts < 2) {
+      return Double.POSITIVE_INFINITY;
+    }
+    double mean = equity(player);
+    double variance = (squaredShares[player] / runouts - mean * mean) * runouts / (runouts - 1);
+    return Math.sqrt(Math.max(variance, 0) / runouts);
+  }
+
+  List<Equity> toEquities() {
+    List<Equity> equities = new ArrayList<>(wins.length);
+    for (int player = 0; player < wins.length; player++) {
+      equities.add(
+          new Equity(
+              (double) wins[player] / runouts, (double) ties[player] / runouts, equity(player)));
+    }
+    return equities;
+  }
+}
@@ -0,0 +1,27 @@
+package com.sap.ase.poker.model.evaluator;
+
+/*
+ * Evaluates many card masks at once, for simulations that score hundreds of millions of hands.
+ * strengths[i] receives the hand strength of cards[i], see HandEvaluator.
+ */
+public interface BatchHandEvaluator {
+
+  String VECTOR_MODULE = "jdk.incubator.vector";
+
+  void evaluate(long[] cards, int[] strengths);
+
+  static BatchHandEvaluator create() {
+    return create(ModuleLayer.boot());
+  }
+
+  /*
+   * The vector code needs the incubator module (--add-modules jdk.incubator.vector) at runtime and
+   * a CPU with vectors of at least four ints.
+   */
+  static BatchHandEvaluator create(ModuleLayer layer) {
+    if (layer.findModule(VECTOR_MODULE).isPresent() && VectorBatchHandEvaluator.isSupported()) {
+      return new VectorBatchHandEvaluator();
+    }
+    return new ScalarBatchHandEvaluator();
+  }
+}
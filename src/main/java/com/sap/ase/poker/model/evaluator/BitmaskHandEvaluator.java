@@ -0,0 +1,157 @@
+package com.sap.ase.poker.model.evaluator;
+
+import static com.sap.ase.poker.model.evaluator.HandStrength.*;
+
+import com.sap.ase.poker.model.deck.CardMask;
+
+/*
+ * Evaluates a card mask with bit operations on the four suit lanes: no exceptions, no allocation.
+ * Like the model.hands classes the ace only plays high, so A-2-3-4-5 is not a straight.
+ */
+public class BitmaskHandEvaluator implements HandEvaluator {
+
+  private static final int ACE = 12;
+
+  @Override
+  public int evaluate(long cards) {
+    return evaluate(
+        CardMask.ranks(cards, 0),
+        CardMask.ranks(cards, 1),
+        CardMask.ranks(cards, 2),
+        CardMask.ranks(cards, 3));
+  }
+
+  @Override
+  public HandEvaluator withBoard(long board) {
+    int first = CardMask.ranks(board, 0);
+    int second = CardMask.ranks(board, 1);
+    int third = CardMask.ranks(board, 2);
+    int fourth = CardMask.ranks(board, 3);
+    return holeCards ->
+        evaluate(
+            first | CardMask.ranks(holeCards, 0),
+            second | CardMask.ranks(holeCards, 1),
+            third | CardMask.ranks(holeCards, 2),
+            fourth | CardMask.ranks(holeCards, 3));
+  }
+
+  static int evaluate(int first, int second, int third, int fourth) {
+    int flushRanks = flushRanks(first, second, third, fourth);
+    if (flushRanks != 0) {
+      int straightFlushTop = straightTop(flushRanks);
+      if (straightFlushTop == ACE) {
+        return straight(ROYAL_FLUSH, straightFlushTop);
+      }
+      if (straightFlushTop >= 0) {
+        return straight(STRAIGHT_FLUSH, straightFlushTop);
+      }
+    }
+
+    // add the four lanes bit-sliced, giving the number of cards per rank as a 3-bit counter
+    int sumLow = first ^ second;
+    int carryLow = first & second;
+    int sumHigh = third ^ fourth;
+    int carryHigh = third & fourth;
+    int countBit0 = sumLow ^ sumHigh;
+    int carry = sumLow & sumHigh;
+    int countBit1 = carryLow ^ carryHigh ^ carry;
+
+    int ranks = first | second | third | fourth;
+    int quads = first & second & third & fourth;
+    int trips = countBit1 & countBit0;
+    int pairs = countBit1 & ~countBit0;
+
+    if (quads != 0) {
+      int quad = highest(quads);
+      return top(repeat(FOUR_OF_A_KIND, quad, 4), ranks & ~bit(quad), 1);
+    }
+    if (trips != 0) {
+      int trip = highest(trips);
+      int pairRanks = (pairs | trips) & ~bit(trip);
+      if (pairRanks != 0) {
+        int pair = highest(pairRanks);
+        return repeat(repeat(FULL_HOUSE, trip, 3), pair, 2);
+      }
+    }
+    if (flushRanks != 0) {
+      return top(FLUSH, flushRanks, HAND_SIZE);
+    }
+    int straightTop = straightTop(ranks);
+    if (straightTop >= 0) {
+      return straight(STRAIGHT, straightTop);
+    }
+    if (trips != 0) {
+      int trip = highest(trips);
+      return top(repeat(THREE_OF_A_KIND, trip, 3), ranks & ~bit(trip), 2);
+    }
+    if (pairs != 0) {
+      int highPair = highest(pairs);
+      int lowPairs = pairs & ~bit(highPair);
+      if (lowPairs != 0) {
+        int lowPair = highest(lowPairs);
+        int kickers = ranks & ~bit(highPair) & ~bit(lowPair);
+        return top(repeat(repeat(TWO_PAIRS, highPair, 2), lowPair, 2), kickers, 1);
+      }
+      return top(repeat(PAIR, highPair, 2), ranks & ~bit(highPair), 3);
+    }
+    return top(HIGH_CARD, ranks, HAND_SIZE);
+  }
+
+  private static int flushRanks(int first, int second, int third, int fourth) {
+    if (Integer.bitCount(first) >= HAND_SIZE) {
+      return first;
+    }
+    if (Integer.bitCount(second) >= HAND_SIZE) {
+      return second;
+    }
+    if (Integer.bitCount(third) >= HAND_SIZE) {
+      return third;
+    }
+    if (Integer.bitCount(fourth) >= HAND_SIZE) {
+      return fourth;
+    }
+    return 0;
+  }
+
+  /* rank index of the highest card of the best straight within the ranks, or -1 */
+  static int straightTop(int ranks) {
+    int straights = ranks & (ranks >>> 1) & (ranks >>> 2) & (ranks >>> 3) & (ranks >>> 4);
+    return straights == 0 ? -1 : 31 - Integer.numberOfLeadingZeros(straights) + 4;
+  }
+
+  private static int straight(int category, int top) {
+    int result = category;
+    for (int rank = top; rank > top - HAND_SIZE; rank--) {
+      result = repeat(result, rank, 1);
+    }
+    return result;
+  }
+
+  private static int repeat(int strength, int rank, int times) {
+    int result = strength;
+    for (int i = 0; i < times; i++) {
+      result = (result << 4) | (rank + 1);
+    }
+    return result;
+  }
+
+  /* appends the ranks of the highest count cards to the strength, highest first */
+  private static int top(int strength, int ranks, int count) {
+    int result = strength;
+    int rest = ranks;
+    for (int i = 0; i < count; i++) {
+      int rank = highest(rest);
+      result = repeat(result, rank, 1);
+      rest &= ~bit(rank);
+    }
+    return result;
+  }
+
+  private static int highest(int ranks) {
+    return 31 - Integer.numberOfLeadingZeros(ranks);
+  }
+
+  private static int bit(int rank) {
+    return 1 << rank;
+  }
+}
@@ -0,0 +1,110 @@
+package com.sap.ase.poker.model.evaluator;
+
+import com.sap.ase.poker.model.deck.CardMask;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/*
+ * A bounded, lock-free cache in front of another evaluator. The 52 card bits of a mask are
+ * scrambled bijectively: the low bits pick a set of two slots, the remaining bits are stored as a
+ * tag next to the strength in a single long, so readers and writers never see half an entry. New
+ * entries go into the first slot of their set and push its previous entry into the second one.
+ * Sweeps over a board bypass the cache: they evaluate masks that rarely come up again and would
+ * only push out the entries that do, while the delegate preprocesses the board.
+ */
+public class CachingHandEvaluator implements HandEvaluator {
+
+  public static final int MIN_CAPACITY = 1 << 14;
+
+  private static final int RANKS = 13;
+  private static final long KEY_MASK = (1L << (4 * RANKS)) - 1;
+  private static final int STRENGTH_BITS = 24;
+  private static final long STRENGTH_MASK = (1L << STRENGTH_BITS) - 1;
+  private static final long FIRST_MULTIPLIER = 0x9E3779B97F4A7C15L;
+  private static final long SECOND_MULTIPLIER = 0xC2B2AE3D27D4EB4FL;
+
+  private final HandEvaluator delegate;
+  private final AtomicLongArray entries;
+  private final int setBits;
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+
+  /* the capacity is rounded up to a power of two of at least MIN_CAPACITY entries */
+  public CachingHandEvaluator(HandEvaluator delegate, int capacity) {
+    this.delegate = delegate;
+    int slotBits = 32 - Integer.numberOfLeadingZeros(Math.max(capacity, MIN_CAPACITY) - 1);
+    this.setBits = slotBits - 1;
+    this.entries = new AtomicLongArray(1 << slotBits);
+  }
+
+  @Override
+  public int evaluate(long cards) {
+    long key = scramble(compress(cards));
+    int first = ((int) key & ((1 << setBits) - 1)) << 1;
+    // tags start at 1, so they never match an empty slot
+    long tag = (key >>> setBits) + 1;
+    long firstEntry = entries.getOpaque(first);
+    if (firstEntry >>> STRENGTH_BITS == tag) {
+      hits.increment();
+      return (int) (firstEntry & STRENGTH_MASK);
+    }
+    long secondEntry = entries.getOpaque(first + 1);
+    if (secondEntry >>> STRENGTH_BITS == tag) {
+      hits.increment();
+      return (int) (secondEntry & STRENGTH_MASK);
+    }
+
+    misses.increment();
+    int strength = delegate.evaluate(cards);
+    if ((strength & ~STRENGTH_MASK) == 0) {
+      if (secondEntry != 0) {
+        evictions.increment();
+      }
+      entries.setOpaque(first + 1, firstEntry);
+      entries.setOpaque(first, tag << STRENGTH_BITS | strength);
+    }
+    return strength;
+  }
+
+  @Override
+  public HandEvaluator withBoard(long board) {
+    return delegate.withBoard(board);
+  }
+
+  @Override
+  public long handCards(long cards, int strength) {
+    return delegate.handCards(cards, strength);
+  }
+
+  public int getCapacity() {
+    return entries.length();
+  }
+
+  public long getHits() {
+    return hits.sum();
+  }
+
+  public long getMisses() {
+    return misses.sum();
+  }
+
+  public long getEvictions() {
+    return evictions.sum();
+  }
+
+  private static long compress(long cards) {
+    return CardMask.ranks(cards, 0)
+        | (long) CardMask.ranks(cards, 1) << RANKS
+        | (long) CardMask.ranks(cards, 2) << (2 * RANKS)
+        | (long) CardMask.ranks(cards, 3) << (3 * RANKS);
+  }
+
+  /* odd multipliers and xor-shifts are both invertible modulo 2^52, so no two masks collide */
+  private static long scramble(long key) {
+    long result = (key * FIRST_MULTIPLIER) & KEY_MASK;
+    result ^= result >>> (2 * RANKS);
+    result = (result * SECOND_MULTIPLIER) & KEY_MASK;
+    return result ^ (result >>> (2 * RANKS));
+  }
+}
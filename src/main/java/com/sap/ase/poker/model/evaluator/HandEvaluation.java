@@ -0,0 +1,61 @@
+package com.sap.ase.poker.model.evaluator;
+
+import com.sap.ase.poker.model.deck.Card;
+import com.sap.ase.poker.model.deck.CardMask;
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+ * The result of evaluating a set of cards: just the strength and the card mask it was computed
+ * from. The five cards making up the hand are only derived when they are asked for, by picking a
+ * card of each rank in the strength, from the flush suit if the hand needs one.
+ */
+public class HandEvaluation {
+
+  private static final long RANK_COLUMN = 0x0001000100010001L;
+  private static final int SUITS = 4;
+
+  private final int strength;
+  private final long cards;
+
+  public HandEvaluation(int strength, long cards) {
+    this.strength = strength;
+    this.cards = cards;
+  }
+
+  public int getStrength() {
+    return strength;
+  }
+
+  public int getCategory() {
+    return HandStrength.category(strength);
+  }
+
+  public List<Card> getCards() {
+    long available = isSuited() ? flushCards(cards) : cards;
+    List<Card> hand = new ArrayList<>(HandStrength.HAND_SIZE);
+    for (int position = 0; position < HandStrength.HAND_SIZE; position++) {
+      int rankIndex = HandStrength.rank(strength, position) - 1;
+      long card = Long.lowestOneBit(available & (RANK_COLUMN << rankIndex));
+      available &= ~card;
+      hand.add(CardMask.card(Long.numberOfTrailingZeros(card)));
+    }
+    return hand;
+  }
+
+  private boolean isSuited() {
+    int category = getCategory();
+    return category == HandStrength.FLUSH
+        || category == HandStrength.STRAIGHT_FLUSH
+        || category == HandStrength.ROYAL_FLUSH;
+  }
+
+  private static long flushCards(long cards) {
+    for (int suit = 0; suit < SUITS; suit++) {
+      if (Integer.bitCount(CardMask.ranks(cards, suit)) >= HandStrength.HAND_SIZE) {
+        return cards & ((long) CardMask.RANK_BITS << (suit * CardMask.LANE_WIDTH));
+      }
+    }
+    throw new IllegalStateException("No five cards of a suit for a suited hand");
+  }
+}
@@ -0,0 +1,25 @@
+package com.sap.ase.poker.model.evaluator;
+
+/*
+ * Evaluates a card mask (see CardMask) of five to seven distinct cards to a hand strength
+ * (see HandStrength). A higher strength beats a lower one, equal strengths split the pot.
+ */
+public interface HandEvaluator {
+  int evaluate(long cards);
+
+  /*
+   * An evaluator of hole cards against a fixed board, for scoring many holdings on the same board.
+   * Evaluators override this to preprocess the board only once.
+   */
+  default HandEvaluator withBoard(long board) {
+    return holeCards -> evaluate(board | holeCards);
+  }
+
+  /*
+   * The cards the five cards of a hand with that strength are picked from. Any five of the cards
+   * may be combined in hold'em, variants like Omaha narrow them down to the combination used.
+   */
+  default long handCards(long cards, int strength) {
+    return cards;
+  }
+}
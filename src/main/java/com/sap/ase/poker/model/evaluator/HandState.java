@@ -0,0 +1,37 @@
+package com.sap.ase.poker.model.evaluator;
+
+/*
+ * The cards one player can use so far, with their strength evaluated once per street as the
+ * community cards are dealt. Queries in between and at the showdown just read the strength, which
+ * stays 0 until five cards are known.
+ */
+public class HandState {
+
+  private final HandEvaluator handEvaluator;
+  private long cards;
+  private int strength;
+
+  public HandState(HandEvaluator handEvaluator, long holeCards) {
+    this.handEvaluator = handEvaluator;
+    deal(holeCards);
+  }
+
+  public void deal(long communityCards) {
+    cards |= communityCards;
+    if (Long.bitCount(cards) >= HandStrength.HAND_SIZE) {
+      strength = handEvaluator.evaluate(cards);
+    }
+  }
+
+  public long getCards() {
+    return cards;
+  }
+
+  public int getStrength() {
+    return strength;
+  }
+
+  public HandEvaluation toEvaluation() {
+    return new HandEvaluation(strength, handEvaluator.handCards(cards, strength));
+  }
+}
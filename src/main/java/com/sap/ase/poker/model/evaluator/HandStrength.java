@@ -0,0 +1,61 @@
+package com.sap.ase.poker.model.evaluator;
+
+/*
+ * A hand strength packs the hand category (the getRank() value of the matching Hand class) into
+ * bits 20-23, followed by the ranks (Kind.getRank()) of the five hand cards in order of
+ * significance, one nibble each. E.g. a full house of sevens over kings is 7|6|6|6|12|12.
+ */
+public final class HandStrength {
+
+  public static final int HIGH_CARD = 1;
+  public static final int PAIR = 2;
+  public static final int TWO_PAIRS = 3;
+  public static final int THREE_OF_A_KIND = 4;
+  public static final int STRAIGHT = 5;
+  public static final int FLUSH = 6;
+  public static final int FULL_HOUSE = 7;
+  public static final int FOUR_OF_A_KIND = 8;
+  public static final int STRAIGHT_FLUSH = 9;
+  public static final int ROYAL_FLUSH = 10;
+
+  public static final int HAND_SIZE = 5;
+  public static final int MAX_CARDS = 7;
+  private static final int CATEGORY_SHIFT = 20;
+
+  private static final String[] CATEGORY_NAMES = {
+    "",
+    "High Card",
+    "Pair",
+    "Two Pairs",
+    "Three of a Kind",
+    "Straight",
+    "Flush",
+    "Full House",
+    "Four of a Kind",
+    "Straight Flush",
+    "Royal Flush"
+  };
+
+  private HandStrength() {}
+
+  public static int category(int strength) {
+    return strength >>> CATEGORY_SHIFT;
+  }
+
+  /* the label shown to players, e.g. "Full House" */
+  public static String categoryName(int strength) {
+    return CATEGORY_NAMES[category(strength)];
+  }
+
+  public static int rank(int strength, int position) {
+    return (strength >>> (4 * (HAND_SIZE - 1 - position))) & 0xF;
+  }
+
+  public static int of(int category, int... ranks) {
+    int strength = category;
+    for (int rank : ranks) {
+      strength = (strength << 4) | rank;
+    }
+    return strength;
+  }
+}
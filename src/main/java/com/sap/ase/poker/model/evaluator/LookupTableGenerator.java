@@ -0,0 +1,191 @@
+package com.sap.ase.poker.model.evaluator;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/*
+ * Generates the state-transition table of the LookupTableHandEvaluator. A state is the sorted set
+ * of the cards seen so far, where the suit of a card is dropped as soon as its suit can no longer
+ * make a flush within seven cards. That collapses the states to a few hundred thousand rows of 52
+ * entries: the row of the next state, or the hand strength once the seventh card is added.
+ */
+public class LookupTableGenerator {
+
+  static final int MAGIC = 0x504b4c54;
+  static final int VERSION = 1;
+  static final int HEADER_BYTES = 16;
+  static final int COLUMNS = 52;
+  static final int HAND_CARDS = 7;
+
+  private static final int NO_SUIT = 0;
+
+  private final Map<Long, Integer> stateIds = new HashMap<>();
+  private long[] states = new long[1 << 16];
+  private int stateCount = 0;
+
+  public void generate(Path path) {
+    try {
+      Path directory = path.toAbsolutePath().getParent();
+      Files.createDirectories(directory);
+      Path temporary = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+      try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.WRITE)) {
+        writeTable(channel);
+      }
+      Files.move(
+          temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Could not generate lookup table " + path, e);
+    }
+  }
+
+  private void writeTable(FileChannel channel) throws IOException {
+    channel.position(HEADER_BYTES);
+    ByteBuffer row = ByteBuffer.allocate(COLUMNS * Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+    int[] cards = new int[HAND_CARDS];
+
+    idOf(0L);
+    for (int id = 0; id < stateCount; id++) {
+      long state = states[id];
+      int size = decode(state, cards);
+      row.clear();
+      for (int column = 0; column < COLUMNS; column++) {
+        row.putInt(transition(cards, size, column / 13 + 1, column % 13 + 1));
+      }
+      row.flip();
+      while (row.hasRemaining()) {
+        channel.write(row);
+      }
+    }
+
+    channel.write(header(stateCount), 0);
+  }
+
+  static ByteBuffer header(int stateCount) {
+    ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+    return header.putInt(MAGIC).putInt(VERSION).putInt(stateCount).putInt(COLUMNS).flip();
+  }
+
+  static long fileSize(int stateCount) {
+    return HEADER_BYTES + (long) stateCount * COLUMNS * Integer.BYTES;
+  }
+
+  private int transition(int[] cards, int size, int suit, int rank) {
+    int sameRank = 0;
+    for (int i = 0; i < size; i++) {
+      if (rank(cards[i]) == rank) {
+        if (suit(cards[i]) == suit) {
+          return 0;
+        }
+        sameRank++;
+      }
+    }
+    if (sameRank == 4) {
+      return 0;
+    }
+
+    int[] next = new int[size + 1];
+    System.arraycopy(cards, 0, next, 0, size);
+    next[size] = card(rank, suit);
+    dropSuitsWithoutFlushChance(next);
+
+    if (next.length == HAND_CARDS) {
+      return strength(next);
+    }
+    return idOf(encode(next)) * COLUMNS;
+  }
+
+  private static void dropSuitsWithoutFlushChance(int[] cards) {
+    int[] suitCounts = new int[5];
+    for (int card : cards) {
+      suitCounts[suit(card)]++;
+    }
+    int cardsToCome = HAND_CARDS - cards.length;
+    for (int i = 0; i < cards.length; i++) {
+      if (suitCounts[suit(cards[i])] + cardsToCome < HandStrength.HAND_SIZE) {
+        cards[i] = card(rank(cards[i]), NO_SUIT);
+      }
+    }
+  }
+
+  /* cards without a suit cannot be part of a flush, so they are spread evenly over the lanes */
+  static int strength(int[] cards) {
+    int[] lanes = new int[4];
+    int[] laneSizes = new int[4];
+    for (int card : cards) {
+      if (suit(card) != NO_SUIT) {
+        lanes[suit(card) - 1] |= 1 << (rank(card) - 1);
+        laneSizes[suit(card) - 1] = HAND_CARDS;
+      }
+    }
+    for (int card : cards) {
+      if (suit(card) == NO_SUIT) {
+        int bit = 1 << (rank(card) - 1);
+        int lane = -1;
+        for (int i = 0; i < lanes.length; i++) {
+          if ((lanes[i] & bit) == 0 && (lane < 0 || laneSizes[i] < laneSizes[lane])) {
+            lane = i;
+          }
+        }
+        lanes[lane] |= bit;
+        laneSizes[lane]++;
+      }
+    }
+    return BitmaskHandEvaluator.evaluate(lanes[0], lanes[1], lanes[2], lanes[3]);
+  }
+
+  private int idOf(long state) {
+    Integer id = stateIds.get(state);
+    if (id != null) {
+      return id;
+    }
+    if (stateCount == states.length) {
+      long[] grown = new long[states.length * 2];
+      System.arraycopy(states, 0, grown, 0, stateCount);
+      states = grown;
+    }
+    states[stateCount] = state;
+    stateIds.put(state, stateCount);
+    return stateCount++;
+  }
+
+  /* packs the cards, highest first, one byte each; an empty byte ends the state */
+  private static long encode(int[] cards) {
+    int[] sorted = cards.clone();
+    Arrays.sort(sorted);
+    long state = 0L;
+    for (int i = sorted.length - 1; i >= 0; i--) {
+      state = (state << 8) | sorted[i];
+    }
+    return state << (8 * (HAND_CARDS - sorted.length));
+  }
+
+  private static int decode(long state, int[] cards) {
+    int size = 0;
+    for (int shift = 48; shift >= 0 && ((state >>> shift) & 0xFF) != 0; shift -= 8) {
+      cards[size++] = (int) (state >>> shift) & 0xFF;
+    }
+    return size;
+  }
+
+  private static int card(int rank, int suit) {
+    return rank << 3 | suit;
+  }
+
+  private static int rank(int card) {
+    return card >>> 3;
+  }
+
+  private static int suit(int card) {
+    return card & 7;
+  }
+}
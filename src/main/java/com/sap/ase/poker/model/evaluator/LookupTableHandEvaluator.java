@@ -0,0 +1,82 @@
+package com.sap.ase.poker.model.evaluator;
+
+import com.sap.ase.poker.model.deck.CardMask;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/*
+ * Evaluates seven cards with one table lookup per card. The table file is generated once by the
+ * LookupTableGenerator and mapped read-only, so all JVMs on a host share it via the page cache.
+ */
+public class LookupTableHandEvaluator implements HandEvaluator {
+
+  private static final int HOLE_CARDS = 2;
+
+  private final IntBuffer table;
+  private final BitmaskHandEvaluator partialHandEvaluator = new BitmaskHandEvaluator();
+
+  public LookupTableHandEvaluator(Path path) {
+    this.table = map(path);
+  }
+
+  @Override
+  public int evaluate(long cards) {
+    // the table only holds the strengths of complete seven card hands
+    if (CardMask.size(cards) != LookupTableGenerator.HAND_CARDS) {
+      return partialHandEvaluator.evaluate(cards);
+    }
+    return walk(0, cards);
+  }
+
+  /* a complete board is walked once, every holding then only takes its two lookups from there */
+  @Override
+  public HandEvaluator withBoard(long board) {
+    if (CardMask.size(board) != LookupTableGenerator.HAND_CARDS - HOLE_CARDS) {
+      return HandEvaluator.super.withBoard(board);
+    }
+    int boardEntry = walk(0, board);
+    return holeCards ->
+        CardMask.size(holeCards) == HOLE_CARDS
+            ? walk(boardEntry, holeCards)
+            : evaluate(board | holeCards);
+  }
+
+  private int walk(int start, long cards) {
+    int entry = start;
+    for (long rest = cards; rest != 0; rest &= rest - 1) {
+      int bit = Long.numberOfTrailingZeros(rest);
+      entry = table.get(entry + (bit >>> 4) * 13 + (bit & 15));
+    }
+    return entry;
+  }
+
+  private static IntBuffer map(Path path) {
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      if (channel.size() < LookupTableGenerator.HEADER_BYTES) {
+        throw new IllegalStateException("Not a valid lookup table: " + path);
+      }
+      MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+      buffer.order(ByteOrder.LITTLE_ENDIAN);
+      int states = buffer.getInt(8);
+      if (!buffer
+              .slice(0, LookupTableGenerator.HEADER_BYTES)
+              .equals(LookupTableGenerator.header(states))
+          || channel.size() != LookupTableGenerator.fileSize(states)) {
+        throw new IllegalStateException("Not a valid lookup table: " + path);
+      }
+      return buffer
+          .position(LookupTableGenerator.HEADER_BYTES)
+          .slice()
+          .order(ByteOrder.LITTLE_ENDIAN)
+          .asIntBuffer();
+    } catch (IOException e) {
+      throw new UncheckedIOException("Could not map lookup table " + path, e);
+    }
+  }
+}
@@ -0,0 +1,215 @@
+package com.sap.ase.poker.model.evaluator;
+
+import static com.sap.ase.poker.model.evaluator.HandStrength.*;
+
+import com.sap.ase.poker.model.deck.CardMask;
+import java.util.Arrays;
+
+/*
+ * Evaluates Omaha hands: the best five cards made of exactly two hole cards and three board cards.
+ * The board is analyzed once and shared by all players at the table, so per player only the six
+ * hole card pairs are looked at, and none of them is combined with all ten board triples:
+ * - with three board cards of different ranks the best triple follows from the ranks alone: the
+ *   highest straight window the pair completes, otherwise the board ranks matching the pair and
+ *   the highest kickers. The same holds for flushes within the suit of a suited pair.
+ * - only full houses and four of a kind need a paired board triple, those few triples are tried
+ *   one by one unless a straight flush was found already.
+ */
+public class OmahaHandEvaluator {
+
+  private static final int ACE = 12;
+  private static final int STRAIGHT_WINDOW = 0x1F;
+  private static final int BOARD_CARDS_USED = 3;
+  private static final int[] NO_WINDOWS = {};
+  private static final int ABOVE_FOUR_OF_A_KIND =
+      HandStrength.of(FOUR_OF_A_KIND + 1, 0, 0, 0, 0, 0);
+
+  /* 0 until three board cards are known */
+  public int evaluate(long holeCards, long board) {
+    return withBoard(board).evaluate(holeCards);
+  }
+
+  /*
+   * An evaluator of hole cards against the board, whose handCards are the best five of them. The
+   * board is analyzed on every call, so callers scoring several holdings or a whole runout keep it.
+   */
+  public HandEvaluator withBoard(long board) {
+    return new Board(board);
+  }
+
+  /*
+   * Evaluates all known cards of one player, who was dealt the hole cards, e.g. for a HandState.
+   * Its withBoard analyzes the board of one runout, e.g. once per runout when enumerating equities.
+   */
+  public HandEvaluator forHoleCards(long holeCards) {
+    return new HandEvaluator() {
+      @Override
+      public int evaluate(long cards) {
+        return OmahaHandEvaluator.this.evaluate(holeCards, cards & ~holeCards);
+      }
+
+      @Override
+      public HandEvaluator withBoard(long board) {
+        return OmahaHandEvaluator.this.withBoard(board);
+      }
+
+      @Override
+      public long handCards(long cards, int strength) {
+        return bestCards(holeCards, cards & ~holeCards, strength);
+      }
+    };
+  }
+
+  /* the five cards of a hand of that strength, or all the cards if none of them has it */
+  public long bestCards(long holeCards, long board, int strength) {
+    return new Board(board).bestCards(holeCards, strength);
+  }
+
+  private static int evaluateFive(long cards) {
+    return BitmaskHandEvaluator.evaluate(
+        CardMask.ranks(cards, 0),
+        CardMask.ranks(cards, 1),
+        CardMask.ranks(cards, 2),
+        CardMask.ranks(cards, 3));
+  }
+
+  /* the ranks of the board, per suit, and the three-card subsets with a repeated rank */
+  private static final class Board implements HandEvaluator {
+
+    private final long cards;
+    private final int ranks;
+    private final int[] suitRanks = new int[4];
+    private final int[] straightWindows;
+    private final int[][] suitStraightWindows = new int[4][];
+    private final long[] triples = new long[10];
+    private final long[] pairedTriples = new long[10];
+    private int tripleCount;
+    private int pairedTripleCount;
+
+    private Board(long cards) {
+      this.cards = cards;
+      ranks = CardMask.ranks(cards);
+      straightWindows = straightWindows(ranks);
+      for (int suit = 0; suit < suitRanks.length; suit++) {
+        suitRanks[suit] = CardMask.ranks(cards, suit);
+        suitStraightWindows[suit] = straightWindows(suitRanks[suit]);
+      }
+      for (long first = cards; first != 0; first &= first - 1) {
+        for (long second = first & (first - 1); second != 0; second &= second - 1) {
+          for (long third = second & (second - 1); third != 0; third &= third - 1) {
+            add(Long.lowestOneBit(first) | Long.lowestOneBit(second) | Long.lowestOneBit(third));
+          }
+        }
+      }
+    }
+
+    private void add(long triple) {
+      triples[tripleCount++] = triple;
+      if (Integer.bitCount(CardMask.ranks(triple)) < BOARD_CARDS_USED) {
+        pairedTriples[pairedTripleCount++] = triple;
+      }
+    }
+
+    /* the straight windows with at least three of the ranks, highest first */
+    private static int[] straightWindows(int ranks) {
+      if (Integer.bitCount(ranks) < BOARD_CARDS_USED) {
+        return NO_WINDOWS;
+      }
+      int[] windows = new int[ACE - 3];
+      int count = 0;
+      for (int top = ACE; top >= 4; top--) {
+        int window = STRAIGHT_WINDOW << (top - 4);
+        if (Integer.bitCount(window & ranks) >= BOARD_CARDS_USED) {
+          windows[count++] = window;
+        }
+      }
+      return Arrays.copyOf(windows, count);
+    }
+
+    @Override
+    public long handCards(long cards, int strength) {
+      return bestCards(cards & ~this.cards, strength);
+    }
+
+    private long bestCards(long holeCards, int strength) {
+      for (int triple = 0; triple < tripleCount; triple++) {
+        for (long first = holeCards; first != 0; first &= first - 1) {
+          for (long second = first & (first - 1); second != 0; second &= second - 1) {
+            long hand = Long.lowestOneBit(first) | Long.lowestOneBit(second) | triples[triple];
+            if (evaluateFive(hand) == strength) {
+              return hand;
+            }
+          }
+        }
+      }
+      return holeCards | cards;
+    }
+
+    @Override
+    public int evaluate(long holeCards) {
+      if (tripleCount == 0) {
+        return 0;
+      }
+      int best = 0;
+      for (long first = holeCards; first != 0; first &= first - 1) {
+        for (long second = first & (first - 1); second != 0; second &= second - 1) {
+          best = Math.max(best, evaluate(Long.lowestOneBit(first), Long.lowestOneBit(second)));
+        }
+      }
+      if (best < ABOVE_FOUR_OF_A_KIND) {
+        for (int triple = 0; triple < pairedTripleCount; triple++) {
+          for (long first = holeCards; first != 0; first &= first - 1) {
+            for (long second = first & (first - 1); second != 0; second &= second - 1) {
+              long pair = Long.lowestOneBit(first) | Long.lowestOneBit(second);
+              best = Math.max(best, evaluateFive(pair | pairedTriples[triple]));
+            }
+          }
+        }
+      }
+      return best;
+    }
+
+    /*
+     * The pair with the best triple of distinct board ranks. The triple goes into one lane and each
+     * hole card into a lane of its own, which counts the ranks right and never makes a flush.
+     */
+    private int evaluate(long firstCard, long secondCard) {
+      int high = CardMask.ranks(firstCard);
+      int low = CardMask.ranks(secondCard);
+      int best = 0;
+      int suit = Long.numberOfTrailingZeros(firstCard) / CardMask.LANE_WIDTH;
+      if (suit == Long.numberOfTrailingZeros(secondCard) / CardMask.LANE_WIDTH
+          && Integer.bitCount(suitRanks[suit]) >= BOARD_CARDS_USED) {
+        int triple = bestTriple(high | low, suitRanks[suit], suitStraightWindows[suit]);
+        best = BitmaskHandEvaluator.evaluate(triple | high | low, 0, 0, 0);
+      }
+      if (Integer.bitCount(ranks) >= BOARD_CARDS_USED) {
+        int triple = bestTriple(high | low, ranks, straightWindows);
+        best = Math.max(best, BitmaskHandEvaluator.evaluate(triple, high, low, 0));
+      }
+      return best;
+    }
+
+    /*
+     * The three of the board ranks that make the best hand with the hole ranks: a straight if
+     * there is one, otherwise the ranks pairing the hole ranks and the highest kickers.
+     */
+    private static int bestTriple(int holeRanks, int boardRanks, int[] windows) {
+      if (Integer.bitCount(holeRanks) == 2) {
+        for (int window : windows) {
+          if ((window & holeRanks) == holeRanks && (window & ~holeRanks & ~boardRanks) == 0) {
+            return window & ~holeRanks;
+          }
+        }
+      }
+      int triple = boardRanks & holeRanks;
+      int kickers = boardRanks & ~holeRanks;
+      while (Integer.bitCount(triple) < BOARD_CARDS_USED) {
+        int kicker = Integer.highestOneBit(kickers);
+        triple |= kicker;
+        kickers &= ~kicker;
+      }
+      return triple;
+    }
+  }
+}
@@ -0,0 +1,222 @@
+package com.sap.ase.poker.model.evaluator;
+
+import com.sap.ase.poker.model.deck.CardMask;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/*
+ * Evaluates five cards in O(1) with tables of about 80 KB, and six or seven cards as the best of
+ * their five-card subsets. Five cards map to one of the 7462 hand classes: flushes and hands
+ * without paired ranks are looked up by their rank bits, all other hands by a perfect hash of the
+ * product of one prime per rank.
+ */
+public class PerfectHashHandEvaluator implements HandEvaluator {
+
+  private static final int[] PRIMES = {2, 3, 5, 7, 11, 13, 17, 19, 23, 29, 31, 37, 41};
+  private static final int RANK_MASKS = 1 << 13;
+  private static final int SLOTS = 1 << 13;
+  private static final int BUCKETS = 1 << 10;
+  private static final long MULTIPLIER = 0x9E3779B97F4A7C15L;
+
+  private final short[] flushes = new short[RANK_MASKS];
+  private final short[] distinctRanks = new short[RANK_MASKS];
+  private final short[] pairedRanks = new short[SLOTS];
+  private final short[] displacements = new short[BUCKETS];
+  private final int[] strengths;
+  private int seed;
+
+  public PerfectHashHandEvaluator() {
+    List<int[]> flushHands = new ArrayList<>();
+    List<int[]> distinctHands = new ArrayList<>();
+    List<int[]> pairedHands = new ArrayList<>();
+    collectRankPatterns(new int[13], 0, 0, flushHands, distinctHands, pairedHands);
+
+    List<int[]> allHands = new ArrayList<>(flushHands);
+    allHands.addAll(distinctHands);
+    allHands.addAll(pairedHands);
+    strengths = sortedDistinctStrengths(allHands);
+    for (int[] hand : flushHands) {
+      flushes[hand[0]] = (short) classOf(hand[1]);
+    }
+    for (int[] hand : distinctHands) {
+      distinctRanks[hand[0]] = (short) classOf(hand[1]);
+    }
+    buildPerfectHash(pairedHands);
+  }
+
+  @Override
+  public int evaluate(long cards) {
+    int best = 0;
+    int size = CardMask.size(cards);
+    if (size == HandStrength.HAND_SIZE) {
+      best = evaluateFive(cards);
+    } else if (size == HandStrength.HAND_SIZE + 1) {
+      for (long rest = cards; rest != 0; rest &= rest - 1) {
+        best = Math.max(best, evaluateFive(cards & ~Long.lowestOneBit(rest)));
+      }
+    } else {
+      for (long first = cards; first != 0; first &= first - 1) {
+        long withoutFirst = cards & ~Long.lowestOneBit(first);
+        for (long second = first & (first - 1); second != 0; second &= second - 1) {
+          best = Math.max(best, evaluateFive(withoutFirst & ~Long.lowestOneBit(second)));
+        }
+      }
+    }
+    return strengths[best];
+  }
+
+  private int evaluateFive(long cards) {
+    int first = CardMask.ranks(cards, 0);
+    int second = CardMask.ranks(cards, 1);
+    int third = CardMask.ranks(cards, 2);
+    int fourth = CardMask.ranks(cards, 3);
+    int ranks = first | second | third | fourth;
+    if (Integer.bitCount(ranks) == HandStrength.HAND_SIZE) {
+      boolean flush = ranks == first || ranks == second || ranks == third || ranks == fourth;
+      return flush ? flushes[ranks] : distinctRanks[ranks];
+    }
+    int product = 1;
+    for (long rest = cards; rest != 0; rest &= rest - 1) {
+      product *= PRIMES[Long.numberOfTrailingZeros(rest) & 15];
+    }
+    return pairedRanks[slot(product)];
+  }
+
+  int tableBytes() {
+    return (flushes.length + distinctRanks.length + pairedRanks.length + displacements.length)
+            * Short.BYTES
+        + strengths.length * Integer.BYTES;
+  }
+
+  private int slot(int product) {
+    long hash = (product + seed) * MULTIPLIER;
+    return ((int) (hash >>> 41) & (SLOTS - 1)) ^ displacements[(int) (hash >>> 54)];
+  }
+
+  /*
+   * Enumerates every multiset of five ranks as {rank bits or prime product, strength}. The n-th
+   * card of a rank goes into the n-th suit lane, so only the flush patterns form a flush.
+   */
+  private static void collectRankPatterns(
+      int[] counts,
+      int rank,
+      int cards,
+      List<int[]> flushHands,
+      List<int[]> distinctHands,
+      List<int[]> pairedHands) {
+    if (cards == HandStrength.HAND_SIZE) {
+      int[] lanes = new int[4];
+      int ranks = 0;
+      int product = 1;
+      for (int r = 0; r < counts.length; r++) {
+        for (int copy = 0; copy < counts[r]; copy++) {
+          lanes[copy] |= 1 << r;
+          product *= PRIMES[r];
+        }
+        ranks |= counts[r] > 0 ? 1 << r : 0;
+      }
+      if (Integer.bitCount(ranks) == HandStrength.HAND_SIZE) {
+        flushHands.add(new int[] {ranks, BitmaskHandEvaluator.evaluate(ranks, 0, 0, 0)});
+        int withoutLowest = ranks & (ranks - 1);
+        int lowest = ranks & -ranks;
+        int strength = BitmaskHandEvaluator.evaluate(withoutLowest, lowest, 0, 0);
+        distinctHands.add(new int[] {ranks, strength});
+      } else {
+        pairedHands.add(
+            new int[] {
+              product, BitmaskHandEvaluator.evaluate(lanes[0], lanes[1], lanes[2], lanes[3])
+            });
+      }
+      return;
+    }
+    if (rank == counts.length) {
+      return;
+    }
+    for (int count = 0; count <= 4 && cards + count <= HandStrength.HAND_SIZE; count++) {
+      counts[rank] = count;
+      collectRankPatterns(counts, rank + 1, cards + count, flushHands, distinctHands, pairedHands);
+    }
+    counts[rank] = 0;
+  }
+
+  /* class 0 is unused, so the classes of real hands are all positive */
+  private static int[] sortedDistinctStrengths(List<int[]> hands) {
+    int[] strengths = hands.stream().mapToInt(hand -> hand[1]).distinct().sorted().toArray();
+    int[] result = new int[strengths.length + 1];
+    System.arraycopy(strengths, 0, result, 1, strengths.length);
+    return result;
+  }
+
+  private int classOf(int strength) {
+    return Arrays.binarySearch(strengths, 1, strengths.length, strength);
+  }
+
+  /*
+   * Hash and displace: the keys are spread over buckets, and every bucket (largest first) gets the
+   * displacement that moves all its keys to free slots. Seeds are tried until that works out.
+   */
+  private void buildPerfectHash(List<int[]> pairedHands) {
+    for (seed = 0; ; seed++) {
+      if (tryPerfectHash(pairedHands)) {
+        return;
+      }
+    }
+  }
+
+  private boolean tryPerfectHash(List<int[]> pairedHands) {
+    List<List<int[]>> buckets = new ArrayList<>();
+    for (int i = 0; i < BUCKETS; i++) {
+      buckets.add(new ArrayList<>());
+    }
+    for (int[] hand : pairedHands) {
+      buckets.get((int) (((hand[0] + seed) * MULTIPLIER) >>> 54)).add(hand);
+    }
+    buckets.sort((a, b) -> b.size() - a.size());
+
+    boolean[] used = new boolean[SLOTS];
+    Arrays.fill(displacements, (short) 0);
+    for (List<int[]> bucket : buckets) {
+      if (bucket.isEmpty()) {
+        break;
+      }
+      int bucketIndex = (int) (((bucket.get(0)[0] + seed) * MULTIPLIER) >>> 54);
+      int displacement = findDisplacement(bucket, used);
+      if (displacement < 0) {
+        return false;
+      }
+      displacements[bucketIndex] = (short) displacement;
+      for (int[] hand : bucket) {
+        int slot = slot(hand[0]);
+        used[slot] = true;
+        pairedRanks[slot] = (short) classOf(hand[1]);
+      }
+    }
+    return true;
+  }
+
+  private int findDisplacement(List<int[]> bucket, boolean[] used) {
+    int[] bases = new int[bucket.size()];
+    for (int i = 0; i < bases.length; i++) {
+      bases[i] = (int) (((bucket.get(i)[0] + seed) * MULTIPLIER) >>> 41) & (SLOTS - 1);
+    }
+    if (Arrays.stream(bases).distinct().count() < bases.length) {
+      return -1;
+    }
+    for (int displacement = 0; displacement < SLOTS; displacement++) {
+      if (fitsInFreeSlots(bases, displacement, used)) {
+        return displacement;
+      }
+    }
+    return -1;
+  }
+
+  private static boolean fitsInFreeSlots(int[] bases, int displacement, boolean[] used) {
+    for (int base : bases) {
+      if (used[base ^ displacement]) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
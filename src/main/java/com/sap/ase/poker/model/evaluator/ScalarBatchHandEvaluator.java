@@ -0,0 +1,13 @@
+package com.sap.ase.poker.model.evaluator;
+
+public class ScalarBatchHandEvaluator implements BatchHandEvaluator {
+
+  private final BitmaskHandEvaluator handEvaluator = new BitmaskHandEvaluator();
+
+  @Override
+  public void evaluate(long[] cards, int[] strengths) {
+    for (int i = 0; i < cards.length; i++) {
+      strengths[i] = handEvaluator.evaluate(cards[i]);
+    }
+  }
+}
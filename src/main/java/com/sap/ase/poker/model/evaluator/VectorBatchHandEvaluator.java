@@ -0,0 +1,325 @@
+package com.sap.ase.poker.model.evaluator;
+
+import static com.sap.ase.poker.model.evaluator.HandStrength.*;
+
+import com.sap.ase.poker.model.deck.CardMask;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/*
+ * The BitmaskHandEvaluator without branches, one hand per vector lane: every category is computed
+ * for all lanes and the best one is blended in. The incubator API of Java 17 has no bit count or
+ * leading zeros lane operation: the flush is found while the lanes are filled, kicker ranks are
+ * looked up in a table, the highest rank is the exponent of a float conversion. Gathering lanes
+ * from the table with the vector API crashes C2 of Java 17.
+ *
+ * The hands are evaluated a chunk at a time in steps that pass their results on in Lanes. C2 stops
+ * inlining within a method at its node limit, and a vector handed to an operation that is not
+ * inlined is boxed on the heap, so no step may grow too big and no vector may cross a step.
+ */
+public class VectorBatchHandEvaluator implements BatchHandEvaluator {
+
+  static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_PREFERRED;
+
+  private static final int MIN_LANES = 4;
+  private static final int CHUNK = 1024;
+  private static final int CATEGORY_SHIFT = 20;
+  private static final int ACE = 13;
+  private static final int FLOAT_MANTISSA_BITS = 23;
+  private static final int FLOAT_EXPONENT_BIAS = 127;
+  private static final IntVector ONE = IntVector.broadcast(SPECIES, 1);
+
+  /* Kind.getRank() of the up to five highest ranks of a rank mask, a nibble each, highest first */
+  private static final int[] TOP_RANKS = new int[CardMask.RANK_BITS + 1];
+
+  /* distinct classes, so the call site stays megamorphic and C2 does not inline the steps */
+  private static final Step[] STEPS = {
+    VectorBatchHandEvaluator::countRanks,
+    VectorBatchHandEvaluator::findPairs,
+    VectorBatchHandEvaluator::findSets,
+    VectorBatchHandEvaluator::lookUpKickers,
+    VectorBatchHandEvaluator::evaluateLowHands,
+    VectorBatchHandEvaluator::evaluateStraights,
+    VectorBatchHandEvaluator::evaluateHighHands,
+    VectorBatchHandEvaluator::evaluateStraightFlushes
+  };
+
+  static {
+    for (int ranks = 0; ranks <= CardMask.RANK_BITS; ranks++) {
+      int top = 0;
+      int rest = ranks;
+      for (int i = 0; i < HAND_SIZE; i++) {
+        int rank = 32 - Integer.numberOfLeadingZeros(rest);
+        top = (top << 4) | rank;
+        rest &= ~Integer.highestOneBit(rest);
+      }
+      TOP_RANKS[ranks] = top;
+    }
+  }
+
+  private final ScalarBatchHandEvaluator tailEvaluator = new ScalarBatchHandEvaluator();
+
+  /* without SIMD registers the preferred species is too narrow to beat the scalar code */
+  static boolean isSupported() {
+    return SPECIES.length() >= MIN_LANES;
+  }
+
+  @Override
+  public void evaluate(long[] cards, int[] strengths) {
+    Lanes lanes = new Lanes();
+    int bound = SPECIES.loopBound(cards.length);
+    for (int offset = 0; offset < bound; offset += CHUNK) {
+      int length = Math.min(CHUNK, bound - offset);
+      for (int i = 0; i < length; i++) {
+        long hand = cards[offset + i];
+        int first = CardMask.ranks(hand, 0);
+        int second = CardMask.ranks(hand, 1);
+        int third = CardMask.ranks(hand, 2);
+        int fourth = CardMask.ranks(hand, 3);
+        lanes.first[i] = first;
+        lanes.second[i] = second;
+        lanes.third[i] = third;
+        lanes.fourth[i] = fourth;
+        lanes.flushRanks[i] =
+            flushRanks(first) | flushRanks(second) | flushRanks(third) | flushRanks(fourth);
+      }
+      for (Step step : STEPS) {
+        step.apply(lanes, length);
+      }
+      System.arraycopy(lanes.strengths, 0, strengths, offset, length);
+    }
+    if (bound < cards.length) {
+      long[] tail = new long[cards.length - bound];
+      int[] tailStrengths = new int[tail.length];
+      System.arraycopy(cards, bound, tail, 0, tail.length);
+      tailEvaluator.evaluate(tail, tailStrengths);
+      System.arraycopy(tailStrengths, 0, strengths, bound, tail.length);
+    }
+  }
+
+  /* the ranks if there are five or more of them, else zero; without a branch */
+  private static int flushRanks(int ranks) {
+    return ranks & ((HAND_SIZE - 1 - Integer.bitCount(ranks)) >> 31);
+  }
+
+  private interface Step {
+    void apply(Lanes lanes, int length);
+  }
+
+  /*
+   * Rank masks are bit masks as in the BitmaskHandEvaluator, ranks are Kind.getRank() values.
+   * The kicker arrays hold rank masks until lookUpKickers replaces them by their TOP_RANKS.
+   */
+  private static final class Lanes {
+    final int[] first = new int[CHUNK];
+    final int[] second = new int[CHUNK];
+    final int[] third = new int[CHUNK];
+    final int[] fourth = new int[CHUNK];
+    final int[] ranks = new int[CHUNK];
+    final int[] pairs = new int[CHUNK];
+    final int[] trips = new int[CHUNK];
+    final int[] quads = new int[CHUNK];
+    final int[] flushRanks = new int[CHUNK];
+    final int[] highCards = new int[CHUNK];
+    final int[] flushCards = new int[CHUNK];
+    final int[] highPair = new int[CHUNK];
+    final int[] lowPair = new int[CHUNK];
+    final int[] trip = new int[CHUNK];
+    final int[] fullHousePair = new int[CHUNK];
+    final int[] quad = new int[CHUNK];
+    final int[] pairKickers = new int[CHUNK];
+    final int[] twoPairsKickers = new int[CHUNK];
+    final int[] tripKickers = new int[CHUNK];
+    final int[] quadKickers = new int[CHUNK];
+    final int[] strengths = new int[CHUNK];
+  }
+
+  private static void countRanks(Lanes lanes, int length) {
+    for (int i = 0; i < length; i += SPECIES.length()) {
+      IntVector first = IntVector.fromArray(SPECIES, lanes.first, i);
+      IntVector second = IntVector.fromArray(SPECIES, lanes.second, i);
+      IntVector third = IntVector.fromArray(SPECIES, lanes.third, i);
+      IntVector fourth = IntVector.fromArray(SPECIES, lanes.fourth, i);
+
+      // the same bit-sliced count of cards per rank as in the BitmaskHandEvaluator
+      IntVector sumLow = first.lanewise(VectorOperators.XOR, second);
+      IntVector carryLow = first.and(second);
+      IntVector sumHigh = third.lanewise(VectorOperators.XOR, fourth);
+      IntVector carryHigh = third.and(fourth);
+      IntVector countBit0 = sumLow.lanewise(VectorOperators.XOR, sumHigh);
+      IntVector countBit1 =
+          carryLow
+              .lanewise(VectorOperators.XOR, carryHigh)
+              .lanewise(VectorOperators.XOR, sumLow.and(sumHigh));
+
+      first.or(second).or(third).or(fourth).intoArray(lanes.ranks, i);
+      first.and(second).and(third).and(fourth).intoArray(lanes.quads, i);
+      countBit1.and(countBit0).intoArray(lanes.trips, i);
+      countBit1.and(countBit0.not()).intoArray(lanes.pairs, i);
+    }
+  }
+
+  private static void findPairs(Lanes lanes, int length) {
+    for (int i = 0; i < length; i += SPECIES.length()) {
+      IntVector ranks = IntVector.fromArray(SPECIES, lanes.ranks, i);
+      IntVector pairs = IntVector.fromArray(SPECIES, lanes.pairs, i);
+
+      IntVector highPair = highest(pairs);
+      IntVector lowPair = highest(without(pairs, highPair));
+      IntVector pairKickers = without(ranks, highPair);
+
+      highPair.intoArray(lanes.highPair, i);
+      lowPair.intoArray(lanes.lowPair, i);
+      pairKickers.intoArray(lanes.pairKickers, i);
+      without(pairKickers, lowPair).intoArray(lanes.twoPairsKickers, i);
+    }
+  }
+
+  private static void findSets(Lanes lanes, int length) {
+    for (int i = 0; i < length; i += SPECIES.length()) {
+      IntVector ranks = IntVector.fromArray(SPECIES, lanes.ranks, i);
+      IntVector pairs = IntVector.fromArray(SPECIES, lanes.pairs, i);
+      IntVector trips = IntVector.fromArray(SPECIES, lanes.trips, i);
+      IntVector quads = IntVector.fromArray(SPECIES, lanes.quads, i);
+
+      IntVector trip = highest(trips);
+      IntVector quad = highest(quads);
+
+      trip.intoArray(lanes.trip, i);
+      highest(without(pairs.or(trips), trip)).intoArray(lanes.fullHousePair, i);
+      quad.intoArray(lanes.quad, i);
+      without(ranks, trip).intoArray(lanes.tripKickers, i);
+      without(ranks, quad).intoArray(lanes.quadKickers, i);
+    }
+  }
+
+  private static void lookUpKickers(Lanes lanes, int length) {
+    for (int i = 0; i < length; i++) {
+      lanes.highCards[i] = TOP_RANKS[lanes.ranks[i]];
+      lanes.flushCards[i] = TOP_RANKS[lanes.flushRanks[i]];
+      lanes.pairKickers[i] = TOP_RANKS[lanes.pairKickers[i]];
+      lanes.twoPairsKickers[i] = TOP_RANKS[lanes.twoPairsKickers[i]];
+      lanes.tripKickers[i] = TOP_RANKS[lanes.tripKickers[i]];
+      lanes.quadKickers[i] = TOP_RANKS[lanes.quadKickers[i]];
+    }
+  }
+
+  /*
+   * The evaluate steps go from the weakest category to the strongest, every one that is made
+   * replaces the previous.
+   */
+  private static void evaluateLowHands(Lanes lanes, int length) {
+    for (int i = 0; i < length; i += SPECIES.length()) {
+      IntVector highPair = IntVector.fromArray(SPECIES, lanes.highPair, i);
+      IntVector lowPair = IntVector.fromArray(SPECIES, lanes.lowPair, i);
+      IntVector trip = IntVector.fromArray(SPECIES, lanes.trip, i);
+
+      IntVector strength = category(HIGH_CARD).or(top(lanes.highCards, i, HAND_SIZE));
+      strength =
+          strength.blend(
+              category(PAIR).or(highPair.mul(0x11000)).or(top(lanes.pairKickers, i, 3)),
+              isSet(highPair));
+      strength =
+          strength.blend(
+              category(TWO_PAIRS)
+                  .or(highPair.mul(0x11000))
+                  .or(lowPair.mul(0x110))
+                  .or(top(lanes.twoPairsKickers, i, 1)),
+              isSet(lowPair));
+      strength =
+          strength.blend(
+              category(THREE_OF_A_KIND).or(trip.mul(0x11100)).or(top(lanes.tripKickers, i, 2)),
+              isSet(trip));
+      strength.intoArray(lanes.strengths, i);
+    }
+  }
+
+  private static void evaluateStraights(Lanes lanes, int length) {
+    for (int i = 0; i < length; i += SPECIES.length()) {
+      IntVector strength = IntVector.fromArray(SPECIES, lanes.strengths, i);
+      IntVector straightTop = highest(straights(IntVector.fromArray(SPECIES, lanes.ranks, i)));
+      strength
+          .blend(straight(STRAIGHT, straightTop), isSet(straightTop))
+          .intoArray(lanes.strengths, i);
+    }
+  }
+
+  private static void evaluateHighHands(Lanes lanes, int length) {
+    for (int i = 0; i < length; i += SPECIES.length()) {
+      IntVector strength = IntVector.fromArray(SPECIES, lanes.strengths, i);
+      IntVector flushRanks = IntVector.fromArray(SPECIES, lanes.flushRanks, i);
+      IntVector trip = IntVector.fromArray(SPECIES, lanes.trip, i);
+      IntVector fullHousePair = IntVector.fromArray(SPECIES, lanes.fullHousePair, i);
+      IntVector quad = IntVector.fromArray(SPECIES, lanes.quad, i);
+
+      strength =
+          strength.blend(
+              category(FLUSH).or(top(lanes.flushCards, i, HAND_SIZE)), isSet(flushRanks));
+      strength =
+          strength.blend(
+              category(FULL_HOUSE).or(trip.mul(0x11100)).or(fullHousePair.mul(0x11)),
+              isSet(trip).and(isSet(fullHousePair)));
+      strength =
+          strength.blend(
+              category(FOUR_OF_A_KIND).or(quad.mul(0x11110)).or(top(lanes.quadKickers, i, 1)),
+              isSet(quad));
+      strength.intoArray(lanes.strengths, i);
+    }
+  }
+
+  private static void evaluateStraightFlushes(Lanes lanes, int length) {
+    for (int i = 0; i < length; i += SPECIES.length()) {
+      IntVector strength = IntVector.fromArray(SPECIES, lanes.strengths, i);
+      IntVector top = highest(straights(IntVector.fromArray(SPECIES, lanes.flushRanks, i)));
+      IntVector straightFlush =
+          straight(STRAIGHT_FLUSH, top)
+              .blend(straight(ROYAL_FLUSH, top), top.compare(VectorOperators.EQ, ACE));
+      strength.blend(straightFlush, isSet(top)).intoArray(lanes.strengths, i);
+    }
+  }
+
+  /* bits i where the ranks i-4..i are all set */
+  private static IntVector straights(IntVector ranks) {
+    return ranks
+        .and(ranks.lanewise(VectorOperators.LSHL, 1))
+        .and(ranks.lanewise(VectorOperators.LSHL, 2))
+        .and(ranks.lanewise(VectorOperators.LSHL, 3))
+        .and(ranks.lanewise(VectorOperators.LSHL, 4));
+  }
+
+  /* the nibbles of five ranks in a row, from the top one down */
+  private static IntVector straight(int category, IntVector top) {
+    return category(category).or(top.mul(0x11111).sub(0x01234));
+  }
+
+  /* the ranks of the highest count cards from looked up TOP_RANKS, highest first */
+  private static IntVector top(int[] topRanks, int offset, int count) {
+    return IntVector.fromArray(SPECIES, topRanks, offset)
+        .lanewise(VectorOperators.LSHR, 4 * (HAND_SIZE - count));
+  }
+
+  /* the highest rank of the rank mask, zero for none: the exponent of the mask as a float */
+  private static IntVector highest(IntVector ranks) {
+    return ranks
+        .convert(VectorOperators.I2F, 0)
+        .reinterpretAsInts()
+        .lanewise(VectorOperators.LSHR, FLOAT_MANTISSA_BITS)
+        .sub(FLOAT_EXPONENT_BIAS - 1)
+        .max(0);
+  }
+
+  /* clears the bit of the rank, a rank of zero only clears bit 31 that is never set */
+  private static IntVector without(IntVector ranks, IntVector rank) {
+    return ranks.and(ONE.lanewise(VectorOperators.LSHL, rank.sub(1)).not());
+  }
+
+  private static VectorMask<Integer> isSet(IntVector bits) {
+    return bits.compare(VectorOperators.NE, 0);
+  }
+
+  private static IntVector category(int category) {
+    return IntVector.broadcast(SPECIES, category << CATEGORY_SHIFT);
+  }
+}
@@ -15,6 +15,10 @@ public class Flush extends Hand {
     super(cards);
   }
 
+  Flush(List<Card> relevantCards, List<Card> kickerCards) {
+    super(relevantCards, kickerCards);
+  }
+
   @Override
   public int getRank() {
     return FLUSH_RANK;
@@ -33,9 +37,4 @@ public class Flush extends Hand {
 
     throw new InvalidHandException("No Flush Found");
   }
-
-  @Override
-  protected int compareRelevantCards(Hand hand) {
-    return new HighCard(cards).compareRelevantCards(new HighCard(hand.getRelevantCards()));
-  }
 }
@@ -16,6 +16,10 @@ public class FourOfAKind extends Hand {
     super(cards);
   }
 
+  FourOfAKind(List<Card> relevantCards, List<Card> kickerCards) {
+    super(relevantCards, kickerCards);
+  }
+
   @Override
   public int getRank() {
     return FOUR_OF_A_KIND_RANK;
@@ -26,13 +30,6 @@ public class FourOfAKind extends Hand {
     return findFourOfAKind(cards);
   }
 
-  @Override
-  protected int compareRelevantCards(Hand hand) {
-    int rank = this.getRelevantCards().get(0).getKind().getRank();
-    int otherRank = hand.getRelevantCards().get(0).getKind().getRank();
-    return rank - otherRank;
-  }
-
   private List<Card> findFourOfAKind(List<Card> cards) {
     Map<Kind, List<Card>> kindGroups = cards.stream().collect(Collectors.groupingBy(Card::getKind));
     Optional<List<Card>> quadruple =
@@ -17,6 +17,10 @@ public class FullHouse extends Hand {
     super(cards);
   }
 
+  FullHouse(List<Card> relevantCards, List<Card> kickerCards) {
+    super(relevantCards, kickerCards);
+  }
+
   @Override
   public int getRank() {
     return FULL_HOUSE_RANK;
@@ -27,14 +31,6 @@ public class FullHouse extends Hand {
     return findFullHouse(cards);
   }
 
-  @Override
-  protected int compareRelevantCards(Hand hand) {
-    ThreeOfAKind threeOfAKind = new ThreeOfAKind(cards);
-    ThreeOfAKind otherThreeOfAKind = new ThreeOfAKind(hand.getRelevantCards());
-
-    return threeOfAKind.compareTo(otherThreeOfAKind);
-  }
-
   private List<Card> findFullHouse(List<Card> cards) {
     Map<Kind, List<Card>> kindGroups = cards.stream().collect(Collectors.groupingBy(Card::getKind));
     List<Card> threeOfAKind =
@@ -12,6 +12,7 @@ public abstract class Hand implements Comparable<Hand> {
   protected List<Card> cards = new ArrayList<>();
   protected List<Card> relevantCards = new ArrayList<>();
   protected List<Card> kickerCards = new ArrayList<>();
+  private final long value;
 
   public Hand(List<Card> cards) {
     List<Card> relevantCards = findRelevantCards(cards);
@@ -21,6 +22,16 @@ public abstract class Hand implements Comparable<Hand> {
     this.cards.addAll(kickerCards);
     this.relevantCards.addAll(relevantCards);
     this.kickerCards.addAll(kickerCards);
+    this.value = HandValue.of(getRank(), relevantCards, kickerCards);
+  }
+
+  /* for cards that were already split into relevant and kicker cards, see HandClassifier */
+  protected Hand(List<Card> relevantCards, List<Card> kickerCards) {
+    this.cards.addAll(relevantCards);
+    this.cards.addAll(kickerCards);
+    this.relevantCards.addAll(relevantCards);
+    this.kickerCards.addAll(kickerCards);
+    this.value = HandValue.of(getRank(), relevantCards, kickerCards);
   }
 
   public abstract int getRank();
@@ -48,21 +59,13 @@ public abstract class Hand implements Comparable<Hand> {
     this.cards = cards;
   }
 
+  public long getValue() {
+    return value;
+  }
+
   @Override
   public int compareTo(Hand hand) {
-    int rankComparisonResult = this.getRank() - hand.getRank();
-
-    if (rankComparisonResult != 0) {
-      return rankComparisonResult;
-    } else {
-      int relevantCardsComparisonResult = compareRelevantCards(hand);
-
-      if (relevantCardsComparisonResult != 0) {
-        return relevantCardsComparisonResult;
-      } else {
-        return compareKickerCards(hand);
-      }
-    }
+    return Long.compare(this.value, hand.value);
   }
 
   protected List<Card> sortCardsDescending(List<Card> cards) {
@@ -75,31 +78,6 @@ public abstract class Hand implements Comparable<Hand> {
     return cards.stream().sorted(Card::compareTo).collect(Collectors.toList());
   }
 
-  protected abstract int compareRelevantCards(Hand hand);
-
-  private int compareKickerCards(Hand hand) {
-
-    List<Card> kickerCardsOfHand1 = this.getKickerCards();
-    List<Card> kickerCardsOfHand2 = hand.getKickerCards();
-
-    if (kickerCardsOfHand1.isEmpty() && kickerCardsOfHand2.isEmpty()) {
-      return 0;
-    }
-
-    kickerCardsOfHand1.sort(Collections.reverseOrder(Card::compareTo));
-    kickerCardsOfHand2.sort(Collections.reverseOrder(Card::compareTo));
-
-    int kickerCardsComparison;
-
-    int i = 0;
-    do {
-      kickerCardsComparison = kickerCardsOfHand1.get(i).compareTo(kickerCardsOfHand2.get(i));
-      i++;
-    } while (kickerCardsComparison == 0 && i < kickerCardsOfHand1.size());
-
-    return kickerCardsComparison;
-  }
-
   public List<Card> getKickerCards() {
     return kickerCards;
   }
@@ -0,0 +1,40 @@
+package com.sap.ase.poker.model.hands;
+
+import static com.sap.ase.poker.model.evaluator.HandStrength.*;
+
+import com.sap.ase.poker.model.deck.Card;
+import com.sap.ase.poker.model.evaluator.HandEvaluation;
+import java.util.List;
+
+/*
+ * Builds the Hand of an evaluated set of cards directly: the category and the five cards follow
+ * from the strength, so only the one matching Hand subclass is created, with its relevant and
+ * kicker cards already split. Trying the constructors of HandRules.CREATION_FUNCTIONS instead
+ * groups and filters the cards again in every one of them.
+ */
+public final class HandClassifier {
+
+  // per category, how many of the five cards are relevant, the rest are kickers
+  private static final int[] RELEVANT_CARDS = {0, 5, 2, 4, 3, 5, 5, 5, 4, 5, 5};
+
+  private HandClassifier() {}
+
+  public static Hand classify(HandEvaluation evaluation) {
+    List<Card> cards = evaluation.getCards();
+    int category = evaluation.getCategory();
+    List<Card> relevantCards = cards.subList(0, RELEVANT_CARDS[category]);
+    List<Card> kickerCards = cards.subList(RELEVANT_CARDS[category], HAND_SIZE);
+    return switch (category) {
+      case ROYAL_FLUSH -> new RoyalFlush(relevantCards, kickerCards);
+      case STRAIGHT_FLUSH -> new StraightFlush(relevantCards, kickerCards);
+      case FOUR_OF_A_KIND -> new FourOfAKind(relevantCards, kickerCards);
+      case FULL_HOUSE -> new FullHouse(relevantCards, kickerCards);
+      case FLUSH -> new Flush(relevantCards, kickerCards);
+      case STRAIGHT -> new Straight(relevantCards, kickerCards);
+      case THREE_OF_A_KIND -> new ThreeOfAKind(relevantCards, kickerCards);
+      case TWO_PAIRS -> new TwoPairs(relevantCards, kickerCards);
+      case PAIR -> new Pair(relevantCards, kickerCards);
+      default -> new HighCard(relevantCards, kickerCards);
+    };
+  }
+}
@@ -0,0 +1,54 @@
+package com.sap.ase.poker.model.hands;
+
+import com.sap.ase.poker.model.deck.Card;
+import java.util.List;
+
+/*
+ * A hand value packs the rank of the hand followed by the kinds of its five cards in order of
+ * significance, one nibble each: the relevant cards by group size and kind, then the kickers by
+ * kind. Two hands compare like their values, so this is the same encoding as a HandStrength.
+ */
+public final class HandValue {
+
+  private static final int KINDS = 14;
+
+  private HandValue() {}
+
+  public static long of(int rank, List<Card> relevantCards, List<Card> kickerCards) {
+    long value = rank;
+    int[] relevantCounts = countKinds(relevantCards);
+    for (int groupSize = 4; groupSize > 0; groupSize--) {
+      for (int kind = KINDS - 1; kind > 0; kind--) {
+        if (relevantCounts[kind] == groupSize) {
+          value = append(value, kind, groupSize);
+        }
+      }
+    }
+    int[] kickerCounts = countKinds(kickerCards);
+    for (int kind = KINDS - 1; kind > 0; kind--) {
+      value = append(value, kind, kickerCounts[kind]);
+    }
+    int missingCards = Hand.MAX_HAND_CARD_AMOUNT - relevantCards.size() - kickerCards.size();
+    return value << (4 * Math.max(missingCards, 0));
+  }
+
+  public static int rank(long value) {
+    return (int) (value >>> (4 * Hand.MAX_HAND_CARD_AMOUNT));
+  }
+
+  private static int[] countKinds(List<Card> cards) {
+    int[] counts = new int[KINDS];
+    for (Card card : cards) {
+      counts[card.getKind().getRank()]++;
+    }
+    return counts;
+  }
+
+  private static long append(long value, int kind, int times) {
+    long result = value;
+    for (int i = 0; i < times; i++) {
+      result = (result << 4) | kind;
+    }
+    return result;
+  }
+}
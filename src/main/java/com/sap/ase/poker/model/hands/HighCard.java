@@ -1,7 +1,6 @@
 package com.sap.ase.poker.model.hands;
 
 import com.sap.ase.poker.model.deck.Card;
-import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -13,6 +12,10 @@ public class HighCard extends Hand {
     super(cards);
   }
 
+  HighCard(List<Card> relevantCards, List<Card> kickerCards) {
+    super(relevantCards, kickerCards);
+  }
+
   @Override
   public int getRank() {
     return HIGH_CARD_RANK;
@@ -27,26 +30,4 @@ public class HighCard extends Hand {
             .collect(Collectors.toList());
     return restCards.subList(restCards.size() - 5, restCards.size());
   }
-
-  @Override
-  protected int compareRelevantCards(Hand hand) {
-    List<Card> relevantCards1 = this.getRelevantCards();
-    List<Card> relevantCards2 = hand.getRelevantCards();
-
-    // ensure descending ordering of cards (e.g. ACE, KING, ...
-    Collections.sort(relevantCards1, Collections.reverseOrder(Card::compareTo));
-    Collections.sort(relevantCards2, Collections.reverseOrder(Card::compareTo));
-
-    for (int i = 0; i < relevantCards1.size(); i++) {
-      Card card1 = relevantCards1.get(i);
-      Card card2 = relevantCards2.get(i);
-
-      int cardComparisonResult = card1.compareTo(card2);
-      if (cardComparisonResult != 0) {
-        return cardComparisonResult;
-      }
-    }
-
-    return 0;
-  }
 }
@@ -16,6 +16,10 @@ public class Pair extends Hand {
     super(cards);
   }
 
+  Pair(List<Card> relevantCards, List<Card> kickerCards) {
+    super(relevantCards, kickerCards);
+  }
+
   @Override
   public int getRank() {
     return PAIR_RANK;
@@ -26,22 +30,6 @@ public class Pair extends Hand {
     return findPair(cards);
   }
 
-  @Override
-  protected int compareRelevantCards(Hand hand) {
-    Integer pairRank =
-        this.getRelevantCards().stream()
-            .map(card -> card.getKind().getRank())
-            .max(Integer::compareTo)
-            .get();
-    Integer otherPairRank =
-        hand.getRelevantCards().stream()
-            .map(card -> card.getKind().getRank())
-            .max(Integer::compareTo)
-            .get();
-
-    return pairRank - otherPairRank;
-  }
-
   private List<Card> findPair(List<Card> cards) {
     Map<Kind, List<Card>> kindGroups = cards.stream().collect(Collectors.groupingBy(Card::getKind));
     Optional<List<Card>> pair =
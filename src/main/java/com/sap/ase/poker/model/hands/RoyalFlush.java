@@ -14,6 +14,10 @@ public class RoyalFlush extends Hand {
     super(cards);
   }
 
+  RoyalFlush(List<Card> relevantCards, List<Card> kickerCards) {
+    super(relevantCards, kickerCards);
+  }
+
   @Override
   public int getRank() {
     return ROYAL_FLUSH_RANK;
@@ -45,9 +49,4 @@ public class RoyalFlush extends Hand {
             new Card(Kind.JACK, suit),
             new Card(Kind.TEN, suit)));
   }
-
-  @Override
-  protected int compareRelevantCards(Hand hand) {
-    return 0;
-  }
 }
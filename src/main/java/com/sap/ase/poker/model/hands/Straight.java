@@ -12,6 +12,10 @@ public class Straight extends Hand {
     super(cards);
   }
 
+  Straight(List<Card> relevantCards, List<Card> kickerCards) {
+    super(relevantCards, kickerCards);
+  }
+
   @Override
   public int getRank() {
     return STRAIGHT_RANK;
@@ -65,9 +69,4 @@ public class Straight extends Hand {
     }
     return true;
   }
-
-  @Override
-  protected int compareRelevantCards(Hand hand) {
-    return new HighCard(cards).compareRelevantCards(new HighCard(hand.getRelevantCards()));
-  }
 }
@@ -14,6 +14,10 @@ public class StraightFlush extends Hand {
     super(cards);
   }
 
+  StraightFlush(List<Card> relevantCards, List<Card> kickerCards) {
+    super(relevantCards, kickerCards);
+  }
+
   @Override
   public int getRank() {
     return STRAIGHT_FLUSH_RANK;
@@ -34,10 +38,4 @@ public class StraightFlush extends Hand {
       throw new InvalidHandException("No straight flush present");
     }
   }
-
-  @Override
-  protected int compareRelevantCards(Hand hand) {
-    Card highestCard = hand.getRelevantCards().get(0);
-    return this.getRelevantCards().get(0).compareTo(highestCard);
-  }
 }
@@ -16,6 +16,10 @@ public class ThreeOfAKind extends Hand {
     super(cards);
   }
 
+  ThreeOfAKind(List<Card> relevantCards, List<Card> kickerCards) {
+    super(relevantCards, kickerCards);
+  }
+
   @Override
   public int getRank() {
     return THREE_OF_A_KIND_RANK;
@@ -26,14 +30,6 @@ public class ThreeOfAKind extends Hand {
     return findThreeOfAKind(cards);
   }
 
-  @Override
-  protected int compareRelevantCards(Hand hand) {
-    int rank = this.getRelevantCards().get(0).getKind().getRank();
-    int otherRank = hand.getRelevantCards().get(0).getKind().getRank();
-
-    return rank - otherRank;
-  }
-
   private List<Card> findThreeOfAKind(List<Card> cards) {
     Map<Kind, List<Card>> kindGroups = cards.stream().collect(Collectors.groupingBy(Card::getKind));
     Optional<List<Card>> quadruple =
@@ -4,6 +4,7 @@ import com.sap.ase.poker.model.InvalidHandException;
 import com.sap.ase.poker.model.deck.Card;
 import com.sap.ase.poker.model.deck.Kind;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -16,6 +17,10 @@ public class TwoPairs extends Hand {
     super(cards);
   }
 
+  TwoPairs(List<Card> relevantCards, List<Card> kickerCards) {
+    super(relevantCards, kickerCards);
+  }
+
   @Override
   public int getRank() {
     return TWO_PAIRS_RANK;
@@ -26,43 +31,13 @@ public class TwoPairs extends Hand {
     return findTwoPairs(cards);
   }
 
-  @Override
-  protected int compareRelevantCards(Hand hand) {
-    Integer highestPairRank =
-        this.getRelevantCards().stream()
-            .map(card -> card.getKind().getRank())
-            .max(Integer::compareTo)
-            .get();
-    Integer otherHighestPairRank =
-        hand.getRelevantCards().stream()
-            .map(card -> card.getKind().getRank())
-            .max(Integer::compareTo)
-            .get();
-
-    int highestPairComparison = highestPairRank - otherHighestPairRank;
-    if (highestPairComparison != 0) {
-      return highestPairComparison;
-    } else {
-      Integer lowestPairRank =
-          this.getRelevantCards().stream()
-              .map(card -> card.getKind().getRank())
-              .min(Integer::compareTo)
-              .get();
-      Integer otherLowestPairRank =
-          hand.getRelevantCards().stream()
-              .map(card -> card.getKind().getRank())
-              .min(Integer::compareTo)
-              .get();
-
-      return lowestPairRank - otherLowestPairRank;
-    }
-  }
-
   private List<Card> findTwoPairs(List<Card> cards) {
     Map<Kind, List<Card>> kindGroups = cards.stream().collect(Collectors.groupingBy(Card::getKind));
     List<Card> twoPairs =
         kindGroups.values().stream()
             .filter(group -> group.size() == 2)
+            .sorted(Comparator.comparing((List<Card> group) -> group.get(0)).reversed())
+            .limit(2)
             .flatMap(Collection::stream)
             .collect(Collectors.toList());
 
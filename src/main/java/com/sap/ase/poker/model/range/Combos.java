@@ -0,0 +1,42 @@
+package com.sap.ase.poker.model.range;
+
+import com.sap.ase.poker.model.deck.CardMask;
+
+/*
+ * Numbers the 1,326 two-card combinations. The cards are counted 0 to 51 in the order of their
+ * CardMask bits, and the combination of cards a < b gets the index b * (b - 1) / 2 + a.
+ */
+public final class Combos {
+
+  public static final int COMBOS = CardMask.CARDS_IN_DECK * (CardMask.CARDS_IN_DECK - 1) / 2;
+
+  private static final int[] CARD_NUMBERS = new int[Long.SIZE];
+  private static final long[] HOLE_CARDS = new long[COMBOS];
+
+  static {
+    int number = 0;
+    for (long rest = CardMask.FULL_DECK; rest != 0; rest &= rest - 1) {
+      CARD_NUMBERS[Long.numberOfTrailingZeros(rest)] = number++;
+    }
+    for (long high = CardMask.FULL_DECK; high != 0; high &= high - 1) {
+      long highCard = Long.lowestOneBit(high);
+      for (long low = CardMask.FULL_DECK & (highCard - 1); low != 0; low &= low - 1) {
+        long holeCards = highCard | Long.lowestOneBit(low);
+        HOLE_CARDS[index(holeCards)] = holeCards;
+      }
+    }
+  }
+
+  private Combos() {}
+
+  /* of a card mask with exactly two cards */
+  public static int index(long holeCards) {
+    int low = CARD_NUMBERS[Long.numberOfTrailingZeros(holeCards)];
+    int high = CARD_NUMBERS[Long.SIZE - 1 - Long.numberOfLeadingZeros(holeCards)];
+    return high * (high - 1) / 2 + low;
+  }
+
+  public static long holeCards(int combo) {
+    return HOLE_CARDS[combo];
+  }
+}
@@ -0,0 +1,62 @@
+package com.sap.ase.poker.model.range;
+
+import java.util.BitSet;
+
+/*
+ * A set of hole cards out of the 1,326 combinations (see Combos), each with a weight between 0 and
+ * 1 for how often the hand is played that way. Parsed from range notation such as "QQ+,AKs,AsKh",
+ * see RangeParser.
+ */
+public class HandRange {
+
+  private final BitSet combos;
+  private final double[] weights;
+
+  HandRange(BitSet combos, double[] weights) {
+    this.combos = combos;
+    this.weights = weights;
+  }
+
+  public static HandRange parse(String notation) {
+    return RangeParser.parse(notation);
+  }
+
+  /* exactly the given hole cards, e.g. the known cards of a player */
+  public static HandRange of(long holeCards) {
+    BitSet combos = new BitSet(Combos.COMBOS);
+    double[] weights = new double[Combos.COMBOS];
+    combos.set(Combos.index(holeCards));
+    weights[Combos.index(holeCards)] = 1;
+    return new HandRange(combos, weights);
+  }
+
+  /* the combinations that are still possible when the dead cards are known to be elsewhere */
+  public HandRange without(long deadCards) {
+    BitSet live = (BitSet) combos.clone();
+    double[] liveWeights = weights.clone();
+    for (int combo = live.nextSetBit(0); combo >= 0; combo = live.nextSetBit(combo + 1)) {
+      if ((Combos.holeCards(combo) & deadCards) != 0) {
+        live.clear(combo);
+        liveWeights[combo] = 0;
+      }
+    }
+    return new HandRange(live, liveWeights);
+  }
+
+  public BitSet getCombos() {
+    return (BitSet) combos.clone();
+  }
+
+  public boolean contains(long holeCards) {
+    return combos.get(Combos.index(holeCards));
+  }
+
+  /* 0 for combinations not in the range */
+  public double weight(int combo) {
+    return weights[combo];
+  }
+
+  public int size() {
+    return combos.cardinality();
+  }
+}
@@ -0,0 +1,9 @@
+package com.sap.ase.poker.model.range;
+
+public class InvalidRangeException extends RuntimeException {
+  private static final long serialVersionUID = -2318512937154106522L;
+
+  public InvalidRangeException(String message) {
+    super(message);
+  }
+}
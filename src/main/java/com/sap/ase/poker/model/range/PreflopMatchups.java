@@ -0,0 +1,106 @@
+package com.sap.ase.poker.model.range;
+
+import com.sap.ase.poker.model.deck.CardMask;
+import java.util.Arrays;
+
+/*
+ * Heads-up preflop matchups. The 1,326 combos fall into 169 hand classes of the usual 13 x 13
+ * grid: pairs on the diagonal, suited hands with the higher rank first and offsuit hands with the
+ * lower rank first. Renaming the suits doesn't change the equities of two hands, so a matchup is
+ * numbered by the smallest first combo * 1,326 + second combo over all 24 suit permutations. Of
+ * the ordered pairs of hands 47,008 are left when the order of the two hands is ignored, too.
+ */
+public final class PreflopMatchups {
+
+  public static final int RANKS = 13;
+  public static final int HAND_CLASSES = RANKS * RANKS;
+  public static final int MATCHUPS = 47_008;
+
+  private static final int SUITS = 4;
+  private static final int[][] SUIT_PERMUTATIONS = new int[24][];
+
+  static {
+    int permutation = 0;
+    for (int first = 0; first < SUITS; first++) {
+      for (int second = 0; second < SUITS; second++) {
+        for (int third = 0; third < SUITS; third++) {
+          int fourth = 6 - first - second - third;
+          if (first != second && first != third && second != third) {
+            SUIT_PERMUTATIONS[permutation++] = new int[] {first, second, third, fourth};
+          }
+        }
+      }
+    }
+  }
+
+  private PreflopMatchups() {}
+
+  public static int handClass(long holeCards) {
+    int low = Long.numberOfTrailingZeros(holeCards);
+    int high = Long.SIZE - 1 - Long.numberOfLeadingZeros(holeCards);
+    int lowRank = low % CardMask.LANE_WIDTH;
+    int highRank = high % CardMask.LANE_WIDTH;
+    if (lowRank == highRank) {
+      return lowRank * RANKS + lowRank;
+    }
+    int higher = Math.max(lowRank, highRank);
+    int lower = Math.min(lowRank, highRank);
+    boolean suited = low / CardMask.LANE_WIDTH == high / CardMask.LANE_WIDTH;
+    return suited ? higher * RANKS + lower : lower * RANKS + higher;
+  }
+
+  /* the smallest number of the two hands in this order under all suit permutations */
+  public static int canonicalKey(long first, long second) {
+    int key = Integer.MAX_VALUE;
+    for (int[] permutation : SUIT_PERMUTATIONS) {
+      int permuted =
+          Combos.index(permute(first, permutation)) * Combos.COMBOS
+              + Combos.index(permute(second, permutation));
+      key = Math.min(key, permuted);
+    }
+    return key;
+  }
+
+  /*
+   * The combos of any number of hands in ascending order, after the suit permutation that makes
+   * them smallest, so all orders and suit renamings of the same hands give the same combos. The
+   * slots receive the position of every hand among them.
+   */
+  public static int[] canonicalCombos(long[] holeCards, int[] slots) {
+    int[] combos = new int[holeCards.length];
+    int[] best = null;
+    int[] bestCombos = null;
+    for (int[] permutation : SUIT_PERMUTATIONS) {
+      for (int hand = 0; hand < holeCards.length; hand++) {
+        combos[hand] = Combos.index(permute(holeCards[hand], permutation));
+      }
+      int[] sorted = combos.clone();
+      Arrays.sort(sorted);
+      if (best == null || Arrays.compare(sorted, best) < 0) {
+        best = sorted;
+        bestCombos = combos.clone();
+      }
+    }
+    for (int hand = 0; hand < holeCards.length; hand++) {
+      slots[hand] = Arrays.binarySearch(best, bestCombos[hand]);
+    }
+    return best;
+  }
+
+  public static long firstHand(int key) {
+    return Combos.holeCards(key / Combos.COMBOS);
+  }
+
+  public static long secondHand(int key) {
+    return Combos.holeCards(key % Combos.COMBOS);
+  }
+
+  private static long permute(long cards, int[] permutation) {
+    long permuted = 0;
+    for (int suit = 0; suit < SUITS; suit++) {
+      long ranks = CardMask.ranks(cards, suit);
+      permuted |= ranks << (permutation[suit] * CardMask.LANE_WIDTH);
+    }
+    return permuted;
+  }
+}
@@ -0,0 +1,158 @@
+package com.sap.ase.poker.model.range;
+
+import com.sap.ase.poker.model.deck.CardMask;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+/*
+ * Parses comma separated range notation. A part is a pair ("QQ"), suited or offsuit hands ("AKs",
+ * "AKo") or both ("AK"), all better kickers or pairs up to aces with a "+" ("A2s+", "22+"), a span
+ * of them ("A2s-A5s", "22-55") or an exact hand ("AsKh"). A weight may follow, e.g. "AKo:0.5".
+ */
+final class RangeParser {
+
+  private static final String RANKS = "23456789TJQKA";
+  // in the order of Suit: diamonds, hearts, spades, clubs
+  private static final String SUITS = "dhsc";
+  private static final int SUIT_COUNT = SUITS.length();
+  private static final char SUITED = 's';
+  private static final char OFFSUIT = 'o';
+
+  private RangeParser() {}
+
+  static HandRange parse(String notation) {
+    BitSet combos = new BitSet(Combos.COMBOS);
+    double[] weights = new double[Combos.COMBOS];
+    for (String part : notation.split(",")) {
+      String hands = part.trim();
+      double weight = 1;
+      int colon = hands.indexOf(':');
+      if (colon >= 0) {
+        weight = parseWeight(hands.substring(colon + 1), part);
+        hands = hands.substring(0, colon);
+      }
+      for (long holeCards : parseHands(hands, part)) {
+        combos.set(Combos.index(holeCards));
+        weights[Combos.index(holeCards)] = weight;
+      }
+    }
+    return new HandRange(combos, weights);
+  }
+
+  private static double parseWeight(String weight, String part) {
+    try {
+      double value = Double.parseDouble(weight);
+      if (value > 0 && value <= 1) {
+        return value;
+      }
+    } catch (NumberFormatException ignored) {
+      // reported below
+    }
+    throw new InvalidRangeException("Weight must be in (0, 1]: " + part);
+  }
+
+  private static List<Long> parseHands(String hands, String part) {
+    if (hands.length() == 4 && SUITS.indexOf(hands.charAt(1)) >= 0) {
+      long first = card(hands.charAt(0), hands.charAt(1), part);
+      long second = card(hands.charAt(2), hands.charAt(3), part);
+      if (first == second) {
+        throw new InvalidRangeException("Cards must differ: " + part);
+      }
+      return List.of(first | second);
+    }
+    int dash = hands.indexOf('-');
+    if (dash >= 0) {
+      HandClass from = parseClass(hands.substring(0, dash), part);
+      return parseSpan(from, parseClass(hands.substring(dash + 1), part), part);
+    }
+    if (hands.endsWith("+")) {
+      HandClass from = parseClass(hands.substring(0, hands.length() - 1), part);
+      HandClass to =
+          from.isPair()
+              ? new HandClass(RANKS.length() - 1, RANKS.length() - 1, from.shape)
+              : new HandClass(from.high, from.high - 1, from.shape);
+      return parseSpan(from, to, part);
+    }
+    return parseClass(hands, part).holeCards();
+  }
+
+  private static List<Long> parseSpan(HandClass from, HandClass to, String part) {
+    List<Long> holeCards = new ArrayList<>();
+    if (from.isPair() && to.isPair()) {
+      for (int rank = Math.min(from.high, to.high); rank <= Math.max(from.high, to.high); rank++) {
+        holeCards.addAll(new HandClass(rank, rank, from.shape).holeCards());
+      }
+      return holeCards;
+    }
+    if (from.isPair() || to.isPair() || from.high != to.high || from.shape != to.shape) {
+      throw new InvalidRangeException("Span needs pairs or hands with the same top card: " + part);
+    }
+    for (int low = Math.min(from.low, to.low); low <= Math.max(from.low, to.low); low++) {
+      holeCards.addAll(new HandClass(from.high, low, from.shape).holeCards());
+    }
+    return holeCards;
+  }
+
+  private static HandClass parseClass(String hand, String part) {
+    if (hand.length() < 2 || hand.length() > 3) {
+      throw new InvalidRangeException("Unknown hand: " + part);
+    }
+    int first = rank(hand.charAt(0), part);
+    int second = rank(hand.charAt(1), part);
+    char shape = hand.length() == 3 ? hand.charAt(2) : 0;
+    if (shape != 0 && (shape != SUITED && shape != OFFSUIT || first == second)) {
+      throw new InvalidRangeException("Unknown hand: " + part);
+    }
+    return new HandClass(Math.max(first, second), Math.min(first, second), shape);
+  }
+
+  private static int rank(char rank, String part) {
+    int index = RANKS.indexOf(rank);
+    if (index < 0) {
+      throw new InvalidRangeException("Unknown rank " + rank + ": " + part);
+    }
+    return index;
+  }
+
+  private static long card(char rank, char suit, String part) {
+    int suitIndex = SUITS.indexOf(suit);
+    if (suitIndex < 0) {
+      throw new InvalidRangeException("Unknown suit " + suit + ": " + part);
+    }
+    return 1L << (suitIndex * CardMask.LANE_WIDTH + rank(rank, part));
+  }
+
+  /* a pair, or a high and a low rank that are suited, offsuit or both (shape 0) */
+  private static final class HandClass {
+
+    private final int high;
+    private final int low;
+    private final char shape;
+
+    private HandClass(int high, int low, char shape) {
+      this.high = high;
+      this.low = low;
+      this.shape = shape;
+    }
+
+    private boolean isPair() {
+      return high == low;
+    }
+
+    private List<Long> holeCards() {
+      List<Long> holeCards = new ArrayList<>();
+      for (int highSuit = 0; highSuit < SUIT_COUNT; highSuit++) {
+        for (int lowSuit = 0; lowSuit < SUIT_COUNT; lowSuit++) {
+          boolean suited = highSuit == lowSuit;
+          if (isPair() ? highSuit < lowSuit : shape != (suited ? OFFSUIT : SUITED)) {
+            holeCards.add(
+                1L << (highSuit * CardMask.LANE_WIDTH + high)
+                    | 1L << (lowSuit * CardMask.LANE_WIDTH + low));
+          }
+        }
+      }
+      return holeCards;
+    }
+  }
+}
@@ -1,11 +1,17 @@
 package com.sap.ase.poker.model.rules;
 
-import com.sap.ase.poker.model.InvalidHandException;
+import static com.sap.ase.poker.model.evaluator.HandStrength.*;
+
 import com.sap.ase.poker.model.deck.Card;
+import com.sap.ase.poker.model.deck.CardMask;
+import com.sap.ase.poker.model.evaluator.BitmaskHandEvaluator;
+import com.sap.ase.poker.model.evaluator.HandEvaluator;
+import com.sap.ase.poker.model.evaluator.HandEvaluation;
 import com.sap.ase.poker.model.hands.*;
 import java.util.Arrays;
 import java.util.List;
 import java.util.function.Function;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -23,22 +29,32 @@ public class HandRules {
           TwoPairs::new,
           Pair::new);
 
-  public Hand findBestHand(List<Card> handCards) {
-    if (handCards.size() != 7) {
-      throw new InvalidAmountOfCardsException("7 cards needed");
-    }
+  private final HandEvaluator handEvaluator;
+
+  public HandRules() {
+    this(new BitmaskHandEvaluator());
+  }
 
-    return findHandCombinations(handCards);
+  @Autowired
+  public HandRules(HandEvaluator handEvaluator) {
+    this.handEvaluator = handEvaluator;
   }
 
-  private Hand findHandCombinations(List<Card> cards) {
+  public Hand findBestHand(List<Card> handCards) {
+    return HandClassifier.classify(new HandEvaluation(evaluate(handCards), CardMask.of(handCards)));
+  }
 
-    for (Function<List<Card>, Hand> createHand : CREATION_FUNCTIONS) {
-      try {
-        return createHand.apply(cards);
-      } catch (InvalidHandException ignored) {
-      }
+  /* five to seven cards, so a hand can already be shown on the flop and the turn */
+  public int evaluate(List<Card> handCards) {
+    if (handCards.size() < HAND_SIZE || handCards.size() > MAX_CARDS) {
+      throw new InvalidAmountOfCardsException("5 to 7 cards needed");
     }
-    return new HighCard(cards);
+
+    return handEvaluator.evaluate(CardMask.of(handCards));
+  }
+
+  /* evaluates the hole cards of many players against the same community cards */
+  public HandEvaluator withBoard(List<Card> communityCards) {
+    return handEvaluator.withBoard(CardMask.of(communityCards));
   }
 }
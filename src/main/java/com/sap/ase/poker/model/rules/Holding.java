@@ -0,0 +1,30 @@
+package com.sap.ase.poker.model.rules;
+
+import com.sap.ase.poker.model.deck.Card;
+import com.sap.ase.poker.model.deck.CardMask;
+import com.sap.ase.poker.model.evaluator.HandEvaluation;
+import java.util.List;
+
+/* two hole cards and the hand they make on a board */
+public class Holding {
+
+  private final long holeCards;
+  private final HandEvaluation hand;
+
+  Holding(long holeCards, long board, int strength) {
+    this.holeCards = holeCards;
+    this.hand = new HandEvaluation(strength, board | holeCards);
+  }
+
+  public List<Card> getHoleCards() {
+    return CardMask.toCards(holeCards);
+  }
+
+  public int getStrength() {
+    return hand.getStrength();
+  }
+
+  public HandEvaluation getHand() {
+    return hand;
+  }
+}
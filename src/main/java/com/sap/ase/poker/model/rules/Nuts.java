@@ -0,0 +1,32 @@
+package com.sap.ase.poker.model.rules;
+
+import java.util.List;
+
+/*
+ * The strongest hand possible on a board, every holding that makes it, and the top holdings
+ * overall, strongest first. Holdings of equal strength keep the order of the deck.
+ */
+public class Nuts {
+
+  private final int nutStrength;
+  private final List<Holding> nutHoldings;
+  private final List<Holding> topHoldings;
+
+  Nuts(int nutStrength, List<Holding> nutHoldings, List<Holding> topHoldings) {
+    this.nutStrength = nutStrength;
+    this.nutHoldings = nutHoldings;
+    this.topHoldings = topHoldings;
+  }
+
+  public int getNutStrength() {
+    return nutStrength;
+  }
+
+  public List<Holding> getNutHoldings() {
+    return nutHoldings;
+  }
+
+  public List<Holding> getTopHoldings() {
+    return topHoldings;
+  }
+}
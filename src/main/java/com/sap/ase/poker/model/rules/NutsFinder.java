@@ -0,0 +1,76 @@
+package com.sap.ase.poker.model.rules;
+
+import com.sap.ase.poker.model.GameVariant;
+import com.sap.ase.poker.model.deck.Card;
+import com.sap.ase.poker.model.deck.CardMask;
+import com.sap.ase.poker.model.evaluator.HandEvaluator;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.springframework.stereotype.Component;
+
+/*
+ * Ranks all two-card holdings still possible on a board, e.g. the 1081 ones on the river. They are
+ * scored on the board path of the evaluator and sorted as packed strength|position keys, only the
+ * holdings that are returned become objects.
+ */
+@Component
+public class NutsFinder {
+
+  private static final int FLOP_CARDS = 3;
+  // enough for the 1176 holdings on a flop
+  private static final int POSITION_BITS = 11;
+  private static final int POSITION_MASK = (1 << POSITION_BITS) - 1;
+
+  private final HandEvaluator handEvaluator;
+
+  public NutsFinder(HandEvaluator handEvaluator) {
+    this.handEvaluator = handEvaluator;
+  }
+
+  public Nuts findNuts(List<Card> communityCards, int topHoldings) {
+    if (communityCards.size() < FLOP_CARDS
+        || communityCards.size() > GameVariant.COMMUNITY_CARDS) {
+      throw new InvalidAmountOfCardsException("3 to 5 community cards needed");
+    }
+    long board = CardMask.of(communityCards);
+    HandEvaluator boardEvaluator = handEvaluator.withBoard(board);
+    long deck = CardMask.FULL_DECK & ~board;
+    long[] holdings = new long[CardMask.size(deck) * (CardMask.size(deck) - 1) / 2];
+    long[] keys = new long[holdings.length];
+    int position = 0;
+    for (long first = deck; first != 0; first &= first - 1) {
+      for (long second = first & (first - 1); second != 0; second &= second - 1) {
+        holdings[position] = Long.lowestOneBit(first) | Long.lowestOneBit(second);
+        int strength = boardEvaluator.evaluate(holdings[position]);
+        // inverted positions, so that the first holding of a tie comes first from the back
+        keys[position] = (long) strength << POSITION_BITS | (POSITION_MASK - position);
+        position++;
+      }
+    }
+    Arrays.sort(keys);
+
+    int nutStrength = strength(keys[keys.length - 1]);
+    List<Holding> nutHoldings = new ArrayList<>();
+    List<Holding> top = new ArrayList<>();
+    for (int i = keys.length - 1; i >= 0; i--) {
+      int strength = strength(keys[i]);
+      if (top.size() == topHoldings && strength != nutStrength) {
+        break;
+      }
+      long holeCards = holdings[POSITION_MASK - (int) (keys[i] & POSITION_MASK)];
+      Holding holding = new Holding(holeCards, board, strength);
+      if (strength == nutStrength) {
+        nutHoldings.add(holding);
+      }
+      if (top.size() < topHoldings) {
+        top.add(holding);
+      }
+    }
+    return new Nuts(nutStrength, nutHoldings, top);
+  }
+
+  private static int strength(long key) {
+    return (int) (key >>> POSITION_BITS);
+  }
+}
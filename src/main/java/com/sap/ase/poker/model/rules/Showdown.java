@@ -0,0 +1,56 @@
+package com.sap.ase.poker.model.rules;
+
+import com.sap.ase.poker.model.Player;
+import com.sap.ase.poker.model.evaluator.HandEvaluation;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+
+/*
+ * The players of a showdown ranked by their hand strength: every tie group holds the players with
+ * equal strength in seat order, the first group takes the pot.
+ */
+public class Showdown {
+
+  private final List<List<Player>> tieGroups = new ArrayList<>();
+  private final List<Integer> groupStrengths = new ArrayList<>();
+  private final HandEvaluation winningHand;
+
+  /* the hand of a player is only built for the winner */
+  Showdown(List<Player> players, int[] strengths, IntFunction<HandEvaluation> handOfPlayer) {
+    int[] ranking =
+        IntStream.range(0, strengths.length)
+            .boxed()
+            .sorted(Comparator.comparingInt((Integer i) -> strengths[i]).reversed())
+            .mapToInt(Integer::intValue)
+            .toArray();
+    for (int i : ranking) {
+      if (groupStrengths.isEmpty()
+          || groupStrengths.get(groupStrengths.size() - 1) != strengths[i]) {
+        tieGroups.add(new ArrayList<>());
+        groupStrengths.add(strengths[i]);
+      }
+      tieGroups.get(tieGroups.size() - 1).add(players.get(i));
+    }
+    winningHand = ranking.length == 0 ? null : handOfPlayer.apply(ranking[0]);
+  }
+
+  public List<List<Player>> getTieGroups() {
+    return tieGroups;
+  }
+
+  public List<Player> getWinners() {
+    return tieGroups.isEmpty() ? List.of() : tieGroups.get(0);
+  }
+
+  public int getStrength(int tieGroup) {
+    return groupStrengths.get(tieGroup);
+  }
+
+  public Optional<HandEvaluation> getWinningHand() {
+    return Optional.ofNullable(winningHand);
+  }
+}
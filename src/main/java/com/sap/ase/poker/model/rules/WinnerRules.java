@@ -1,45 +1,77 @@
 package com.sap.ase.poker.model.rules;
 
+import com.sap.ase.poker.model.GameVariant;
 import com.sap.ase.poker.model.Player;
 import com.sap.ase.poker.model.deck.Card;
-import com.sap.ase.poker.model.hands.Hand;
+import com.sap.ase.poker.model.deck.CardMask;
+import com.sap.ase.poker.model.evaluator.HandEvaluation;
+import com.sap.ase.poker.model.evaluator.HandEvaluator;
+import com.sap.ase.poker.model.evaluator.HandState;
+import com.sap.ase.poker.model.evaluator.OmahaHandEvaluator;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.TreeMap;
 import org.springframework.stereotype.Component;
 
 @Component
 public class WinnerRules {
 
   private final HandRules handRules;
+  private final OmahaHandEvaluator omahaHandEvaluator;
 
-  public WinnerRules(HandRules handRules) {
+  public WinnerRules(HandRules handRules, OmahaHandEvaluator omahaHandEvaluator) {
     this.handRules = handRules;
+    this.omahaHandEvaluator = omahaHandEvaluator;
   }
 
   public Winners findWinners(List<Card> communityCards, List<Player> activePlayers) {
-    Map.Entry<Hand, List<Player>> bestHand = mapPlayersToBestHand(activePlayers, communityCards);
+    Showdown showdown = showdown(communityCards, activePlayers);
+    return new Winners(showdown.getWinners(), showdown.getWinningHand().orElse(null));
+  }
 
-    return new Winners(bestHand.getValue(), bestHand.getKey());
+  /* scores all holdings against the board in one pass, which is preprocessed only once */
+  public Showdown showdown(List<Card> communityCards, List<Player> activePlayers) {
+    return showdown(communityCards, activePlayers, GameVariant.TEXAS_HOLDEM);
   }
 
-  private Map.Entry<Hand, List<Player>> mapPlayersToBestHand(
-      List<Player> players, List<Card> communityCards) {
-    TreeMap<Hand, List<Player>> playerHands = new TreeMap<>();
-    for (Player player : players) {
-      Hand bestHand = handRules.findBestHand(combineCards(communityCards, player.getHandCards()));
-      if (!playerHands.containsKey(bestHand)) {
-        playerHands.put(bestHand, new ArrayList<>());
+  public Showdown showdown(
+      List<Card> communityCards, List<Player> activePlayers, GameVariant variant) {
+    long board = CardMask.of(communityCards);
+    HandEvaluator boardEvaluator =
+        variant == GameVariant.OMAHA
+            ? omahaHandEvaluator.withBoard(board)
+            : handRules.withBoard(communityCards);
+    long[] holeCards = new long[activePlayers.size()];
+    int[] strengths = new int[activePlayers.size()];
+    for (int i = 0; i < strengths.length; i++) {
+      List<Card> handCards = activePlayers.get(i).getHandCards();
+      if (communityCards.size() != GameVariant.COMMUNITY_CARDS
+          || handCards.size() != variant.getHoleCards()) {
+        throw new InvalidAmountOfCardsException(
+            (GameVariant.COMMUNITY_CARDS + variant.getHoleCards()) + " cards needed");
       }
-      playerHands.get(bestHand).add(player);
+      holeCards[i] = CardMask.of(handCards);
+      strengths[i] = boardEvaluator.evaluate(holeCards[i]);
     }
-    return playerHands.pollLastEntry();
+    return new Showdown(
+        activePlayers,
+        strengths,
+        i -> handOf(boardEvaluator, strengths[i], board | holeCards[i]));
+  }
+
+  /*
+   * For hands that were already evaluated, e.g. street by street; ties keep the map order. Only the
+   * strengths are compared, the cards of the hand are picked for the winner alone.
+   */
+  public Winners findWinners(Map<Player, HandState> hands) {
+    List<Player> players = new ArrayList<>(hands.keySet());
+    List<HandState> states = new ArrayList<>(hands.values());
+    int[] strengths = states.stream().mapToInt(HandState::getStrength).toArray();
+    Showdown showdown = new Showdown(players, strengths, i -> states.get(i).toEvaluation());
+    return new Winners(showdown.getWinners(), showdown.getWinningHand().orElse(null));
   }
 
-  private List<Card> combineCards(List<Card> communityCards, List<Card> handCards) {
-    List<Card> availableCards = new ArrayList<>(handCards);
-    availableCards.addAll(communityCards);
-    return availableCards;
+  private static HandEvaluation handOf(HandEvaluator boardEvaluator, int strength, long cards) {
+    return new HandEvaluation(strength, boardEvaluator.handCards(cards, strength));
   }
 }
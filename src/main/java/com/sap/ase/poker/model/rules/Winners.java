@@ -1,7 +1,7 @@
 package com.sap.ase.poker.model.rules;
 
 import com.sap.ase.poker.model.Player;
-import com.sap.ase.poker.model.hands.Hand;
+import com.sap.ase.poker.model.evaluator.HandEvaluation;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -9,14 +9,14 @@ import java.util.Optional;
 public class Winners {
 
   List<Player> winners = new ArrayList<>();
-  Hand winningHand;
+  HandEvaluation winningHand;
 
-  public Winners(List<Player> winners, Hand winningHand) {
+  public Winners(List<Player> winners, HandEvaluation winningHand) {
     this.winners.addAll(winners);
     this.winningHand = winningHand;
   }
 
-  public Optional<Hand> getWinningHand() {
+  public Optional<HandEvaluation> getWinningHand() {
     return Optional.ofNullable(winningHand);
   }
 
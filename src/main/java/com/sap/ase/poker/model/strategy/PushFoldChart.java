@@ -0,0 +1,116 @@
+package com.sap.ase.poker.model.strategy;
+
+import com.sap.ase.poker.model.deck.CardMask;
+import com.sap.ase.poker.model.range.PreflopMatchups;
+import com.sap.ase.poker.model.rules.InvalidAmountOfCardsException;
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+/*
+ * Heads-up push/fold charts for bots, solved offline by the tools' PushFoldChartGenerator and
+ * shipped as a resource. Every chart holds the push and the call frequency of each hand class at
+ * one effective stack as a byte, 338 bytes per stack. A lookup uses the chart of the stack nearest
+ * to the given one.
+ */
+public class PushFoldChart {
+
+  static final String RESOURCE = "/preflop/push-fold-charts.bin";
+  static final int MAGIC = 0x50464348;
+  static final int VERSION = 1;
+
+  private static final int CLASSES = PreflopMatchups.HAND_CLASSES;
+  private static final int LEVELS = 255;
+
+  private final float[] stacks;
+  private final byte[][] push;
+  private final byte[][] call;
+
+  PushFoldChart(float[] stacks, byte[][] push, byte[][] call) {
+    this.stacks = stacks;
+    this.push = push;
+    this.call = call;
+  }
+
+  /* the charts shipped with the application, read once on first use */
+  public static PushFoldChart headsUp() {
+    return HeadsUp.CHART;
+  }
+
+  public double pushFrequency(long holeCards, double stack) {
+    return frequency(push, holeCards, stack);
+  }
+
+  public double callFrequency(long holeCards, double stack) {
+    return frequency(call, holeCards, stack);
+  }
+
+  public static void write(List<PushFoldStrategy> strategies, OutputStream out) throws IOException {
+    DataOutputStream data = new DataOutputStream(out);
+    data.writeInt(MAGIC);
+    data.writeInt(VERSION);
+    data.writeInt(strategies.size());
+    for (PushFoldStrategy strategy : strategies) {
+      data.writeFloat((float) strategy.getStack());
+      for (int handClass = 0; handClass < CLASSES; handClass++) {
+        data.writeByte((int) Math.round(strategy.getPushFrequency(handClass) * LEVELS));
+      }
+      for (int handClass = 0; handClass < CLASSES; handClass++) {
+        data.writeByte((int) Math.round(strategy.getCallFrequency(handClass) * LEVELS));
+      }
+    }
+    data.flush();
+  }
+
+  static PushFoldChart read(InputStream in) throws IOException {
+    DataInputStream data = new DataInputStream(new BufferedInputStream(in));
+    if (data.readInt() != MAGIC || data.readInt() != VERSION) {
+      throw new IllegalStateException("Not a valid push/fold chart");
+    }
+    int charts = data.readInt();
+    float[] stacks = new float[charts];
+    byte[][] push = new byte[charts][CLASSES];
+    byte[][] call = new byte[charts][CLASSES];
+    for (int chart = 0; chart < charts; chart++) {
+      stacks[chart] = data.readFloat();
+      data.readFully(push[chart]);
+      data.readFully(call[chart]);
+    }
+    return new PushFoldChart(stacks, push, call);
+  }
+
+  private double frequency(byte[][] frequencies, long holeCards, double stack) {
+    if (CardMask.size(holeCards) != 2) {
+      throw new InvalidAmountOfCardsException("two hole cards needed");
+    }
+    int nearest = 0;
+    for (int chart = 1; chart < stacks.length; chart++) {
+      if (Math.abs(stacks[chart] - stack) < Math.abs(stacks[nearest] - stack)) {
+        nearest = chart;
+      }
+    }
+    return Byte.toUnsignedInt(frequencies[nearest][PreflopMatchups.handClass(holeCards)])
+        / (double) LEVELS;
+  }
+
+  private static final class HeadsUp {
+
+    private static final PushFoldChart CHART = load();
+
+    private static PushFoldChart load() {
+      try (InputStream in = PushFoldChart.class.getResourceAsStream(RESOURCE)) {
+        if (in == null) {
+          throw new IllegalStateException("Missing push/fold chart " + RESOURCE);
+        }
+        return read(in);
+      } catch (IOException e) {
+        throw new UncheckedIOException("Could not read push/fold chart " + RESOURCE, e);
+      }
+    }
+  }
+}
@@ -0,0 +1,149 @@
+package com.sap.ase.poker.model.strategy;
+
+import com.sap.ase.poker.model.equity.PreflopEquityTable;
+import com.sap.ase.poker.model.range.Combos;
+import com.sap.ase.poker.model.range.PreflopMatchups;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/*
+ * Solves heads-up push/fold by fictitious play: the small blind posts half a big blind and either
+ * moves all-in or folds, the big blind calls or folds. Every iteration both players best-respond
+ * to the average strategy of the other one so far, and the averages converge to the equilibrium.
+ * The all-in equities of two hand classes are the exact equities of the PreflopEquityTable,
+ * averaged over the combos of both classes that don't share a card, and the number of those
+ * combos weights the class against the other one, which accounts for card removal. The stacks are
+ * solved in parallel.
+ */
+public class PushFoldSolver {
+
+  private static final int CLASSES = PreflopMatchups.HAND_CLASSES;
+  private static final double SMALL_BLIND = 0.5;
+  private static final double BIG_BLIND = 1;
+
+  // of the combos of the first class against those of the second one
+  private final int[][] weights = new int[CLASSES][CLASSES];
+  private final double[][] equities = new double[CLASSES][CLASSES];
+  private final long totalWeight;
+
+  public PushFoldSolver(PreflopEquityTable preflopEquityTable) {
+    int[][] classCombos = classCombos();
+    IntStream.range(0, CLASSES)
+        .parallel()
+        .forEach(handClass -> averageEquities(preflopEquityTable, handClass, classCombos));
+    totalWeight = Arrays.stream(weights).flatMapToInt(Arrays::stream).asLongStream().sum();
+  }
+
+  public List<PushFoldStrategy> solve(double[] stacks, int iterations) {
+    return Arrays.stream(stacks).parallel().mapToObj(stack -> solve(stack, iterations)).toList();
+  }
+
+  /* the average strategies after the given number of iterations, for a stack in big blinds */
+  public PushFoldStrategy solve(double stack, int iterations) {
+    if (stack < BIG_BLIND) {
+      throw new IllegalArgumentException("The stacks must cover the big blind");
+    }
+    if (iterations < 1) {
+      throw new IllegalArgumentException("At least one iteration needed");
+    }
+    // what the small blind wins when called, by the weight of the matchup
+    double[][] called = new double[CLASSES][CLASSES];
+    for (int push = 0; push < CLASSES; push++) {
+      for (int call = 0; call < CLASSES; call++) {
+        called[push][call] = weights[push][call] * (equities[push][call] * 2 * stack - stack);
+      }
+    }
+    double[] push = new double[CLASSES];
+    double[] call = new double[CLASSES];
+    double[] pushValues = new double[CLASSES];
+    double[] callValues = new double[CLASSES];
+    for (int iteration = 1; iteration <= iterations; iteration++) {
+      pushValues(called, call, pushValues);
+      callValues(called, push, callValues);
+      for (int handClass = 0; handClass < CLASSES; handClass++) {
+        push[handClass] += ((pushValues[handClass] > 0 ? 1 : 0) - push[handClass]) / iteration;
+        call[handClass] += ((callValues[handClass] > 0 ? 1 : 0) - call[handClass]) / iteration;
+      }
+    }
+    return new PushFoldStrategy(stack, push, call, exploitability(called, push, call));
+  }
+
+  /* what pushing wins over folding for the small blind, by the weight of the hand class */
+  private void pushValues(double[][] called, double[] call, double[] values) {
+    for (int push = 0; push < CLASSES; push++) {
+      double value = 0;
+      for (int caller = 0; caller < CLASSES; caller++) {
+        value +=
+            call[caller] * called[push][caller]
+                + (1 - call[caller]) * weights[push][caller] * BIG_BLIND
+                + weights[push][caller] * SMALL_BLIND;
+      }
+      values[push] = value;
+    }
+  }
+
+  /* what calling wins over folding for the big blind against a push, likewise */
+  private void callValues(double[][] called, double[] push, double[] values) {
+    Arrays.fill(values, 0);
+    for (int pusher = 0; pusher < CLASSES; pusher++) {
+      if (push[pusher] == 0) {
+        continue;
+      }
+      for (int caller = 0; caller < CLASSES; caller++) {
+        values[caller] +=
+            push[pusher] * (weights[pusher][caller] * BIG_BLIND - called[pusher][caller]);
+      }
+    }
+  }
+
+  /* the best responses' gains over the strategies, which add up as the game is zero-sum */
+  private double exploitability(double[][] called, double[] push, double[] call) {
+    double[] pushValues = new double[CLASSES];
+    double[] callValues = new double[CLASSES];
+    pushValues(called, call, pushValues);
+    callValues(called, push, callValues);
+    double gain = 0;
+    for (int handClass = 0; handClass < CLASSES; handClass++) {
+      gain += Math.max(pushValues[handClass], 0) - push[handClass] * pushValues[handClass];
+      gain += Math.max(callValues[handClass], 0) - call[handClass] * callValues[handClass];
+    }
+    return gain / totalWeight;
+  }
+
+  /* the small blind's class against every other one, from each small blind combo */
+  private void averageEquities(PreflopEquityTable table, int handClass, int[][] classCombos) {
+    for (int combo : classCombos[handClass]) {
+      long holeCards = Combos.holeCards(combo);
+      for (int other = 0; other < Combos.COMBOS; other++) {
+        long otherHoleCards = Combos.holeCards(other);
+        if ((holeCards & otherHoleCards) == 0) {
+          int otherClass = PreflopMatchups.handClass(otherHoleCards);
+          weights[handClass][otherClass]++;
+          equities[handClass][otherClass] +=
+              table.calculate(holeCards, otherHoleCards).get(0).getEquity();
+        }
+      }
+    }
+    for (int otherClass = 0; otherClass < CLASSES; otherClass++) {
+      equities[handClass][otherClass] /= weights[handClass][otherClass];
+    }
+  }
+
+  private static int[][] classCombos() {
+    int[] counts = new int[CLASSES];
+    for (int combo = 0; combo < Combos.COMBOS; combo++) {
+      counts[PreflopMatchups.handClass(Combos.holeCards(combo))]++;
+    }
+    int[][] classCombos = new int[CLASSES][];
+    for (int handClass = 0; handClass < CLASSES; handClass++) {
+      classCombos[handClass] = new int[counts[handClass]];
+    }
+    Arrays.fill(counts, 0);
+    for (int combo = 0; combo < Combos.COMBOS; combo++) {
+      int handClass = PreflopMatchups.handClass(Combos.holeCards(combo));
+      classCombos[handClass][counts[handClass]++] = combo;
+    }
+    return classCombos;
+  }
+}
@@ -0,0 +1,43 @@
+package com.sap.ase.poker.model.strategy;
+
+/*
+ * Heads-up push/fold at an effective stack in big blinds: how often the small blind moves all-in
+ * and the big blind calls with each of the 169 hand classes (see PreflopMatchups.handClass). The
+ * exploitability is what best responses of both players would win against the strategies
+ * together, in big blinds per hand; it is 0 at the equilibrium.
+ */
+public class PushFoldStrategy {
+
+  private final double stack;
+  private final double[] push;
+  private final double[] call;
+  private final double exploitability;
+
+  public PushFoldStrategy(double stack, double[] push, double[] call, double exploitability) {
+    this.stack = stack;
+    this.push = push.clone();
+    this.call = call.clone();
+    this.exploitability = exploitability;
+  }
+
+  public double getStack() {
+    return stack;
+  }
+
+  public double getPushFrequency(int handClass) {
+    return push[handClass];
+  }
+
+  public double getCallFrequency(int handClass) {
+    return call[handClass];
+  }
+
+  public double getExploitability() {
+    return exploitability;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("push/fold at %.1f BB, exploitable by %.4f BB", stack, exploitability);
+  }
+}
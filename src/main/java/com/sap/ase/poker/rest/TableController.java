@@ -3,12 +3,15 @@ package com.sap.ase.poker.rest;
 import com.sap.ase.poker.data.PlayerNamesRepository;
 import com.sap.ase.poker.dto.BetRequestDto;
 import com.sap.ase.poker.dto.CardDto;
+import com.sap.ase.poker.dto.EquityDto;
 import com.sap.ase.poker.dto.GetTableResponseDto;
+import com.sap.ase.poker.dto.OutsDto;
 import com.sap.ase.poker.dto.PlayerDto;
 import com.sap.ase.poker.model.IllegalActionException;
 import com.sap.ase.poker.model.IllegalAmountException;
 import com.sap.ase.poker.service.TableService;
 import java.security.Principal;
+import java.util.List;
 import java.util.stream.Collectors;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -41,6 +44,7 @@ public class TableController {
         tableService.getPlayerCards(playerId).stream()
             .map(CardDto::new)
             .collect(Collectors.toList()));
+    tableStatus.setPlayerHand(tableService.getHandLabel(playerId).orElse(null));
     tableStatus.setCommunityCards(
         tableService.getCommunityCards().stream().map(CardDto::new).collect(Collectors.toList()));
     tableStatus.setBets(tableService.getBets());
@@ -51,6 +55,23 @@ public class TableController {
     return tableStatus;
   }
 
+  /* empty until the active players are all-in */
+  @GetMapping("/equity")
+  public List<EquityDto> getEquity() {
+    return tableService.getEquities().entrySet().stream()
+        .map(entry -> new EquityDto(entry.getKey(), entry.getValue()))
+        .collect(Collectors.toList());
+  }
+
+  /* the own outs of the player as a hint, no content until they are counted on the flop or turn */
+  @GetMapping("/outs")
+  public ResponseEntity<OutsDto> getOuts(Principal principal) {
+    return tableService
+        .getOuts(principal.getName())
+        .map(outs -> ResponseEntity.ok(new OutsDto(outs)))
+        .orElseGet(() -> ResponseEntity.noContent().build());
+  }
+
   @PostMapping("/players")
   public ResponseEntity<Void> joinTable(Principal principal) {
     String playerId = principal.getName();
@@ -3,20 +3,39 @@ package com.sap.ase.poker.service;
 import static com.sap.ase.poker.model.GameState.*;
 
 import com.sap.ase.poker.model.GameState;
+import com.sap.ase.poker.model.GameVariant;
 import com.sap.ase.poker.model.IllegalActionException;
 import com.sap.ase.poker.model.IllegalAmountException;
 import com.sap.ase.poker.model.Player;
 import com.sap.ase.poker.model.deck.Card;
+import com.sap.ase.poker.model.deck.CardMask;
 import com.sap.ase.poker.model.deck.Deck;
+import com.sap.ase.poker.model.equity.Equity;
+import com.sap.ase.poker.model.equity.EquityCalculator;
+import com.sap.ase.poker.model.equity.Outs;
+import com.sap.ase.poker.model.equity.OutsCalculator;
+import com.sap.ase.poker.model.evaluator.HandEvaluation;
+import com.sap.ase.poker.model.evaluator.HandEvaluator;
+import com.sap.ase.poker.model.evaluator.HandState;
+import com.sap.ase.poker.model.evaluator.HandStrength;
+import com.sap.ase.poker.model.evaluator.OmahaHandEvaluator;
+import com.sap.ase.poker.model.rules.WinnerRules;
+import com.sap.ase.poker.model.rules.Winners;
 import io.micrometer.common.util.StringUtils;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Supplier;
 import lombok.Getter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -26,6 +45,14 @@ public class TableService {
   public static final int STARTING_CASH = 100;
   public static final int MINIMUM_PLAYERS_REQUIRED_TO_START_A_GAME = 2;
   private final Supplier<Deck> deckSupplier;
+  private final HandEvaluator handEvaluator;
+  private final OmahaHandEvaluator omahaHandEvaluator;
+  private final WinnerRules winnerRules;
+  private final GameVariant variant;
+  private final EquityCalculator equityCalculator;
+  private final OutsCalculator outsCalculator;
+  private final Executor equityExecutor;
+  private Deck deck;
   private GameState state = OPEN;
   private final List<Player> players = new ArrayList<>();
   private Optional<Player> currentPlayer = Optional.empty();
@@ -35,9 +62,53 @@ public class TableService {
   private Optional<Player> winner = Optional.empty();
   private boolean roundIsComplete = false;
   private final List<Card> winnerHand = new ArrayList<>();
-
-  public TableService(Supplier<Deck> deckSupplier) {
+  private final Map<String, HandState> handStates = new HashMap<>();
+  private long version = 0;
+  private long handLabelsVersion = -1;
+  private Map<String, String> handLabels = Map.of();
+  private volatile long equitiesCards = 0;
+  private volatile Map<String, Equity> equities = Map.of();
+  private volatile long outsBoard = 0;
+  private volatile Map<String, Outs> outsByPlayer = Map.of();
+
+  @Autowired
+  public TableService(
+      Supplier<Deck> deckSupplier,
+      HandEvaluator handEvaluator,
+      OmahaHandEvaluator omahaHandEvaluator,
+      WinnerRules winnerRules,
+      EquityCalculator equityCalculator,
+      OutsCalculator outsCalculator,
+      @Value("${poker.table.variant:TEXAS_HOLDEM}") GameVariant variant) {
+    this(
+        deckSupplier,
+        handEvaluator,
+        omahaHandEvaluator,
+        winnerRules,
+        equityCalculator,
+        outsCalculator,
+        variant,
+        ForkJoinPool.commonPool());
+  }
+
+  /* the equities are enumerated on the given executor, e.g. on the calling thread in tests */
+  public TableService(
+      Supplier<Deck> deckSupplier,
+      HandEvaluator handEvaluator,
+      OmahaHandEvaluator omahaHandEvaluator,
+      WinnerRules winnerRules,
+      EquityCalculator equityCalculator,
+      OutsCalculator outsCalculator,
+      GameVariant variant,
+      Executor equityExecutor) {
     this.deckSupplier = deckSupplier;
+    this.handEvaluator = handEvaluator;
+    this.omahaHandEvaluator = omahaHandEvaluator;
+    this.winnerRules = winnerRules;
+    this.equityCalculator = equityCalculator;
+    this.outsCalculator = outsCalculator;
+    this.variant = variant;
+    this.equityExecutor = equityExecutor;
   }
 
   public void performAction(String action, int amount) {
@@ -50,6 +121,8 @@ public class TableService {
         default -> throw new IllegalActionException("Unsupported action: " + action);
       }
       checkIfIsRoundComplete(action);
+      version++;
+      updateEquities();
     } else {
       throw new IllegalActionException("Action cannot be empty");
     }
@@ -58,8 +131,10 @@ public class TableService {
   public void start() {
     if (players.size() >= MINIMUM_PLAYERS_REQUIRED_TO_START_A_GAME) {
       state = PRE_FLOP;
+      deck = deckSupplier.get();
       prepareForPreFlopRound();
       determineNextPlayer();
+      version++;
     }
   }
 
@@ -71,22 +146,183 @@ public class TableService {
         .orElse(Collections.emptyList());
   }
 
+  /* 0 until five cards of the player are known */
+  public int getHandStrength(String playerId) {
+    HandState handState = handStates.get(playerId);
+    return handState == null ? 0 : handState.getStrength();
+  }
+
+  /*
+   * The category of the player's current hand, e.g. "Pair", empty until five cards are known. The
+   * labels are collected once per version of the table, polling in between only reads them.
+   */
+  public Optional<String> getHandLabel(String playerId) {
+    if (handLabelsVersion != version) {
+      handLabels = collectHandLabels();
+      handLabelsVersion = version;
+    }
+    return Optional.ofNullable(handLabels.get(playerId));
+  }
+
+  private Map<String, String> collectHandLabels() {
+    Map<String, String> labels = new HashMap<>();
+    handStates.forEach(
+        (playerId, handState) -> {
+          if (handState.getStrength() != 0) {
+            labels.put(playerId, HandStrength.categoryName(handState.getStrength()));
+          }
+        });
+    return labels;
+  }
+
   private void prepareForPreFlopRound() {
     players.forEach(
         player -> {
-          dealTwoCardsForEachPlayer(player);
+          dealHoleCards(player);
           player.setActive();
         });
   }
 
-  private void dealTwoCardsForEachPlayer(Player player) {
-    player.setHandCards(List.of(deckSupplier.get().draw(), deckSupplier.get().draw()));
+  private void dealHoleCards(Player player) {
+    List<Card> holeCards = new ArrayList<>(variant.getHoleCards());
+    for (int i = 0; i < variant.getHoleCards(); i++) {
+      holeCards.add(deck.draw());
+    }
+    player.setHandCards(holeCards);
+    long holeCardMask = CardMask.of(holeCards);
+    handStates.put(player.getId(), new HandState(playerEvaluator(holeCardMask), holeCardMask));
+  }
+
+  /* an Omaha hand may only use two of its hole cards, so every player gets an own evaluator */
+  private HandEvaluator playerEvaluator(long holeCards) {
+    return variant == GameVariant.OMAHA
+        ? omahaHandEvaluator.forHoleCards(holeCards)
+        : handEvaluator;
+  }
+
+  /*
+   * Once the bets are matched and at most one active player still has cash, nobody can act any more
+   * and the equities of the active players are shown. They are enumerated on the equity executor
+   * when the known cards change, i.e. once per street, so neither the action nor polling waits for
+   * them; until they are done the equities of the last street stay shown.
+   */
+  private void updateEquities() {
+    List<Player> activePlayers = players.stream().filter(Player::isActive).toList();
+    if (!isAllIn(activePlayers)) {
+      enumeratingEquities(0);
+      return;
+    }
+    long[] holeCards = holeCards(activePlayers);
+    long board = CardMask.of(communityCards);
+    long knownCards = Arrays.stream(holeCards).reduce(board, (cards, more) -> cards | more);
+    if (knownCards == equitiesCards) {
+      return;
+    }
+    enumeratingEquities(knownCards);
+    List<String> playerIds = activePlayers.stream().map(Player::getId).toList();
+    HandEvaluator[] evaluators = evaluators(holeCards);
+    equityExecutor.execute(
+        () -> {
+          // streets passed while waiting for the executor are skipped
+          if (knownCards == equitiesCards) {
+            List<Equity> results = equityCalculator.calculate(holeCards, evaluators, board);
+            showEquities(knownCards, playerIds, results);
+          }
+        });
+  }
+
+  /* no cards clear the equities */
+  private synchronized void enumeratingEquities(long knownCards) {
+    equitiesCards = knownCards;
+    if (knownCards == 0) {
+      equities = Map.of();
+    }
+  }
+
+  /* unless the known cards changed in the meantime, e.g. as the game ended */
+  private synchronized void showEquities(
+      long knownCards, List<String> playerIds, List<? extends Equity> results) {
+    if (knownCards != equitiesCards) {
+      return;
+    }
+    Map<String, Equity> equitiesByPlayer = new LinkedHashMap<>();
+    for (int i = 0; i < playerIds.size(); i++) {
+      equitiesByPlayer.put(playerIds.get(i), results.get(i));
+    }
+    equities = equitiesByPlayer;
+  }
+
+  /*
+   * The outs of an active player on the flop and the turn, counted from the player's hole cards
+   * and the board only, so they tell nothing about the cards of the opponents; in Omaha there are
+   * none, as an opponent may hold any four cards. They are counted on the equity executor as the
+   * street is dealt, so polling only reads them; until they are done there are none.
+   */
+  public Optional<Outs> getOuts(String playerId) {
+    if ((state != FLOP && state != TURN) || variant != GameVariant.TEXAS_HOLDEM) {
+      return Optional.empty();
+    }
+    Map<String, Outs> outs = outsByPlayer;
+    return players.stream()
+        .filter(p -> p.isActive() && p.getId().equals(playerId))
+        .findFirst()
+        .map(p -> outs.get(playerId));
+  }
+
+  private void countOuts() {
+    long board = CardMask.of(communityCards);
+    countingOuts(board);
+    if (variant != GameVariant.TEXAS_HOLDEM
+        || communityCards.size() == GameVariant.COMMUNITY_CARDS) {
+      return;
+    }
+    Map<String, Long> holeCards = new LinkedHashMap<>();
+    players.stream()
+        .filter(Player::isActive)
+        .forEach(player -> holeCards.put(player.getId(), CardMask.of(player.getHandCards())));
+    equityExecutor.execute(
+        () -> {
+          // streets passed while waiting for the executor are skipped
+          if (board == outsBoard) {
+            Map<String, Outs> outs = new LinkedHashMap<>();
+            holeCards.forEach((id, cards) -> outs.put(id, outsCalculator.calculate(cards, board)));
+            showOuts(board, outs);
+          }
+        });
+  }
+
+  private synchronized void countingOuts(long board) {
+    outsBoard = board;
+    outsByPlayer = Map.of();
+  }
+
+  /* unless the next street was dealt in the meantime */
+  private synchronized void showOuts(long board, Map<String, Outs> outs) {
+    if (board == outsBoard) {
+      outsByPlayer = outs;
+    }
+  }
+
+  private long[] holeCards(List<Player> activePlayers) {
+    return activePlayers.stream().mapToLong(player -> CardMask.of(player.getHandCards())).toArray();
+  }
+
+  private HandEvaluator[] evaluators(long[] holeCards) {
+    return Arrays.stream(holeCards).mapToObj(this::playerEvaluator).toArray(HandEvaluator[]::new);
+  }
+
+  private boolean isAllIn(List<Player> activePlayers) {
+    return state != ENDED
+        && activePlayers.size() >= MINIMUM_PLAYERS_REQUIRED_TO_START_A_GAME
+        && activePlayers.stream().filter(player -> player.getCash() > 0).count() <= 1
+        && activePlayers.stream().map(Player::getBet).distinct().count() == 1;
   }
 
   public void addPlayer(String playerId, String playerName) {
     Player player = new Player(playerId, playerName, STARTING_CASH);
     players.add(player);
     bets.put(playerId, 0);
+    version++;
   }
 
   private void checkIfIsRoundComplete(String action) {
@@ -134,13 +370,22 @@ public class TableService {
   }
 
   private void determineWinner() {
-    winner = currentPlayer;
-    winner.ifPresent(
-        player -> {
-          player.addCash(pot);
-          pot = 0;
-        });
-    winnerHand.addAll(winner.get().getHandCards());
+    Map<Player, HandState> hands = new LinkedHashMap<>();
+    players.stream()
+        .filter(Player::isActive)
+        .forEach(player -> hands.put(player, handStates.get(player.getId())));
+    Winners winners = winnerRules.findWinners(hands);
+    winner = winners.getWinners().stream().findFirst();
+    splitPot(winners.getWinners());
+    winners.getWinningHand().map(HandEvaluation::getCards).ifPresent(winnerHand::addAll);
+  }
+
+  /* odd chips of a split pot go to the first winner in seat order */
+  private void splitPot(List<Player> winners) {
+    int share = pot / winners.size();
+    winners.forEach(player -> player.addCash(share));
+    winners.get(0).addCash(pot % winners.size());
+    pot = 0;
   }
 
   private Integer determineCurrentMinimumBet() {
@@ -165,7 +410,17 @@ public class TableService {
   }
 
   private void drawOneCommunityCard() {
-    communityCards.add(deckSupplier.get().draw());
+    dealCommunityCards(List.of(deck.draw()));
+  }
+
+  /* folded players are no longer evaluated */
+  private void dealCommunityCards(List<Card> cards) {
+    communityCards.addAll(cards);
+    long dealtCards = CardMask.of(cards);
+    players.stream()
+        .filter(Player::isActive)
+        .forEach(player -> handStates.get(player.getId()).deal(dealtCards));
+    countOuts();
   }
 
   private void determineGameStateWhenAPlayerFolds() {
@@ -230,7 +485,7 @@ public class TableService {
   }
 
   private void moveGameStateFromPreFlopToFlop() {
-    communityCards.addAll(deckSupplier.get().drawThreeCommunityCards());
+    dealCommunityCards(deck.drawThreeCommunityCards());
     state = FLOP;
   }
 
@@ -0,0 +1,63 @@
+package com.sap.ase.poker.tools;
+
+import com.sap.ase.poker.model.deck.CardMask;
+import com.sap.ase.poker.model.evaluator.BatchHandEvaluator;
+import com.sap.ase.poker.model.evaluator.ScalarBatchHandEvaluator;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/*
+ * Compares the batch evaluator picked by BatchHandEvaluator.create() with the scalar one on the
+ * same random seven card hands. Run with --add-modules jdk.incubator.vector to get the vector
+ * path, arguments: [hands] [rounds].
+ */
+public class BatchEvaluatorBenchmark {
+
+  private static final int HAND_CARDS = 7;
+  private static final long SEED = 42;
+
+  public static void main(String[] args) {
+    int hands = args.length > 0 ? Integer.parseInt(args[0]) : 1 << 22;
+    int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+    long[] cards = randomHands(hands, new SplittableRandom(SEED));
+
+    BatchHandEvaluator scalar = new ScalarBatchHandEvaluator();
+    BatchHandEvaluator batch = BatchHandEvaluator.create();
+    int[] expected = new int[hands];
+    int[] actual = new int[hands];
+    for (int round = 0; round < rounds; round++) {
+      long scalarNanos = time(scalar, cards, expected);
+      long batchNanos = time(batch, cards, actual);
+      System.out.printf(
+          "round %2d: %-26s %6.1f ns/hand   %-26s %6.1f ns/hand   speedup %.2fx%n",
+          round,
+          scalar.getClass().getSimpleName(),
+          (double) scalarNanos / hands,
+          batch.getClass().getSimpleName(),
+          (double) batchNanos / hands,
+          (double) scalarNanos / batchNanos);
+    }
+    if (!Arrays.equals(expected, actual)) {
+      throw new IllegalStateException("The batch evaluator disagrees with the scalar one");
+    }
+    System.out.println("Both evaluators agree on all " + hands + " hands");
+  }
+
+  private static long time(BatchHandEvaluator evaluator, long[] cards, int[] strengths) {
+    long start = System.nanoTime();
+    evaluator.evaluate(cards, strengths);
+    return System.nanoTime() - start;
+  }
+
+  private static long[] randomHands(int hands, SplittableRandom random) {
+    long[] cards = new long[hands];
+    for (int i = 0; i < hands; i++) {
+      long hand = 0L;
+      while (CardMask.size(hand) < HAND_CARDS) {
+        hand |= 1L << (random.nextInt(4) * CardMask.LANE_WIDTH + random.nextInt(13));
+      }
+      cards[i] = hand;
+    }
+    return cards;
+  }
+}
@@ -0,0 +1,173 @@
+package com.sap.ase.poker.tools;
+
+import com.sap.ase.poker.config.HandEvaluatorConfig;
+import com.sap.ase.poker.model.InvalidHandException;
+import com.sap.ase.poker.model.deck.Card;
+import com.sap.ase.poker.model.deck.CardMask;
+import com.sap.ase.poker.model.evaluator.HandEvaluator;
+import com.sap.ase.poker.model.evaluator.HandStrength;
+import com.sap.ase.poker.model.hands.Hand;
+import com.sap.ase.poker.model.hands.HighCard;
+import com.sap.ase.poker.model.rules.HandRules;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Function;
+
+/*
+ * Enumerates all 133,784,560 seven card hands with fork/join on all cores and counts the hand
+ * categories, as a throughput benchmark and correctness oracle of the evaluators. Every n-th hand
+ * is also built with the model.hands classes, whose value has to equal the evaluated strength.
+ * Arguments: [strategy] [sample interval, 0 to skip the check] [lookup table path], the strategy
+ * as configured by poker.evaluator.strategy.
+ */
+public class HandEnumerator {
+
+  private static final int HAND_CARDS = 7;
+  private static final long SEVEN_CARD_HANDS = 133_784_560L;
+  private static final long[] DECK = new long[CardMask.CARDS_IN_DECK];
+  // the two lowest cards of a hand, one fork/join leaf each
+  private static final int[][] PREFIXES;
+
+  static {
+    int card = 0;
+    for (long rest = CardMask.FULL_DECK; rest != 0; rest &= rest - 1) {
+      DECK[card++] = Long.lowestOneBit(rest);
+    }
+    int lastFirst = DECK.length - HAND_CARDS;
+    PREFIXES = new int[(lastFirst + 1) * (lastFirst + 2) / 2][];
+    int prefix = 0;
+    for (int first = 0; first <= lastFirst; first++) {
+      for (int second = first + 1; second <= lastFirst + 1; second++) {
+        PREFIXES[prefix++] = new int[] {first, second};
+      }
+    }
+  }
+
+  public static void main(String[] args) {
+    String strategy = args.length > 0 ? args[0] : "bitmask";
+    int sampleInterval = args.length > 1 ? Integer.parseInt(args[1]) : 1000;
+    Path lookupTablePath = Path.of(args.length > 2 ? args[2] : "hand-ranks.dat");
+    HandEvaluator evaluator =
+        new HandEvaluatorConfig().handEvaluator(strategy, lookupTablePath, false, 0);
+
+    ForkJoinPool pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+    long start = System.nanoTime();
+    Counts counts = pool.invoke(new Enumeration(evaluator, sampleInterval, 0, PREFIXES.length));
+    long nanos = System.nanoTime() - start;
+    pool.shutdown();
+
+    long hands = 0;
+    for (int category = HandStrength.ROYAL_FLUSH; category >= HandStrength.HIGH_CARD; category--) {
+      long count = counts.categories[category];
+      hands += count;
+      System.out.printf(
+          "%-16s %,12d  %8.4f %%%n",
+          HandStrength.categoryName(HandStrength.of(category, 0, 0, 0, 0, 0)),
+          count,
+          100.0 * count / SEVEN_CARD_HANDS);
+    }
+    System.out.printf(
+        "%,d hands with %s on %d threads in %.2f s: %,.0f hands/s%n",
+        hands,
+        evaluator.getClass().getSimpleName(),
+        pool.getParallelism(),
+        nanos / 1e9,
+        hands * 1e9 / nanos);
+    System.out.printf(
+        "%,d sampled hands checked against model.hands, %,d mismatches%n",
+        counts.checked, counts.mismatches);
+    if (hands != SEVEN_CARD_HANDS || counts.mismatches != 0) {
+      throw new IllegalStateException("The evaluator failed the enumeration");
+    }
+  }
+
+  private static int referenceStrength(long cards) {
+    List<Card> handCards = CardMask.toCards(cards);
+    for (Function<List<Card>, Hand> createHand : HandRules.CREATION_FUNCTIONS) {
+      try {
+        return (int) createHand.apply(handCards).getValue();
+      } catch (InvalidHandException ignored) {
+        // not this category, try the next lower one
+      }
+    }
+    return (int) new HighCard(handCards).getValue();
+  }
+
+  private static final class Counts {
+
+    private final long[] categories = new long[HandStrength.ROYAL_FLUSH + 1];
+    private long checked;
+    private long mismatches;
+
+    private Counts add(Counts other) {
+      for (int category = 0; category < categories.length; category++) {
+        categories[category] += other.categories[category];
+      }
+      checked += other.checked;
+      mismatches += other.mismatches;
+      return this;
+    }
+  }
+
+  private static final class Enumeration extends RecursiveTask<Counts> {
+
+    private static final long serialVersionUID = 1L;
+
+    private final transient HandEvaluator evaluator;
+    private final int sampleInterval;
+    private final int from;
+    private final int to;
+
+    private Enumeration(HandEvaluator evaluator, int sampleInterval, int from, int to) {
+      this.evaluator = evaluator;
+      this.sampleInterval = sampleInterval;
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    protected Counts compute() {
+      if (to - from == 1) {
+        return enumerate(PREFIXES[from][0], PREFIXES[from][1]);
+      }
+      int middle = (from + to) >>> 1;
+      Enumeration upper = new Enumeration(evaluator, sampleInterval, middle, to);
+      upper.fork();
+      Counts lower = new Enumeration(evaluator, sampleInterval, from, middle).compute();
+      return lower.add(upper.join());
+    }
+
+    /* all hands whose two lowest cards are the given ones */
+    private Counts enumerate(int first, int second) {
+      Counts counts = new Counts();
+      long prefix = DECK[first] | DECK[second];
+      long seen = 0;
+      for (int c3 = second + 1; c3 < DECK.length; c3++) {
+        long three = prefix | DECK[c3];
+        for (int c4 = c3 + 1; c4 < DECK.length; c4++) {
+          long four = three | DECK[c4];
+          for (int c5 = c4 + 1; c5 < DECK.length; c5++) {
+            long five = four | DECK[c5];
+            for (int c6 = c5 + 1; c6 < DECK.length; c6++) {
+              long six = five | DECK[c6];
+              for (int c7 = c6 + 1; c7 < DECK.length; c7++) {
+                long cards = six | DECK[c7];
+                int strength = evaluator.evaluate(cards);
+                counts.categories[HandStrength.category(strength)]++;
+                if (sampleInterval > 0 && ++seen % sampleInterval == 0) {
+                  counts.checked++;
+                  if (referenceStrength(cards) != strength) {
+                    counts.mismatches++;
+                  }
+                }
+              }
+            }
+          }
+        }
+      }
+      return counts;
+    }
+  }
+}
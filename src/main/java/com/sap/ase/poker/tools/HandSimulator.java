@@ -0,0 +1,300 @@
+package com.sap.ase.poker.tools;
+
+import com.sap.ase.poker.model.GameState;
+import com.sap.ase.poker.model.GameVariant;
+import com.sap.ase.poker.model.IllegalActionException;
+import com.sap.ase.poker.model.IllegalAmountException;
+import com.sap.ase.poker.model.Player;
+import com.sap.ase.poker.model.deck.Card;
+import com.sap.ase.poker.model.deck.CardShuffler;
+import com.sap.ase.poker.model.deck.PokerCardsSupplier;
+import com.sap.ase.poker.model.deck.ShuffledDeckSupplier;
+import com.sap.ase.poker.model.equity.BoardRanksCache;
+import com.sap.ase.poker.model.equity.EquityCalculator;
+import com.sap.ase.poker.model.equity.OutsCalculator;
+import com.sap.ase.poker.model.evaluator.BitmaskHandEvaluator;
+import com.sap.ase.poker.model.evaluator.HandEvaluator;
+import com.sap.ase.poker.model.evaluator.OmahaHandEvaluator;
+import com.sap.ase.poker.model.rules.HandRules;
+import com.sap.ase.poker.model.rules.WinnerRules;
+import com.sap.ase.poker.service.TableService;
+import com.sap.ase.poker.tools.SimulatedBot.Action;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/*
+ * Plays complete hands of bots (see SimulatedBot) through TableService without Spring or HTTP, one
+ * table per core, and reports hands per second, the latency distribution of performAction and
+ * whether the chips were conserved: after every action the cash of the players and the pot must add
+ * up to the chips the hand started with, and the pot must be empty once it ended. Every hand gets a
+ * fresh TableService, as a table doesn't reset between hands; as in the application the all-in
+ * equities and the outs of the flop and the turn are counted on the common pool. A hand that
+ * doesn't end within MAX_ACTIONS is counted as stalled. The decks are shuffled from a seed per
+ * table, so a run repeats with the same arguments. Exits with 1 if chips got lost or the engine
+ * failed.
+ * Arguments: [hands] [players] [strategy] [tables] [seed].
+ */
+public class HandSimulator {
+
+  private static final int MAX_ACTIONS = 1000;
+
+  public static void main(String[] args) throws Exception {
+    long hands = args.length > 0 ? Long.parseLong(args[0]) : 1_000_000;
+    int seats = args.length > 1 ? Integer.parseInt(args[1]) : 3;
+    String strategy = args.length > 2 ? args[2] : "random";
+    int tables = args.length > 3 ? Integer.parseInt(args[3]) : availableProcessors();
+    long seed = args.length > 4 ? Long.parseLong(args[4]) : 42;
+    SimulatedBot bot = SimulatedBot.of(strategy);
+
+    ExecutorService executor = Executors.newFixedThreadPool(tables);
+    long start = System.nanoTime();
+    List<Future<Results>> futures = new ArrayList<>();
+    for (int table = 0; table < tables; table++) {
+      long tableHands = hands / tables + (table < hands % tables ? 1 : 0);
+      long tableSeed = seed + table;
+      futures.add(executor.submit(() -> playTable(tableHands, seats, bot, tableSeed)));
+    }
+    Results results = new Results();
+    for (Future<Results> future : futures) {
+      results.add(future.get());
+    }
+    executor.shutdown();
+    long nanos = System.nanoTime() - start;
+
+    System.out.printf(
+        "Played %,d hands of %d %s bots on %d tables in %.1f s: %,.0f hands/s%n",
+        results.hands, seats, strategy, tables, nanos / 1e9, results.hands / (nanos / 1e9));
+    System.out.printf(
+        "%,d actions (%.1f per hand), %,d rejected and retried, %,d showdowns, %,d stalled hands%n",
+        results.actions,
+        (double) results.actions / results.hands,
+        results.rejected,
+        results.showdowns,
+        results.stalled);
+    System.out.println("performAction latency: " + results.latencies);
+    System.out.printf(
+        "Chip conservation: %s, engine errors: %,d%n",
+        results.chipErrors == 0 ? "ok" : "violated in " + results.chipErrors + " hands",
+        results.engineErrors);
+    results.failures.forEach(failure -> System.out.println("  " + failure));
+    if (results.chipErrors > 0 || results.engineErrors > 0) {
+      System.exit(1);
+    }
+  }
+
+  private static int availableProcessors() {
+    return Runtime.getRuntime().availableProcessors();
+  }
+
+  private static Results playTable(long hands, int seats, SimulatedBot bot, long seed) {
+    Random random = new Random(seed);
+    CardShuffler shuffler =
+        cards -> {
+          List<Card> shuffled = new ArrayList<>(cards);
+          Collections.shuffle(shuffled, random);
+          return shuffled;
+        };
+    ShuffledDeckSupplier deckSupplier =
+        new ShuffledDeckSupplier(new PokerCardsSupplier(), shuffler);
+    HandEvaluator handEvaluator = new BitmaskHandEvaluator();
+    OmahaHandEvaluator omahaHandEvaluator = new OmahaHandEvaluator();
+    WinnerRules winnerRules = new WinnerRules(new HandRules(handEvaluator), omahaHandEvaluator);
+    EquityCalculator equityCalculator = new EquityCalculator(handEvaluator);
+    OutsCalculator outsCalculator = new OutsCalculator(new BoardRanksCache(handEvaluator, 1));
+    Results results = new Results();
+    for (long hand = 0; hand < hands; hand++) {
+      TableService table =
+          new TableService(
+              deckSupplier,
+              handEvaluator,
+              omahaHandEvaluator,
+              winnerRules,
+              equityCalculator,
+              outsCalculator,
+              GameVariant.TEXAS_HOLDEM,
+              ForkJoinPool.commonPool());
+      try {
+        playHand(table, seats, bot, random, results);
+      } catch (RuntimeException e) {
+        results.engineErrors++;
+        results.fail("hand " + hand + " of the table with seed " + seed + " failed: " + e);
+      }
+      results.hands++;
+    }
+    return results;
+  }
+
+  private static void playHand(
+      TableService table, int seats, SimulatedBot bot, Random random, Results results) {
+    for (int seat = 0; seat < seats; seat++) {
+      table.addPlayer("bot-" + seat, "Bot " + seat);
+    }
+    table.start();
+    int chips = seats * TableService.STARTING_CASH;
+    int[] turns = new int[seats];
+    for (int actions = 0; table.getState() != GameState.ENDED; actions++) {
+      if (actions == MAX_ACTIONS) {
+        results.stalled++;
+        return;
+      }
+      Player player = table.getCurrentPlayer().orElseThrow();
+      int seat = table.getPlayers().indexOf(player);
+      perform(table, bot.act(table, player, turns[seat]++, random), results);
+      if (chipsOnTable(table) != chips) {
+        results.chipErrors++;
+        results.fail(chipsOnTable(table) + " of " + chips + " chips left in " + table.getState());
+        return;
+      }
+    }
+    if (table.getPot() != 0) {
+      results.chipErrors++;
+      results.fail(table.getPot() + " chips left in the pot of an ended hand");
+    }
+    if (table.getPlayers().stream().filter(Player::isActive).count() > 1) {
+      results.showdowns++;
+    }
+  }
+
+  /* the proposed action, or else the first of check, call and fold the table accepts */
+  private static void perform(TableService table, Action proposed, Results results) {
+    for (Action action : List.of(proposed, Action.CHECK, Action.CALL, Action.FOLD)) {
+      if (action != proposed && action.equals(proposed)) {
+        continue;
+      }
+      long start = System.nanoTime();
+      try {
+        table.performAction(action.name(), action.amount());
+        results.latencies.record(System.nanoTime() - start);
+        results.actions++;
+        return;
+      } catch (IllegalActionException | IllegalAmountException e) {
+        results.rejected++;
+      }
+    }
+  }
+
+  private static int chipsOnTable(TableService table) {
+    return table.getPot() + table.getPlayers().stream().mapToInt(Player::getCash).sum();
+  }
+
+  /* what the hands of one table came to, added up over all tables in the end */
+  private static final class Results {
+
+    private static final int MAX_FAILURES = 10;
+
+    private final LatencyHistogram latencies = new LatencyHistogram();
+    private final List<String> failures = new ArrayList<>();
+    private long hands;
+    private long actions;
+    private long rejected;
+    private long showdowns;
+    private long stalled;
+    private long chipErrors;
+    private long engineErrors;
+
+    private void fail(String failure) {
+      if (failures.size() < MAX_FAILURES) {
+        failures.add(failure);
+      }
+    }
+
+    private void add(Results other) {
+      latencies.add(other.latencies);
+      other.failures.forEach(this::fail);
+      hands += other.hands;
+      actions += other.actions;
+      rejected += other.rejected;
+      showdowns += other.showdowns;
+      stalled += other.stalled;
+      chipErrors += other.chipErrors;
+      engineErrors += other.engineErrors;
+    }
+  }
+
+  /*
+   * Latencies in nanoseconds, counted in 16 buckets per power of two, so a percentile is off by at
+   * most 1/16 of its value. Below 16 ns every nanosecond gets a bucket of its own.
+   */
+  private static final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+
+    private final long[] counts = new long[Long.SIZE * SUB_BUCKETS];
+    private long total;
+    private long sum;
+    private long max;
+
+    private void record(long nanos) {
+      counts[bucket(nanos)]++;
+      total++;
+      sum += nanos;
+      max = Math.max(max, nanos);
+    }
+
+    private void add(LatencyHistogram other) {
+      for (int bucket = 0; bucket < counts.length; bucket++) {
+        counts[bucket] += other.counts[bucket];
+      }
+      total += other.total;
+      sum += other.sum;
+      max = Math.max(max, other.max);
+    }
+
+    /* the upper bound of the bucket the given share of the latencies falls into */
+    private long percentile(double percentile) {
+      long rank = (long) Math.ceil(percentile / 100 * total);
+      long counted = 0;
+      for (int bucket = 0; bucket < counts.length - 1; bucket++) {
+        counted += counts[bucket];
+        if (counted >= rank) {
+          return Math.min(lowerBound(bucket + 1) - 1, max);
+        }
+      }
+      return max;
+    }
+
+    private static int bucket(long nanos) {
+      if (nanos < SUB_BUCKETS) {
+        return (int) nanos;
+      }
+      int magnitude = Long.SIZE - 1 - Long.numberOfLeadingZeros(nanos);
+      int subBucket = (int) (nanos >>> (magnitude - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+      return (magnitude - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    private static long lowerBound(int bucket) {
+      if (bucket < SUB_BUCKETS) {
+        return bucket;
+      }
+      int magnitude = bucket / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+      long subBucket = bucket % SUB_BUCKETS;
+      return (SUB_BUCKETS + subBucket) << (magnitude - SUB_BUCKET_BITS);
+    }
+
+    @Override
+    public String toString() {
+      if (total == 0) {
+        return "no actions";
+      }
+      StringBuilder text = new StringBuilder(String.format("mean %s", micros(sum / total)));
+      for (double percentile : PERCENTILES) {
+        String label = BigDecimal.valueOf(percentile).stripTrailingZeros().toPlainString();
+        text.append(String.format(", p%s %s", label, micros(percentile(percentile))));
+      }
+      return text.append(", max ").append(micros(max)).toString();
+    }
+
+    private static String micros(long nanos) {
+      return String.format("%.1f us", nanos / 1e3);
+    }
+  }
+}
@@ -0,0 +1,77 @@
+package com.sap.ase.poker.tools;
+
+import com.sap.ase.poker.model.equity.Equity;
+import com.sap.ase.poker.model.equity.EquityCalculator;
+import com.sap.ase.poker.model.equity.PreflopEquityTable;
+import com.sap.ase.poker.model.evaluator.BitmaskHandEvaluator;
+import com.sap.ase.poker.model.range.Combos;
+import com.sap.ase.poker.model.range.PreflopMatchups;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/*
+ * Generates the resource of the PreflopEquityTable by enumerating all 1,712,304 runouts of every
+ * heads-up matchup that differs by more than the naming of the suits, which takes a while on a
+ * single core. Arguments: [output path].
+ */
+public class PreflopEquityTableGenerator {
+
+  private static final int PROGRESS_INTERVAL = 1000;
+
+  public static void main(String[] args) throws IOException {
+    Path path =
+        Path.of(args.length > 0 ? args[0] : "src/main/resources/preflop/heads-up-equities.bin");
+    int[] matchups = canonicalMatchups();
+    EquityCalculator equityCalculator = new EquityCalculator(new BitmaskHandEvaluator());
+
+    long start = System.nanoTime();
+    long[] entries = new long[matchups.length];
+    for (int matchup = 0; matchup < matchups.length; matchup++) {
+      int key = matchups[matchup];
+      long[] holeCards = {PreflopMatchups.firstHand(key), PreflopMatchups.secondHand(key)};
+      Equity equity = equityCalculator.calculate(holeCards, 0L).get(0);
+      entries[matchup] =
+          PreflopEquityTable.entry(
+              key,
+              Math.round(equity.getWin() * PreflopEquityTable.RUNOUTS),
+              Math.round(equity.getTie() * PreflopEquityTable.RUNOUTS));
+      if ((matchup + 1) % PROGRESS_INTERVAL == 0) {
+        System.out.printf(
+            "%,d of %,d matchups after %.0f s%n",
+            matchup + 1, matchups.length, (System.nanoTime() - start) / 1e9);
+      }
+    }
+
+    Files.createDirectories(path.toAbsolutePath().getParent());
+    try (OutputStream out = Files.newOutputStream(path)) {
+      PreflopEquityTable.write(entries, out);
+    }
+    System.out.printf("Wrote %,d matchups to %s%n", entries.length, path);
+  }
+
+  /* the keys of the matchups that are their own canonical form, in ascending order */
+  private static int[] canonicalMatchups() {
+    int[] matchups = new int[PreflopMatchups.MATCHUPS];
+    int count = 0;
+    for (int first = 0; first < Combos.COMBOS; first++) {
+      for (int second = 0; second < Combos.COMBOS; second++) {
+        long firstHand = Combos.holeCards(first);
+        long secondHand = Combos.holeCards(second);
+        if ((firstHand & secondHand) != 0) {
+          continue;
+        }
+        int key = first * Combos.COMBOS + second;
+        if (PreflopMatchups.canonicalKey(firstHand, secondHand) == key
+            && PreflopMatchups.canonicalKey(secondHand, firstHand) >= key) {
+          matchups[count++] = key;
+        }
+      }
+    }
+    if (count != matchups.length) {
+      throw new IllegalStateException("Expected " + matchups.length + " matchups, got " + count);
+    }
+    return matchups;
+  }
+}
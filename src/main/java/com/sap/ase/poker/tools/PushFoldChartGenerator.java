@@ -0,0 +1,48 @@
+package com.sap.ase.poker.tools;
+
+import com.sap.ase.poker.model.equity.PreflopEquityTable;
+import com.sap.ase.poker.model.strategy.PushFoldChart;
+import com.sap.ase.poker.model.strategy.PushFoldSolver;
+import com.sap.ase.poker.model.strategy.PushFoldStrategy;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/*
+ * Generates the resource of the PushFoldChart by solving heads-up push/fold for effective stacks
+ * from 1 to 25 big blinds in steps of half a big blind, on all cores. Arguments: [output path]
+ * [iterations].
+ */
+public class PushFoldChartGenerator {
+
+  private static final double MIN_STACK = 1;
+  private static final double MAX_STACK = 25;
+  private static final double STACK_STEP = 0.5;
+
+  public static void main(String[] args) throws IOException {
+    Path path =
+        Path.of(args.length > 0 ? args[0] : "src/main/resources/preflop/push-fold-charts.bin");
+    int iterations = args.length > 1 ? Integer.parseInt(args[1]) : 20_000;
+    double[] stacks =
+        IntStream.rangeClosed(0, (int) ((MAX_STACK - MIN_STACK) / STACK_STEP))
+            .mapToDouble(step -> MIN_STACK + step * STACK_STEP)
+            .toArray();
+
+    long start = System.nanoTime();
+    PushFoldSolver solver = new PushFoldSolver(PreflopEquityTable.headsUp());
+    System.out.printf("Averaged the class equities in %.1f s%n", (System.nanoTime() - start) / 1e9);
+    List<PushFoldStrategy> strategies = solver.solve(stacks, iterations);
+    strategies.forEach(System.out::println);
+
+    Files.createDirectories(path.toAbsolutePath().getParent());
+    try (OutputStream out = Files.newOutputStream(path)) {
+      PushFoldChart.write(strategies, out);
+    }
+    System.out.printf(
+        "Wrote %d charts to %s after %.0f s%n",
+        strategies.size(), path, (System.nanoTime() - start) / 1e9);
+  }
+}
@@ -0,0 +1,69 @@
+package com.sap.ase.poker.tools;
+
+import com.sap.ase.poker.model.Player;
+import com.sap.ase.poker.service.TableService;
+import java.util.Random;
+
+/*
+ * A strategy of the HandSimulator's bots, shared by all tables. A bot only proposes an action for
+ * the current player, given how many actions that player took in the hand before; the simulator
+ * falls back to check, call and finally fold if the table rejects it, so bots may be sloppy about
+ * what is allowed. Strategies by name: "calling" checks or calls, "random" picks any action with
+ * a raise of a random size, "script:<actions>" cycles through a comma separated list of actions
+ * such as "raise:10,call,check,fold".
+ */
+interface SimulatedBot {
+
+  Action act(TableService table, Player player, int turn, Random random);
+
+  record Action(String name, int amount) {
+
+    static final Action CHECK = new Action("check", 0);
+    static final Action CALL = new Action("call", 0);
+    static final Action FOLD = new Action("fold", 0);
+  }
+
+  static SimulatedBot of(String strategy) {
+    if (strategy.equals("calling")) {
+      return (table, player, turn, random) -> Action.CHECK;
+    }
+    if (strategy.equals("random")) {
+      return (table, player, turn, random) -> randomAction(table, player, random);
+    }
+    if (strategy.startsWith("script:")) {
+      Action[] script = parseScript(strategy.substring("script:".length()));
+      return (table, player, turn, random) -> script[turn % script.length];
+    }
+    throw new IllegalArgumentException("Unknown bot strategy: " + strategy);
+  }
+
+  private static Action randomAction(TableService table, Player player, Random random) {
+    int choice = random.nextInt(100);
+    if (choice < 40) {
+      return Action.CHECK;
+    }
+    if (choice < 70) {
+      return Action.CALL;
+    }
+    if (choice < 85) {
+      int maximumBet = table.getPlayers().stream().mapToInt(Player::getBet).max().orElse(0);
+      int callAmount = maximumBet - table.getBets().getOrDefault(player.getId(), 0);
+      // a raise may not exceed the cash of any player
+      int cap = table.getPlayers().stream().mapToInt(Player::getCash).min().orElse(0);
+      return cap > callAmount
+          ? new Action("raise", callAmount + 1 + random.nextInt(cap - callAmount))
+          : Action.CHECK;
+    }
+    return Action.FOLD;
+  }
+
+  private static Action[] parseScript(String script) {
+    String[] steps = script.split(",");
+    Action[] actions = new Action[steps.length];
+    for (int step = 0; step < steps.length; step++) {
+      String[] parts = steps[step].trim().split(":");
+      actions[step] = new Action(parts[0], parts.length > 1 ? Integer.parseInt(parts[1]) : 0);
+    }
+    return actions;
+  }
+}
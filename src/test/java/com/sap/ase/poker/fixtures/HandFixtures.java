@@ -62,7 +62,7 @@ public class HandFixtures {
         new Card(Kind.TWO, Suit.SPADES));
   }
 
-  public static List<Card> invalidHandWith6Cards() {
+  public static List<Card> highCardOfKingWith6Cards() {
     return Arrays.asList(
         new Card(Kind.KING, Suit.DIAMONDS),
         new Card(Kind.JACK, Suit.DIAMONDS),
@@ -0,0 +1,52 @@
+package com.sap.ase.poker.model.deck;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class CardMaskTest {
+
+  @Test
+  void of_shouldSetOneBitPerCardInTheLaneOfItsSuit() {
+    assertThat(CardMask.of(new Card(Kind.TWO, Suit.DIAMONDS))).isEqualTo(1L);
+    assertThat(CardMask.of(new Card(Kind.ACE, Suit.DIAMONDS))).isEqualTo(1L << 12);
+    assertThat(CardMask.of(new Card(Kind.TWO, Suit.HEARTS))).isEqualTo(1L << 16);
+    assertThat(CardMask.of(new Card(Kind.ACE, Suit.CLUBS))).isEqualTo(1L << 60);
+  }
+
+  @Test
+  void toCards_shouldRestoreTheCardsOfTheMask() {
+    List<Card> cards =
+        Arrays.asList(
+            new Card(Kind.KING, Suit.SPADES),
+            new Card(Kind.FIVE, Suit.HEARTS),
+            new Card(Kind.TEN, Suit.CLUBS));
+
+    long mask = CardMask.of(cards);
+
+    assertThat(CardMask.size(mask)).isEqualTo(3);
+    assertThat(CardMask.toCards(mask)).containsExactlyInAnyOrderElementsOf(cards);
+  }
+
+  @Test
+  void ranks_shouldReturnTheRanksOfASuitOrOfAllSuits() {
+    long mask =
+        CardMask.of(
+            Arrays.asList(
+                new Card(Kind.TWO, Suit.HEARTS),
+                new Card(Kind.FOUR, Suit.HEARTS),
+                new Card(Kind.FOUR, Suit.SPADES)));
+
+    assertThat(CardMask.ranks(mask, Suit.HEARTS.ordinal())).isEqualTo(0b101);
+    assertThat(CardMask.ranks(mask, Suit.DIAMONDS.ordinal())).isZero();
+    assertThat(CardMask.ranks(mask)).isEqualTo(0b101);
+  }
+
+  @Test
+  void fullDeck_shouldContainAllPokerCards() {
+    assertThat(CardMask.of(new PokerCardsSupplier().get())).isEqualTo(CardMask.FULL_DECK);
+    assertThat(CardMask.size(CardMask.FULL_DECK)).isEqualTo(CardMask.CARDS_IN_DECK);
+  }
+}
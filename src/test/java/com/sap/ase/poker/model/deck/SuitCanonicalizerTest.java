@@ -0,0 +1,125 @@
+package com.sap.ase.poker.model.deck;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class SuitCanonicalizerTest {
+
+  @Test
+  void canonicalize_shouldFind1755DistinctFlops() {
+    Set<CanonicalCards> flops = new HashSet<>();
+    for (int first = 0; first < 52; first++) {
+      for (int second = first + 1; second < 52; second++) {
+        for (int third = second + 1; third < 52; third++) {
+          long flop = card(first) | card(second) | card(third);
+          flops.add(SuitCanonicalizer.canonicalize(0L, flop));
+        }
+      }
+    }
+
+    assertThat(flops).hasSize(1755);
+  }
+
+  @Test
+  void canonicalize_shouldFind169DistinctHoldings() {
+    Set<CanonicalCards> holdings = new HashSet<>();
+    for (int first = 0; first < 52; first++) {
+      for (int second = first + 1; second < 52; second++) {
+        holdings.add(SuitCanonicalizer.canonicalize(card(first) | card(second), 0L));
+      }
+    }
+
+    assertThat(holdings).hasSize(169);
+  }
+
+  @Test
+  void canonicalize_shouldMapSuitRelabelingsToTheSameCards() {
+    Random random = new Random(7);
+    for (int i = 0; i < 10_000; i++) {
+      long holeCards = randomCards(random, 2, 0L);
+      long board = randomCards(random, 3 + random.nextInt(3), holeCards);
+      int[] relabeling = randomPermutation(random);
+
+      CanonicalCards canonical = SuitCanonicalizer.canonicalize(holeCards, board);
+      CanonicalCards relabeled =
+          SuitCanonicalizer.canonicalize(
+              SuitCanonicalizer.permute(holeCards, relabeling),
+              SuitCanonicalizer.permute(board, relabeling));
+
+      assertThat(relabeled).isEqualTo(canonical).hasSameHashCodeAs(canonical);
+    }
+  }
+
+  @Test
+  void canonicalize_shouldKeepHoleCardsAndBoardApart() {
+    long aceOfDiamonds = CardMask.of(new Card(Kind.ACE, Suit.DIAMONDS));
+    long aceOfHearts = CardMask.of(new Card(Kind.ACE, Suit.HEARTS));
+
+    CanonicalCards onBoard = SuitCanonicalizer.canonicalize(aceOfDiamonds, aceOfHearts);
+    CanonicalCards inHand = SuitCanonicalizer.canonicalize(aceOfDiamonds | aceOfHearts, 0L);
+
+    assertThat(onBoard).isNotEqualTo(inHand);
+    assertThat(onBoard.getBoard()).isEqualTo(aceOfDiamonds);
+    assertThat(onBoard.getHoleCards()).isEqualTo(aceOfHearts);
+  }
+
+  @Test
+  void fromCanonical_shouldUndoThePermutation() {
+    List<Card> holeCards =
+        List.of(new Card(Kind.TWO, Suit.CLUBS), new Card(Kind.KING, Suit.HEARTS));
+    List<Card> board =
+        List.of(
+            new Card(Kind.ACE, Suit.SPADES),
+            new Card(Kind.TEN, Suit.SPADES),
+            new Card(Kind.FIVE, Suit.HEARTS));
+    long opponent = CardMask.of(List.of(new Card(Kind.NINE, Suit.CLUBS)));
+
+    CanonicalCards canonical = SuitCanonicalizer.canonicalize(holeCards, board);
+
+    assertThat(canonical.canonicalSuit(Suit.SPADES.ordinal())).isZero();
+    assertThat(canonical.canonicalSuit(Suit.HEARTS.ordinal())).isEqualTo(1);
+    assertThat(canonical.fromCanonical(canonical.getBoard())).isEqualTo(CardMask.of(board));
+    assertThat(canonical.fromCanonical(canonical.toCanonical(opponent))).isEqualTo(opponent);
+    assertThat(canonical.toString()).contains(" on ");
+  }
+
+  @Test
+  void equals_shouldCompareTheCanonicalCards() {
+    CanonicalCards canonical = SuitCanonicalizer.canonicalize(card(0), card(1));
+
+    assertThat(canonical).isEqualTo(canonical).isNotEqualTo(null).isNotEqualTo("cards");
+    assertThat(canonical).isNotEqualTo(SuitCanonicalizer.canonicalize(card(0), card(2)));
+    assertThat(canonical).isNotEqualTo(SuitCanonicalizer.canonicalize(card(2), card(1)));
+  }
+
+  private static long card(int index) {
+    return 1L << (index / 13 * CardMask.LANE_WIDTH + index % 13);
+  }
+
+  private static long randomCards(Random random, int count, long dead) {
+    long cards = 0L;
+    while (CardMask.size(cards) < count) {
+      long card = card(random.nextInt(52));
+      if ((card & dead) == 0) {
+        cards |= card;
+      }
+    }
+    return cards;
+  }
+
+  private static int[] randomPermutation(Random random) {
+    int[] permutation = {0, 1, 2, 3};
+    for (int i = permutation.length - 1; i > 0; i--) {
+      int j = random.nextInt(i + 1);
+      int swap = permutation[i];
+      permutation[i] = permutation[j];
+      permutation[j] = swap;
+    }
+    return permutation;
+  }
+}
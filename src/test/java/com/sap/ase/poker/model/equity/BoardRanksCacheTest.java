@@ -0,0 +1,106 @@
+package com.sap.ase.poker.model.equity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+
+import com.sap.ase.poker.model.deck.Card;
+import com.sap.ase.poker.model.deck.CardMask;
+import com.sap.ase.poker.model.deck.Kind;
+import com.sap.ase.poker.model.deck.Suit;
+import com.sap.ase.poker.model.evaluator.BitmaskHandEvaluator;
+import com.sap.ase.poker.model.evaluator.HandEvaluator;
+import com.sap.ase.poker.model.rules.InvalidAmountOfCardsException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.Test;
+
+class BoardRanksCacheTest {
+
+  private static final long ACE_KING_OF_HEARTS =
+      CardMask.of(List.of(new Card(Kind.ACE, Suit.HEARTS), new Card(Kind.KING, Suit.HEARTS)));
+  private static final long FLUSH_DRAW_FLOP =
+      CardMask.of(
+          List.of(
+              new Card(Kind.TWO, Suit.HEARTS),
+              new Card(Kind.SEVEN, Suit.HEARTS),
+              new Card(Kind.QUEEN, Suit.CLUBS)));
+
+  private final HandEvaluator handEvaluator = new BitmaskHandEvaluator();
+
+  @Test
+  void prepare_shouldRankTheBoardAheadOfTheFirstHoldingOnTheExecutor() {
+    HandEvaluator evaluator = spy(new BitmaskHandEvaluator());
+    List<Runnable> tasks = new ArrayList<>();
+    BoardRanksCache underTest = new BoardRanksCache(evaluator, 1, tasks::add);
+    long renamedFlop =
+        CardMask.of(
+            List.of(
+                new Card(Kind.TWO, Suit.SPADES),
+                new Card(Kind.SEVEN, Suit.SPADES),
+                new Card(Kind.QUEEN, Suit.DIAMONDS)));
+
+    CompletableFuture<Void> prepared = underTest.prepare(renamedFlop);
+
+    assertThat(prepared).isNotDone();
+    tasks.forEach(Runnable::run);
+    assertThat(prepared).isDone();
+    clearInvocations(evaluator);
+    new HandPotentialCalculator(underTest).calculate(ACE_KING_OF_HEARTS, FLUSH_DRAW_FLOP);
+    new OutsCalculator(underTest).calculate(ACE_KING_OF_HEARTS, FLUSH_DRAW_FLOP);
+    verify(evaluator, never()).withBoard(anyLong());
+    verify(evaluator, never()).evaluate(anyLong());
+  }
+
+  @Test
+  void prepare_shouldSkipBoardsDroppedFromTheCacheBeforeTheExecutorGotToThem() {
+    List<Runnable> tasks = new ArrayList<>();
+    BoardRanksCache underTest = new BoardRanksCache(handEvaluator, 1, tasks::add);
+    HandPotentialCalculator calculator = new HandPotentialCalculator(underTest);
+    long turn = FLUSH_DRAW_FLOP | CardMask.of(new Card(Kind.KING, Suit.SPADES));
+
+    CompletableFuture<Void> prepared = underTest.prepare(turn);
+    // other turns of spades, from the three on, until the prepared one is dropped
+    for (int board = 0; board < BoardRanksCache.BOARDS_PER_TABLE; board++) {
+      long otherTurn = CardMask.of(new Card(Kind.values()[board + 1], Suit.SPADES));
+      calculator.calculate(ACE_KING_OF_HEARTS, FLUSH_DRAW_FLOP | otherTurn);
+    }
+    tasks.forEach(Runnable::run);
+
+    assertThat(prepared).isCompletedExceptionally();
+    HandPotentialCalculator fresh =
+        new HandPotentialCalculator(new BoardRanksCache(handEvaluator, 1));
+    assertThat(calculator.calculate(ACE_KING_OF_HEARTS, turn).getHandStrength())
+        .isEqualTo(fresh.calculate(ACE_KING_OF_HEARTS, turn).getHandStrength());
+  }
+
+  @Test
+  void prepare_shouldKeepTheBoardsOfEveryTable() {
+    List<Runnable> tasks = new ArrayList<>();
+    BoardRanksCache underTest = new BoardRanksCache(handEvaluator, 2, tasks::add);
+    HandPotentialCalculator calculator = new HandPotentialCalculator(underTest);
+    long turn = FLUSH_DRAW_FLOP | CardMask.of(new Card(Kind.KING, Suit.SPADES));
+
+    CompletableFuture<Void> prepared = underTest.prepare(turn);
+    // the flop and turn of the other table
+    calculator.calculate(ACE_KING_OF_HEARTS, FLUSH_DRAW_FLOP);
+    calculator.calculate(
+        ACE_KING_OF_HEARTS, FLUSH_DRAW_FLOP | CardMask.of(new Card(Kind.THREE, Suit.SPADES)));
+    tasks.forEach(Runnable::run);
+
+    assertThat(prepared).isCompleted();
+  }
+
+  @Test
+  void prepare_shouldRequireAFlopTurnOrRiver() {
+    BoardRanksCache underTest = new BoardRanksCache(handEvaluator, 1, Runnable::run);
+
+    assertThatThrownBy(() -> underTest.prepare(CardMask.of(new Card(Kind.TWO, Suit.HEARTS))))
+        .isInstanceOf(InvalidAmountOfCardsException.class);
+  }
+}
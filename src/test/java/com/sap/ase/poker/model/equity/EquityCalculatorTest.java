@@ -0,0 +1,130 @@
+package com.sap.ase.poker.model.equity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+import com.sap.ase.poker.model.deck.Card;
+import com.sap.ase.poker.model.deck.CardMask;
+import com.sap.ase.poker.model.deck.Kind;
+import com.sap.ase.poker.model.deck.Suit;
+import com.sap.ase.poker.model.evaluator.BitmaskHandEvaluator;
+import com.sap.ase.poker.model.evaluator.HandEvaluator;
+import com.sap.ase.poker.model.evaluator.OmahaHandEvaluator;
+import com.sap.ase.poker.model.rules.InvalidAmountOfCardsException;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class EquityCalculatorTest {
+
+  private static final long ACES =
+      CardMask.of(List.of(new Card(Kind.ACE, Suit.SPADES), new Card(Kind.ACE, Suit.HEARTS)));
+  private static final long KINGS =
+      CardMask.of(List.of(new Card(Kind.KING, Suit.CLUBS), new Card(Kind.KING, Suit.DIAMONDS)));
+  private static final long FLOP =
+      CardMask.of(
+          List.of(
+              new Card(Kind.KING, Suit.HEARTS),
+              new Card(Kind.SEVEN, Suit.CLUBS),
+              new Card(Kind.TWO, Suit.DIAMONDS)));
+
+  private final BitmaskHandEvaluator handEvaluator = new BitmaskHandEvaluator();
+
+  private final EquityCalculator underTest = new EquityCalculator(handEvaluator);
+
+  @Test
+  void calculate_shouldEnumerateAllRunoutsPreflop() {
+    List<Equity> equities = underTest.calculate(new long[] {ACES, KINGS}, 0L);
+
+    assertThat(equities.get(0).getEquity()).isCloseTo(0.81, within(0.01));
+    assertThat(equities.get(0).getEquity() + equities.get(1).getEquity())
+        .isCloseTo(1.0, within(1e-9));
+  }
+
+  @Test
+  void calculate_shouldCountTheRiversThatWin() {
+    long turn = FLOP | CardMask.of(List.of(new Card(Kind.THREE, Suit.SPADES)));
+
+    List<Equity> equities = underTest.calculate(new long[] {ACES, KINGS}, turn);
+
+    // only the ace of clubs and the ace of diamonds save the aces
+    assertThat(equities.get(0).getWin()).isEqualTo(2.0 / 44);
+    assertThat(equities.get(1).getWin()).isEqualTo(42.0 / 44);
+    assertThat(equities.get(0).getTie()).isZero();
+  }
+
+  @Test
+  void calculate_shouldSplitTiesBetweenThePlayers() {
+    long royalFlush =
+        CardMask.of(
+            List.of(
+                new Card(Kind.ACE, Suit.DIAMONDS),
+                new Card(Kind.KING, Suit.DIAMONDS),
+                new Card(Kind.QUEEN, Suit.DIAMONDS),
+                new Card(Kind.JACK, Suit.DIAMONDS),
+                new Card(Kind.TEN, Suit.DIAMONDS)));
+    long queens =
+        CardMask.of(List.of(new Card(Kind.QUEEN, Suit.CLUBS), new Card(Kind.QUEEN, Suit.HEARTS)));
+    long sevens =
+        CardMask.of(List.of(new Card(Kind.SEVEN, Suit.CLUBS), new Card(Kind.SEVEN, Suit.HEARTS)));
+
+    List<Equity> equities = underTest.calculate(new long[] {ACES, queens, sevens}, royalFlush);
+
+    assertThat(equities)
+        .allSatisfy(
+            equity -> {
+              assertThat(equity.getWin()).isZero();
+              assertThat(equity.getTie()).isEqualTo(1.0);
+              assertThat(equity.getEquity()).isCloseTo(1.0 / 3, within(1e-9));
+            });
+  }
+
+  @Test
+  void calculate_shouldUseTheEvaluatorOfEachPlayer() {
+    OmahaHandEvaluator omahaHandEvaluator = new OmahaHandEvaluator();
+    long fourHearts =
+        CardMask.of(
+            List.of(
+                new Card(Kind.NINE, Suit.HEARTS),
+                new Card(Kind.EIGHT, Suit.HEARTS),
+                new Card(Kind.FOUR, Suit.HEARTS),
+                new Card(Kind.THREE, Suit.HEARTS)));
+    long aces =
+        CardMask.of(
+            List.of(
+                new Card(Kind.ACE, Suit.SPADES),
+                new Card(Kind.ACE, Suit.HEARTS),
+                new Card(Kind.SIX, Suit.SPADES),
+                new Card(Kind.FIVE, Suit.CLUBS)));
+    long board =
+        CardMask.of(
+            List.of(
+                new Card(Kind.TWO, Suit.HEARTS),
+                new Card(Kind.TEN, Suit.HEARTS),
+                new Card(Kind.KING, Suit.HEARTS),
+                new Card(Kind.JACK, Suit.CLUBS),
+                new Card(Kind.SEVEN, Suit.DIAMONDS)));
+    HandEvaluator[] evaluators = {
+      omahaHandEvaluator.forHoleCards(fourHearts), omahaHandEvaluator.forHoleCards(aces)
+    };
+
+    List<Equity> equities = underTest.calculate(new long[] {fourHearts, aces}, evaluators, board);
+
+    // a flush with two hole cards and three board cards
+    assertThat(equities.get(0).getWin()).isEqualTo(1.0);
+  }
+
+  @Test
+  void calculate_shouldNotAllowMoreThanFiveCommunityCards() {
+    long tooMany =
+        FLOP
+            | CardMask.of(
+                List.of(
+                    new Card(Kind.THREE, Suit.SPADES),
+                    new Card(Kind.FOUR, Suit.SPADES),
+                    new Card(Kind.FIVE, Suit.SPADES)));
+
+    assertThatThrownBy(() -> underTest.calculate(new long[] {ACES, KINGS}, tooMany))
+        .isInstanceOf(InvalidAmountOfCardsException.class);
+  }
+}
@@ -0,0 +1,145 @@
+package com.sap.ase.poker.model.equity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+import com.sap.ase.poker.model.deck.Card;
+import com.sap.ase.poker.model.deck.CardMask;
+import com.sap.ase.poker.model.deck.Kind;
+import com.sap.ase.poker.model.deck.Suit;
+import com.sap.ase.poker.model.evaluator.BitmaskHandEvaluator;
+import com.sap.ase.poker.model.evaluator.HandEvaluator;
+import com.sap.ase.poker.model.range.Combos;
+import com.sap.ase.poker.model.rules.InvalidAmountOfCardsException;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class HandPotentialCalculatorTest {
+
+  private static final long ACE_KING_OF_HEARTS =
+      CardMask.of(List.of(new Card(Kind.ACE, Suit.HEARTS), new Card(Kind.KING, Suit.HEARTS)));
+  private static final long FLUSH_DRAW_FLOP =
+      CardMask.of(
+          List.of(
+              new Card(Kind.TWO, Suit.HEARTS),
+              new Card(Kind.SEVEN, Suit.HEARTS),
+              new Card(Kind.QUEEN, Suit.CLUBS)));
+
+  private final HandEvaluator handEvaluator = new BitmaskHandEvaluator();
+
+  private final HandPotentialCalculator underTest =
+      new HandPotentialCalculator(new BoardRanksCache(handEvaluator, 1));
+
+  @Test
+  void calculate_shouldEqualTheCountsOverAllOpponentsAndRunoutsOnTheFlop() {
+    assertSamePotential(ACE_KING_OF_HEARTS, FLUSH_DRAW_FLOP);
+  }
+
+  @Test
+  void calculate_shouldEqualTheCountsOverAllOpponentsAndRunoutsOnTheTurn() {
+    long turn = FLUSH_DRAW_FLOP | CardMask.of(new Card(Kind.KING, Suit.SPADES));
+    long sevens =
+        CardMask.of(List.of(new Card(Kind.SEVEN, Suit.CLUBS), new Card(Kind.SEVEN, Suit.SPADES)));
+
+    assertSamePotential(ACE_KING_OF_HEARTS, turn);
+    assertSamePotential(sevens, turn);
+  }
+
+  @Test
+  void calculate_shouldHaveNoPotentialOnTheRiver() {
+    long river =
+        CardMask.of(
+            List.of(
+                new Card(Kind.QUEEN, Suit.HEARTS),
+                new Card(Kind.JACK, Suit.HEARTS),
+                new Card(Kind.TEN, Suit.HEARTS),
+                new Card(Kind.TWO, Suit.CLUBS),
+                new Card(Kind.THREE, Suit.SPADES)));
+
+    HandPotential potential = underTest.calculate(ACE_KING_OF_HEARTS, river);
+
+    assertThat(potential.getHandStrength()).isEqualTo(1.0);
+    assertThat(potential.getPositivePotential()).isZero();
+    assertThat(potential.getNegativePotential()).isZero();
+    assertThat(potential.getEffectiveHandStrength()).isEqualTo(1.0);
+  }
+
+  @Test
+  void calculate_shouldShareTheResultOfAllSuitRenamings() {
+    long aceKingOfSpades =
+        CardMask.of(List.of(new Card(Kind.ACE, Suit.SPADES), new Card(Kind.KING, Suit.SPADES)));
+    long renamedFlop =
+        CardMask.of(
+            List.of(
+                new Card(Kind.TWO, Suit.SPADES),
+                new Card(Kind.SEVEN, Suit.SPADES),
+                new Card(Kind.QUEEN, Suit.DIAMONDS)));
+
+    HandPotential potential = underTest.calculate(ACE_KING_OF_HEARTS, FLUSH_DRAW_FLOP);
+
+    assertThat(underTest.calculate(aceKingOfSpades, renamedFlop)).isSameAs(potential);
+  }
+
+  @Test
+  void calculate_shouldRequireTwoHoleCardsAndAFlopTurnOrRiverWithoutThem() {
+    long twoOfHearts = CardMask.of(new Card(Kind.TWO, Suit.HEARTS));
+    long turnWithTheAceOfHearts = FLUSH_DRAW_FLOP | CardMask.of(new Card(Kind.ACE, Suit.HEARTS));
+
+    assertThatThrownBy(() -> underTest.calculate(ACE_KING_OF_HEARTS, twoOfHearts))
+        .isInstanceOf(InvalidAmountOfCardsException.class);
+    assertThatThrownBy(() -> underTest.calculate(twoOfHearts, FLUSH_DRAW_FLOP))
+        .isInstanceOf(InvalidAmountOfCardsException.class);
+    assertThatThrownBy(() -> underTest.calculate(ACE_KING_OF_HEARTS, turnWithTheAceOfHearts))
+        .isInstanceOf(InvalidAmountOfCardsException.class);
+  }
+
+  /* against the straightforward count of every opponent hand on every runout */
+  private void assertSamePotential(long holeCards, long board) {
+    long[][] transitions = new long[3][3];
+    long[] now = new long[3];
+    for (int combo = 0; combo < Combos.COMBOS; combo++) {
+      long opponent = Combos.holeCards(combo);
+      if ((opponent & (holeCards | board)) != 0) {
+        continue;
+      }
+      int state = state(holeCards, opponent, board);
+      now[state]++;
+      long[] deck = EquityCalculator.undealtCards(new long[] {holeCards, opponent}, board);
+      for (int turn = 0; turn < deck.length; turn++) {
+        if (CardMask.size(board) == 4) {
+          transitions[state][state(holeCards, opponent, board | deck[turn])]++;
+          continue;
+        }
+        for (int river = turn + 1; river < deck.length; river++) {
+          long runout = board | deck[turn] | deck[river];
+          transitions[state][state(holeCards, opponent, runout)]++;
+        }
+      }
+    }
+    double handStrength = (now[0] + now[1] / 2.0) / (now[0] + now[1] + now[2]);
+    double positivePotential =
+        (transitions[2][0] + transitions[2][1] / 2.0 + transitions[1][0] / 2.0)
+            / (total(transitions[2]) + total(transitions[1]) / 2.0);
+    double negativePotential =
+        (transitions[0][2] + transitions[1][2] / 2.0 + transitions[0][1] / 2.0)
+            / (total(transitions[0]) + total(transitions[1]) / 2.0);
+
+    HandPotential potential = underTest.calculate(holeCards, board);
+
+    assertThat(potential.getHandStrength()).isCloseTo(handStrength, within(1e-12));
+    assertThat(potential.getPositivePotential()).isCloseTo(positivePotential, within(1e-12));
+    assertThat(potential.getNegativePotential()).isCloseTo(negativePotential, within(1e-12));
+  }
+
+  /* 0 if the hole cards are ahead of the opponent, 1 if tied, 2 if behind */
+  private int state(long holeCards, long opponent, long board) {
+    int ours = handEvaluator.evaluate(holeCards | board);
+    int theirs = handEvaluator.evaluate(opponent | board);
+    return ours > theirs ? 0 : ours == theirs ? 1 : 2;
+  }
+
+  private static long total(long[] transitions) {
+    return transitions[0] + transitions[1] + transitions[2];
+  }
+}
@@ -0,0 +1,131 @@
+package com.sap.ase.poker.model.equity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+
+class IcmCalculatorTest {
+
+  private static final int[] STACKS = {5000, 3000, 1500, 800, 700, 2000, 4100};
+  private static final double[] PAYOUTS = {50, 30, 20};
+
+  private final IcmCalculator underTest = new IcmCalculator();
+
+  @Test
+  void calculate_shouldSplitHeadsUpPayoutsByTheChips() {
+    double[] equities = underTest.calculate(new int[] {3000, 1000}, new double[] {70, 30});
+
+    assertThat(equities[0]).isCloseTo(0.75 * 70 + 0.25 * 30, within(1e-12));
+    assertThat(equities[1]).isCloseTo(0.25 * 70 + 0.75 * 30, within(1e-12));
+  }
+
+  @Test
+  void calculate_shouldEqualTheChanceOfEveryFinishingOrder() {
+    double[] expected = new double[STACKS.length];
+    addFinishingOrders(new boolean[STACKS.length], 0, 1, expected);
+
+    double[] equities = underTest.calculate(STACKS, PAYOUTS);
+
+    for (int player = 0; player < STACKS.length; player++) {
+      assertThat(equities[player]).isCloseTo(expected[player], within(1e-9));
+    }
+    assertThat(Arrays.stream(equities).sum()).isCloseTo(100, within(1e-9));
+  }
+
+  @Test
+  void calculate_shouldLeaveTheChipShareWhenTheWinnerTakesAll() {
+    double[] equities = underTest.calculate(STACKS, new double[] {100});
+
+    assertThat(equities[0]).isCloseTo(100.0 * 5000 / 17_100, within(1e-9));
+  }
+
+  @Test
+  void calculate_shouldPayEveryPlaceOfTwelvePlayers() {
+    int[] stacks = new int[12];
+    double[] payouts = new double[12];
+    Arrays.fill(stacks, 1000);
+    for (int place = 0; place < payouts.length; place++) {
+      payouts[place] = payouts.length - place;
+    }
+
+    double[] equities = underTest.calculate(stacks, payouts);
+
+    // equal stacks take every place equally often
+    assertThat(equities).allSatisfy(equity -> assertThat(equity).isCloseTo(6.5, within(1e-9)));
+  }
+
+  @Test
+  void calculate_shouldLeaveLargerFieldsToTheEstimate() {
+    int[] stacks = new int[IcmCalculator.MAX_EXACT_PLAYERS + 1];
+    Arrays.fill(stacks, 1000);
+
+    assertThatThrownBy(() -> underTest.calculate(stacks, PAYOUTS))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void calculate_shouldRequireChipsAndPayouts() {
+    assertThatThrownBy(() -> underTest.calculate(new int[] {1000, 0}, PAYOUTS))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> underTest.calculate(STACKS, new double[0]))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> underTest.calculate(STACKS, new double[] {100, -10}))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void estimate_shouldComeCloseToTheCalculatedEquities() {
+    double[] expected = underTest.calculate(STACKS, PAYOUTS);
+
+    double[] estimates = underTest.estimate(STACKS, PAYOUTS, SampleBudget.samples(400_000));
+
+    for (int player = 0; player < STACKS.length; player++) {
+      assertThat(estimates[player]).isCloseTo(expected[player], within(0.15));
+    }
+  }
+
+  @Test
+  void estimate_shouldRepeatItsEstimatesForASeed() {
+    SampleBudget budget = SampleBudget.samples(50_000).withSeed(42);
+
+    double[] estimates = underTest.estimate(STACKS, PAYOUTS, budget);
+
+    assertThat(underTest.estimate(STACKS, PAYOUTS, budget)).isEqualTo(estimates);
+  }
+
+  @Test
+  void estimate_shouldStopOnceWithinTheMargin() {
+    double[] expected = underTest.calculate(STACKS, PAYOUTS);
+    SampleBudget budget = SampleBudget.samples(Long.MAX_VALUE).untilMargin(0.005);
+
+    double[] estimates = underTest.estimate(STACKS, PAYOUTS, budget);
+
+    for (int player = 0; player < STACKS.length; player++) {
+      assertThat(estimates[player]).isCloseTo(expected[player], within(1.0));
+    }
+  }
+
+  /* the naive recursion over all finishing orders */
+  private static void addFinishingOrders(
+      boolean[] placed, int place, double chance, double[] equities) {
+    if (place == PAYOUTS.length) {
+      return;
+    }
+    double chipsLeft = 0;
+    for (int player = 0; player < STACKS.length; player++) {
+      chipsLeft += placed[player] ? 0 : STACKS[player];
+    }
+    for (int player = 0; player < STACKS.length; player++) {
+      if (!placed[player]) {
+        double next = chance * STACKS[player] / chipsLeft;
+        equities[player] += next * PAYOUTS[place];
+        placed[player] = true;
+        addFinishingOrders(placed, place + 1, next, equities);
+        placed[player] = false;
+      }
+    }
+  }
+}
@@ -0,0 +1,104 @@
+package com.sap.ase.poker.model.equity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+import com.sap.ase.poker.model.deck.Card;
+import com.sap.ase.poker.model.deck.CardMask;
+import com.sap.ase.poker.model.deck.Kind;
+import com.sap.ase.poker.model.deck.Suit;
+import com.sap.ase.poker.model.evaluator.BitmaskHandEvaluator;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class MonteCarloEquityCalculatorTest {
+
+  private static final long[] THREE_WAY = {
+    CardMask.of(List.of(new Card(Kind.ACE, Suit.SPADES), new Card(Kind.ACE, Suit.HEARTS))),
+    CardMask.of(List.of(new Card(Kind.KING, Suit.CLUBS), new Card(Kind.KING, Suit.DIAMONDS))),
+    CardMask.of(List.of(new Card(Kind.SEVEN, Suit.CLUBS), new Card(Kind.EIGHT, Suit.CLUBS)))
+  };
+
+  private final BitmaskHandEvaluator handEvaluator = new BitmaskHandEvaluator();
+
+  private final MonteCarloEquityCalculator underTest =
+      new MonteCarloEquityCalculator(handEvaluator);
+
+  @Test
+  void calculate_shouldEstimateTheExactEquitiesWithinTheStandardError() {
+    List<Equity> exact = new EquityCalculator(handEvaluator).calculate(THREE_WAY, 0L);
+
+    List<EstimatedEquity> estimates =
+        underTest.calculate(THREE_WAY, 0L, SampleBudget.samples(200_000));
+
+    for (int player = 0; player < THREE_WAY.length; player++) {
+      EstimatedEquity estimate = estimates.get(player);
+      assertThat(estimate.getSamples()).isEqualTo(200_000);
+      assertThat(estimate.getStandardError()).isPositive().isLessThan(0.002);
+      assertThat(estimate.getEquity())
+          .isCloseTo(exact.get(player).getEquity(), within(4 * estimate.getStandardError()));
+    }
+  }
+
+  @Test
+  void calculate_shouldBeReproducibleFromTheSeed() {
+    SampleBudget budget = SampleBudget.samples(50_000).withSeed(42);
+
+    List<EstimatedEquity> first = underTest.calculate(THREE_WAY, 0L, budget);
+    List<EstimatedEquity> second = underTest.calculate(THREE_WAY, 0L, budget);
+    List<EstimatedEquity> otherSeed = underTest.calculate(THREE_WAY, 0L, budget.withSeed(43));
+
+    assertThat(second)
+        .extracting(Equity::getEquity)
+        .containsExactlyElementsOf(first.stream().map(Equity::getEquity).toList());
+    assertThat(otherSeed.get(0).getEquity()).isNotEqualTo(first.get(0).getEquity());
+  }
+
+  @Test
+  void calculate_shouldStopOnceTheMarginIsReached() {
+    double margin = 0.005;
+
+    List<EstimatedEquity> estimates =
+        underTest.calculate(THREE_WAY, 0L, SampleBudget.samples(10_000_000).untilMargin(margin));
+
+    assertThat(estimates.get(0).getSamples()).isLessThan(10_000_000);
+    assertThat(estimates)
+        .allSatisfy(estimate -> assertThat(1.96 * estimate.getStandardError()).isLessThan(margin));
+  }
+
+  @Test
+  void calculate_shouldRunAtLeastOneRoundWithinTheDuration() {
+    List<EstimatedEquity> estimates =
+        underTest.calculate(THREE_WAY, 0L, SampleBudget.duration(Duration.ZERO));
+
+    assertThat(estimates.get(0).getSamples())
+        .isEqualTo(
+            MonteCarloEquityCalculator.ROUND_BATCHES * MonteCarloEquityCalculator.BATCH_SAMPLES);
+  }
+
+  @Test
+  void calculate_shouldBeExactOnTheRiver() {
+    long river =
+        CardMask.of(
+            List.of(
+                new Card(Kind.KING, Suit.HEARTS),
+                new Card(Kind.SEVEN, Suit.HEARTS),
+                new Card(Kind.TWO, Suit.DIAMONDS),
+                new Card(Kind.THREE, Suit.SPADES),
+                new Card(Kind.NINE, Suit.SPADES)));
+
+    List<EstimatedEquity> estimates =
+        underTest.calculate(THREE_WAY, river, SampleBudget.samples(1000));
+
+    assertThat(estimates.get(1).getEquity()).isEqualTo(1.0);
+    assertThat(estimates.get(1).getStandardError()).isZero();
+    assertThat(estimates.get(1).getSamples()).isEqualTo(1);
+  }
+
+  @Test
+  void samples_shouldRequireAtLeastOneSample() {
+    assertThatThrownBy(() -> SampleBudget.samples(0)).isInstanceOf(IllegalArgumentException.class);
+  }
+}
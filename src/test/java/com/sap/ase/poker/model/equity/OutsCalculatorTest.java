@@ -0,0 +1,128 @@
+package com.sap.ase.poker.model.equity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+import com.sap.ase.poker.model.deck.Card;
+import com.sap.ase.poker.model.deck.CardMask;
+import com.sap.ase.poker.model.deck.Kind;
+import com.sap.ase.poker.model.deck.Suit;
+import com.sap.ase.poker.model.evaluator.BitmaskHandEvaluator;
+import com.sap.ase.poker.model.range.Combos;
+import com.sap.ase.poker.model.rules.InvalidAmountOfCardsException;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class OutsCalculatorTest {
+
+  private static final long ACE_KING_OF_HEARTS =
+      CardMask.of(List.of(new Card(Kind.ACE, Suit.HEARTS), new Card(Kind.KING, Suit.HEARTS)));
+  private static final long FIVES =
+      CardMask.of(List.of(new Card(Kind.FIVE, Suit.SPADES), new Card(Kind.FIVE, Suit.HEARTS)));
+  private static final long HEARTS_FLOP =
+      CardMask.of(
+          List.of(
+              new Card(Kind.SEVEN, Suit.HEARTS),
+              new Card(Kind.TWO, Suit.HEARTS),
+              new Card(Kind.NINE, Suit.CLUBS)));
+  private static final long DRY_FLOP =
+      CardMask.of(
+          List.of(
+              new Card(Kind.KING, Suit.CLUBS),
+              new Card(Kind.SEVEN, Suit.DIAMONDS),
+              new Card(Kind.TWO, Suit.SPADES)));
+
+  private final BitmaskHandEvaluator handEvaluator = new BitmaskHandEvaluator();
+
+  private final OutsCalculator underTest =
+      new OutsCalculator(new BoardRanksCache(handEvaluator, 1));
+
+  @Test
+  void calculate_shouldCountTheFlushAndTheOvercardsOfAFlushDraw() {
+    Outs outs = underTest.calculate(ACE_KING_OF_HEARTS, HEARTS_FLOP);
+
+    // neither a seven nor a nine, that pair the board for every hand alike
+    assertThat(outs.getCards())
+        .hasSize(15)
+        .allMatch(
+            card ->
+                card.getSuit() == Suit.HEARTS
+                    || card.getKind() == Kind.ACE
+                    || card.getKind() == Kind.KING);
+  }
+
+  @Test
+  void calculate_shouldCountTheSetOfASmallPocketPair() {
+    Outs outs = underTest.calculate(FIVES, DRY_FLOP);
+
+    assertThat(outs.getCards())
+        .containsExactlyInAnyOrder(
+            new Card(Kind.FIVE, Suit.CLUBS), new Card(Kind.FIVE, Suit.DIAMONDS));
+  }
+
+  @Test
+  void calculate_shouldShareTheOutsOfAllSuitRenamingsInTheirOwnSuits() {
+    long aceKingOfSpades =
+        CardMask.of(List.of(new Card(Kind.ACE, Suit.SPADES), new Card(Kind.KING, Suit.SPADES)));
+    long spadesFlop =
+        CardMask.of(
+            List.of(
+                new Card(Kind.SEVEN, Suit.SPADES),
+                new Card(Kind.TWO, Suit.SPADES),
+                new Card(Kind.NINE, Suit.DIAMONDS)));
+    Outs hearts = underTest.calculate(ACE_KING_OF_HEARTS, HEARTS_FLOP);
+
+    Outs spades = underTest.calculate(aceKingOfSpades, spadesFlop);
+
+    assertThat(spades.getEquity()).isSameAs(hearts.getEquity());
+    assertThat(spades.getCards())
+        .hasSize(15)
+        .contains(new Card(Kind.THREE, Suit.SPADES), new Card(Kind.ACE, Suit.HEARTS))
+        .doesNotContain(new Card(Kind.THREE, Suit.HEARTS));
+  }
+
+  @Test
+  void calculate_shouldEnumerateTheEquityAgainstAnyTwoUnseenCards() {
+    long turn = HEARTS_FLOP | CardMask.of(new Card(Kind.THREE, Suit.SPADES));
+    EquityCalculator equityCalculator = new EquityCalculator(handEvaluator);
+    double equities = 0;
+    int opponents = 0;
+    for (int combo = 0; combo < Combos.COMBOS; combo++) {
+      long opponent = Combos.holeCards(combo);
+      if ((opponent & (ACE_KING_OF_HEARTS | turn)) == 0) {
+        long[] holeCards = {ACE_KING_OF_HEARTS, opponent};
+        equities += equityCalculator.calculate(holeCards, turn).get(0).getEquity();
+        opponents++;
+      }
+    }
+
+    Outs outs = underTest.calculate(ACE_KING_OF_HEARTS, turn);
+
+    assertThat(outs.getEquity().getEquity()).isCloseTo(equities / opponents, within(1e-9));
+  }
+
+  @Test
+  void calculate_shouldOnlyCountOutsOnTheFlopAndTheTurn() {
+    long river =
+        DRY_FLOP
+            | CardMask.of(
+                List.of(new Card(Kind.THREE, Suit.HEARTS), new Card(Kind.FOUR, Suit.HEARTS)));
+
+    assertThatThrownBy(() -> underTest.calculate(FIVES, 0L))
+        .isInstanceOf(InvalidAmountOfCardsException.class);
+    assertThatThrownBy(() -> underTest.calculate(FIVES, river))
+        .isInstanceOf(InvalidAmountOfCardsException.class);
+  }
+
+  @Test
+  void calculate_shouldRejectHoleCardsOnTheBoard() {
+    long kingOfClubs = CardMask.of(new Card(Kind.KING, Suit.CLUBS));
+    long aceKingOfClubs = kingOfClubs | CardMask.of(new Card(Kind.ACE, Suit.CLUBS));
+
+    assertThatThrownBy(() -> underTest.calculate(kingOfClubs | FIVES, DRY_FLOP))
+        .isInstanceOf(InvalidAmountOfCardsException.class);
+    assertThatThrownBy(() -> underTest.calculate(aceKingOfClubs, DRY_FLOP))
+        .isInstanceOf(InvalidAmountOfCardsException.class);
+  }
+}
@@ -0,0 +1,169 @@
+package com.sap.ase.poker.model.equity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.sap.ase.poker.model.deck.Card;
+import com.sap.ase.poker.model.deck.CardMask;
+import com.sap.ase.poker.model.deck.Kind;
+import com.sap.ase.poker.model.deck.Suit;
+import com.sap.ase.poker.model.range.PreflopMatchups;
+import com.sap.ase.poker.model.rules.InvalidAmountOfCardsException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class PreflopEquityCacheTest {
+
+  private static final long[] THREE_WAY = {
+    hand(Kind.ACE, Suit.SPADES, Kind.ACE, Suit.HEARTS),
+    hand(Kind.KING, Suit.CLUBS, Kind.QUEEN, Suit.CLUBS),
+    hand(Kind.SEVEN, Suit.SPADES, Kind.TWO, Suit.DIAMONDS)
+  };
+
+  // the same hands in another order with the suits renamed
+  private static final long[] THREE_WAY_RENAMED = {
+    hand(Kind.SEVEN, Suit.CLUBS, Kind.TWO, Suit.HEARTS),
+    hand(Kind.ACE, Suit.CLUBS, Kind.ACE, Suit.DIAMONDS),
+    hand(Kind.KING, Suit.SPADES, Kind.QUEEN, Suit.SPADES)
+  };
+
+  @TempDir Path directory;
+
+  private final MonteCarloEquityCalculator monteCarloEquityCalculator =
+      mock(MonteCarloEquityCalculator.class);
+
+  private Path path;
+  private PreflopEquityCache underTest;
+
+  @BeforeEach
+  void setUp() {
+    // an equity per hand class, which no renaming of the suits changes
+    when(monteCarloEquityCalculator.calculate(any(long[].class), anyLong(), any()))
+        .thenAnswer(
+            invocation ->
+                Arrays.stream((long[]) invocation.getArgument(0))
+                    .mapToObj(
+                        holeCards ->
+                            new EstimatedEquity(0, 0, classEquity(holeCards), 0.001, 1000))
+                    .toList());
+    path = directory.resolve("preflop-equities.dat");
+    underTest = new PreflopEquityCache(monteCarloEquityCalculator, path, 1000);
+  }
+
+  @AfterEach
+  void tearDown() throws IOException {
+    underTest.close();
+  }
+
+  @Test
+  void equities_shouldOnlyOpenTheFileOnTheFirstLookup() throws Exception {
+    assertThat(path).doesNotExist();
+
+    underTest.equities(THREE_WAY).get();
+
+    assertThat(path).exists();
+  }
+
+  @Test
+  void equities_shouldSimulateAMissAndAppendIt() throws Exception {
+    List<EstimatedEquity> equities = underTest.equities(THREE_WAY).get();
+
+    assertThat(equities)
+        .extracting(Equity::getEquity)
+        .containsExactly(
+            classEquity(THREE_WAY[0]), classEquity(THREE_WAY[1]), classEquity(THREE_WAY[2]));
+    assertThat(Files.size(path)).isEqualTo(PreflopEquityCache.RECORD_BYTES);
+  }
+
+  @Test
+  void equities_shouldShareOneRecordForAllOrdersAndSuits() throws Exception {
+    underTest.equities(THREE_WAY).get();
+
+    List<EstimatedEquity> equities = underTest.equities(THREE_WAY_RENAMED).join();
+
+    assertThat(equities.get(1).getEquity()).isEqualTo(classEquity(THREE_WAY[0]));
+    verify(monteCarloEquityCalculator, times(1)).calculate(any(long[].class), anyLong(), any());
+    assertThat(Files.size(path)).isEqualTo(PreflopEquityCache.RECORD_BYTES);
+  }
+
+  @Test
+  void equities_shouldReadTheRecordsOfEarlierRuns() throws Exception {
+    underTest.equities(THREE_WAY).get();
+    underTest.close();
+    underTest = new PreflopEquityCache(monteCarloEquityCalculator, path, 1000);
+
+    List<EstimatedEquity> equities = underTest.equities(THREE_WAY_RENAMED).get();
+
+    assertThat(equities.get(2).getEquity()).isCloseTo(classEquity(THREE_WAY[1]), within(1e-6));
+    assertThat(equities.get(2).getSamples()).isEqualTo(1000);
+    verify(monteCarloEquityCalculator, times(1)).calculate(any(long[].class), anyLong(), any());
+  }
+
+  @Test
+  void equities_shouldOverwriteARecordThatWasCutOff() throws Exception {
+    underTest.equities(THREE_WAY).get();
+    underTest.close();
+    Files.write(path, new byte[PreflopEquityCache.RECORD_BYTES / 2], StandardOpenOption.APPEND);
+    underTest = new PreflopEquityCache(monteCarloEquityCalculator, path, 1000);
+    long[] fourWay = Arrays.copyOf(THREE_WAY, 4);
+    fourWay[3] = hand(Kind.NINE, Suit.HEARTS, Kind.EIGHT, Suit.HEARTS);
+
+    underTest.equities(fourWay).get();
+
+    assertThat(underTest.equities(THREE_WAY).isDone()).isTrue();
+    assertThat(Files.size(path)).isEqualTo(2L * PreflopEquityCache.RECORD_BYTES);
+  }
+
+  @Test
+  void equities_shouldKeepTheEquitiesInMemoryIfTheFileCannotBeOpened() throws Exception {
+    underTest.close();
+    underTest = new PreflopEquityCache(monteCarloEquityCalculator, directory, 1000);
+
+    List<EstimatedEquity> equities = underTest.equities(THREE_WAY).get();
+
+    assertThat(equities.get(0).getEquity()).isEqualTo(classEquity(THREE_WAY[0]));
+    assertThat(underTest.equities(THREE_WAY_RENAMED).isDone()).isTrue();
+    verify(monteCarloEquityCalculator, times(1)).calculate(any(long[].class), anyLong(), any());
+  }
+
+  @Test
+  void equities_shouldOnlyCacheThreeToSixHands() {
+    assertThatThrownBy(() -> underTest.equities(new long[] {THREE_WAY[0], THREE_WAY[1]}))
+        .isInstanceOf(IllegalArgumentException.class);
+    verify(monteCarloEquityCalculator, never()).calculate(any(long[].class), anyLong(), any());
+  }
+
+  @Test
+  void equities_shouldRequireTwoHoleCardsPerHandWithoutCommonOnes() {
+    long[] sharedAce = {
+      THREE_WAY[0], THREE_WAY[1], hand(Kind.ACE, Suit.SPADES, Kind.TWO, Suit.DIAMONDS)
+    };
+
+    assertThatThrownBy(() -> underTest.equities(sharedAce))
+        .isInstanceOf(InvalidAmountOfCardsException.class);
+  }
+
+  private static double classEquity(long holeCards) {
+    return (double) PreflopMatchups.handClass(holeCards) / PreflopMatchups.HAND_CLASSES;
+  }
+
+  private static long hand(Kind firstKind, Suit firstSuit, Kind secondKind, Suit secondSuit) {
+    return CardMask.of(List.of(new Card(firstKind, firstSuit), new Card(secondKind, secondSuit)));
+  }
+}
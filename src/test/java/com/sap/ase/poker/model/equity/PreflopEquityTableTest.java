@@ -0,0 +1,106 @@
+package com.sap.ase.poker.model.equity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.sap.ase.poker.model.deck.Card;
+import com.sap.ase.poker.model.deck.CardMask;
+import com.sap.ase.poker.model.deck.Kind;
+import com.sap.ase.poker.model.deck.Suit;
+import com.sap.ase.poker.model.evaluator.BitmaskHandEvaluator;
+import com.sap.ase.poker.model.range.PreflopMatchups;
+import com.sap.ase.poker.model.rules.InvalidAmountOfCardsException;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class PreflopEquityTableTest {
+
+  private static final long ACE_KING_OF_HEARTS =
+      CardMask.of(List.of(new Card(Kind.ACE, Suit.HEARTS), new Card(Kind.KING, Suit.HEARTS)));
+
+  private final EquityCalculator equityCalculator =
+      new EquityCalculator(new BitmaskHandEvaluator());
+
+  private final PreflopEquityTable underTest = PreflopEquityTable.headsUp();
+
+  @Test
+  void headsUp_shouldHoldAllMatchups() throws IOException {
+    try (var in = PreflopEquityTable.class.getResourceAsStream(PreflopEquityTable.RESOURCE)) {
+      assertThat(in.readAllBytes()).hasSize(3 * Integer.BYTES + PreflopMatchups.MATCHUPS * 8);
+    }
+  }
+
+  @Test
+  void calculate_shouldEqualTheEnumeratedEquitiesInEitherOrder() {
+    long queensOfHeartsAndSpades =
+        CardMask.of(List.of(new Card(Kind.QUEEN, Suit.HEARTS), new Card(Kind.QUEEN, Suit.SPADES)));
+
+    assertSameEquities(ACE_KING_OF_HEARTS, queensOfHeartsAndSpades);
+    assertSameEquities(queensOfHeartsAndSpades, ACE_KING_OF_HEARTS);
+  }
+
+  @Test
+  void calculate_shouldTellTheSuitsOfTheTwoHandsApart() {
+    long queenJackOfHearts =
+        CardMask.of(List.of(new Card(Kind.QUEEN, Suit.HEARTS), new Card(Kind.JACK, Suit.HEARTS)));
+    long queenJackOfSpades =
+        CardMask.of(List.of(new Card(Kind.QUEEN, Suit.SPADES), new Card(Kind.JACK, Suit.SPADES)));
+
+    double sameSuit = underTest.calculate(ACE_KING_OF_HEARTS, queenJackOfHearts).get(0).getEquity();
+    double otherSuit =
+        underTest.calculate(ACE_KING_OF_HEARTS, queenJackOfSpades).get(0).getEquity();
+
+    assertSameEquities(ACE_KING_OF_HEARTS, queenJackOfHearts);
+    assertThat(sameSuit).isGreaterThan(otherSuit);
+  }
+
+  @Test
+  void calculate_shouldRequireTwoHoleCardsPerHandWithoutCommonOnes() {
+    long aceOfHeartsAndTwoOfClubs =
+        CardMask.of(List.of(new Card(Kind.ACE, Suit.HEARTS), new Card(Kind.TWO, Suit.CLUBS)));
+    long threeCards = ACE_KING_OF_HEARTS | CardMask.of(new Card(Kind.TWO, Suit.CLUBS));
+
+    assertThatThrownBy(() -> underTest.calculate(ACE_KING_OF_HEARTS, aceOfHeartsAndTwoOfClubs))
+        .isInstanceOf(InvalidAmountOfCardsException.class);
+    assertThatThrownBy(() -> underTest.calculate(threeCards, aceOfHeartsAndTwoOfClubs))
+        .isInstanceOf(InvalidAmountOfCardsException.class);
+  }
+
+  @Test
+  void read_shouldReadWhatWasWritten() throws IOException {
+    long sevens =
+        CardMask.of(List.of(new Card(Kind.SEVEN, Suit.CLUBS), new Card(Kind.SEVEN, Suit.HEARTS)));
+    int key = PreflopMatchups.canonicalKey(ACE_KING_OF_HEARTS, sevens);
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    PreflopEquityTable.write(new long[] {PreflopEquityTable.entry(key, 100_000, 1_304)}, out);
+    PreflopEquityTable table = PreflopEquityTable.read(new ByteArrayInputStream(out.toByteArray()));
+
+    Equity equity = table.calculate(ACE_KING_OF_HEARTS, sevens).get(0);
+    assertThat(equity.getWin()).isEqualTo(100_000.0 / PreflopEquityTable.RUNOUTS);
+    assertThat(equity.getTie()).isEqualTo(1_304.0 / PreflopEquityTable.RUNOUTS);
+  }
+
+  @Test
+  void read_shouldRejectOtherFiles() {
+    byte[] notATable = new byte[3 * Integer.BYTES];
+
+    assertThatThrownBy(() -> PreflopEquityTable.read(new ByteArrayInputStream(notATable)))
+        .isInstanceOf(IllegalStateException.class);
+  }
+
+  private void assertSameEquities(long first, long second) {
+    List<Equity> expected = equityCalculator.calculate(new long[] {first, second}, 0L);
+
+    List<Equity> equities = underTest.calculate(first, second);
+
+    for (int hand = 0; hand < 2; hand++) {
+      assertThat(equities.get(hand).getWin()).isEqualTo(expected.get(hand).getWin());
+      assertThat(equities.get(hand).getTie()).isEqualTo(expected.get(hand).getTie());
+      assertThat(equities.get(hand).getEquity()).isEqualTo(expected.get(hand).getEquity());
+    }
+  }
+}
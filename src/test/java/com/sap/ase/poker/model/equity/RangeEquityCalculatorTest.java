@@ -0,0 +1,125 @@
+package com.sap.ase.poker.model.equity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+import com.sap.ase.poker.model.deck.Card;
+import com.sap.ase.poker.model.deck.CardMask;
+import com.sap.ase.poker.model.deck.Kind;
+import com.sap.ase.poker.model.deck.Suit;
+import com.sap.ase.poker.model.evaluator.BitmaskHandEvaluator;
+import com.sap.ase.poker.model.range.Combos;
+import com.sap.ase.poker.model.range.HandRange;
+import com.sap.ase.poker.model.range.InvalidRangeException;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class RangeEquityCalculatorTest {
+
+  private static final long TURN =
+      CardMask.of(
+          List.of(
+              new Card(Kind.ACE, Suit.HEARTS),
+              new Card(Kind.SEVEN, Suit.CLUBS),
+              new Card(Kind.TWO, Suit.DIAMONDS),
+              new Card(Kind.JACK, Suit.SPADES)));
+
+  private final BitmaskHandEvaluator handEvaluator = new BitmaskHandEvaluator();
+
+  private final EquityCalculator equityCalculator = new EquityCalculator(handEvaluator);
+
+  private final RangeEquityCalculator underTest = new RangeEquityCalculator(handEvaluator);
+
+  @Test
+  void calculate_shouldMatchTheWeightedEquitiesOfAllPairsOfHands() {
+    HandRange first = HandRange.parse("AA,KK,AKs,T9s:0.5");
+    HandRange second = HandRange.parse("QQ,JJ,AK:0.3,Ah5h");
+
+    List<EstimatedEquity> equities =
+        underTest.calculate(first, second, TURN, SampleBudget.samples(1));
+
+    double[] expected = equityOfAllPairs(first.without(TURN), second.without(TURN), TURN);
+    assertThat(equities.get(0).getWin()).isCloseTo(expected[0], within(1e-9));
+    assertThat(equities.get(0).getTie()).isCloseTo(expected[1], within(1e-9));
+    assertThat(equities.get(1).getEquity()).isCloseTo(1 - expected[2], within(1e-9));
+    assertThat(equities.get(0).getStandardError()).isZero();
+    assertThat(equities.get(0).getSamples()).isEqualTo(48);
+  }
+
+  @Test
+  void calculate_shouldEstimatePreflopEquitiesFromSampledBoards() {
+    long aces =
+        CardMask.of(List.of(new Card(Kind.ACE, Suit.SPADES), new Card(Kind.ACE, Suit.HEARTS)));
+    long kings =
+        CardMask.of(List.of(new Card(Kind.KING, Suit.CLUBS), new Card(Kind.KING, Suit.DIAMONDS)));
+    double exact = equityCalculator.calculate(new long[] {aces, kings}, 0L).get(0).getEquity();
+
+    EstimatedEquity equity =
+        underTest
+            .calculate(HandRange.of(aces), HandRange.of(kings), 0L, SampleBudget.samples(20_000))
+            .get(0);
+
+    assertThat(equity.getSamples()).isEqualTo(20_032);
+    assertThat(equity.getEquity()).isCloseTo(exact, within(4 * equity.getStandardError()));
+  }
+
+  @Test
+  void calculate_shouldBeReproducibleFromTheSeed() {
+    HandRange first = HandRange.parse("QQ+,AKs");
+    HandRange second = HandRange.parse("22+,A2s+");
+    SampleBudget budget = SampleBudget.samples(2000).withSeed(7);
+
+    double equity = underTest.calculate(first, second, 0L, budget).get(0).getEquity();
+
+    assertThat(underTest.calculate(first, second, 0L, budget).get(0).getEquity())
+        .isEqualTo(equity);
+  }
+
+  @Test
+  void calculate_shouldStopOnceTheMarginIsReached() {
+    List<EstimatedEquity> equities =
+        underTest.calculate(
+            HandRange.parse("QQ+,AKs"),
+            HandRange.parse("22+,A2s+"),
+            0L,
+            SampleBudget.samples(1_000_000).untilMargin(0.01));
+
+    assertThat(equities.get(0).getSamples()).isLessThan(1_000_000);
+    assertThat(1.96 * equities.get(0).getStandardError()).isLessThan(0.01);
+  }
+
+  @Test
+  void calculate_shouldRejectRangesThatBlockEachOtherCompletely() {
+    HandRange aces = HandRange.parse("AsAh");
+
+    assertThatThrownBy(
+            () -> underTest.calculate(aces, HandRange.parse("AsKd"), TURN, SampleBudget.samples(1)))
+        .isInstanceOf(InvalidRangeException.class);
+  }
+
+  /* win, tie and equity of the first range by evaluating every pair of hands on its own */
+  private double[] equityOfAllPairs(HandRange first, HandRange second, long board) {
+    double wins = 0;
+    double ties = 0;
+    double equity = 0;
+    double pairs = 0;
+    for (int combo = 0; combo < Combos.COMBOS; combo++) {
+      for (int other = 0; other < Combos.COMBOS; other++) {
+        long holeCards = Combos.holeCards(combo);
+        long otherHoleCards = Combos.holeCards(other);
+        double weight = first.weight(combo) * second.weight(other);
+        if (weight == 0 || (holeCards & otherHoleCards) != 0) {
+          continue;
+        }
+        Equity pair =
+            equityCalculator.calculate(new long[] {holeCards, otherHoleCards}, board).get(0);
+        wins += weight * pair.getWin();
+        ties += weight * pair.getTie();
+        equity += weight * pair.getEquity();
+        pairs += weight;
+      }
+    }
+    return new double[] {wins / pairs, ties / pairs, equity / pairs};
+  }
+}
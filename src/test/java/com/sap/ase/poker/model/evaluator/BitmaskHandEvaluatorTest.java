@@ -0,0 +1,178 @@
+package com.sap.ase.poker.model.evaluator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sap.ase.poker.fixtures.HandFixtures;
+import com.sap.ase.poker.model.InvalidHandException;
+import com.sap.ase.poker.model.deck.Card;
+import com.sap.ase.poker.model.deck.CardMask;
+import com.sap.ase.poker.model.deck.Kind;
+import com.sap.ase.poker.model.deck.PokerCardsSupplier;
+import com.sap.ase.poker.model.deck.Suit;
+import com.sap.ase.poker.model.hands.Hand;
+import com.sap.ase.poker.model.hands.HighCard;
+import com.sap.ase.poker.model.rules.HandRules;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+import org.junit.jupiter.api.Test;
+
+class BitmaskHandEvaluatorTest {
+
+  private final BitmaskHandEvaluator underTest = new BitmaskHandEvaluator();
+
+  @Test
+  void evaluate_shouldDetectEveryCategory() {
+    assertThat(category(HandFixtures.highCardOfKing())).isEqualTo(HandStrength.HIGH_CARD);
+    assertThat(category(HandFixtures.pairOfSevens())).isEqualTo(HandStrength.PAIR);
+    assertThat(category(HandFixtures.twoPairsOfSevensAndAces())).isEqualTo(HandStrength.TWO_PAIRS);
+    assertThat(category(HandFixtures.threeOfAKindOfSevens()))
+        .isEqualTo(HandStrength.THREE_OF_A_KIND);
+    assertThat(category(HandFixtures.straightWithAce())).isEqualTo(HandStrength.STRAIGHT);
+    assertThat(category(HandFixtures.FlushWithKing())).isEqualTo(HandStrength.FLUSH);
+    assertThat(category(HandFixtures.fullHouseWithSevens())).isEqualTo(HandStrength.FULL_HOUSE);
+    assertThat(category(HandFixtures.fourOfAKindOfSevens())).isEqualTo(HandStrength.FOUR_OF_A_KIND);
+    assertThat(category(HandFixtures.straightFlushWithKing()))
+        .isEqualTo(HandStrength.STRAIGHT_FLUSH);
+    assertThat(category(HandFixtures.royalFlush())).isEqualTo(HandStrength.ROYAL_FLUSH);
+  }
+
+  @Test
+  void evaluate_shouldEncodeTheFiveHandCardsInOrderOfSignificance() {
+    int strength = evaluate(HandFixtures.fullHouseWithSevens());
+
+    assertThat(strength)
+        .isEqualTo(
+            HandStrength.of(
+                HandStrength.FULL_HOUSE,
+                Kind.SEVEN.rank,
+                Kind.SEVEN.rank,
+                Kind.SEVEN.rank,
+                Kind.JACK.rank,
+                Kind.JACK.rank));
+  }
+
+  @Test
+  void evaluate_shouldUseTheTwoHighestOfThreePairs() {
+    List<Card> cards =
+        Arrays.asList(
+            new Card(Kind.JACK, Suit.DIAMONDS),
+            new Card(Kind.JACK, Suit.HEARTS),
+            new Card(Kind.SEVEN, Suit.HEARTS),
+            new Card(Kind.SEVEN, Suit.CLUBS),
+            new Card(Kind.THREE, Suit.CLUBS),
+            new Card(Kind.THREE, Suit.DIAMONDS),
+            new Card(Kind.TWO, Suit.SPADES));
+
+    assertThat(evaluate(cards))
+        .isEqualTo(
+            HandStrength.of(
+                HandStrength.TWO_PAIRS,
+                Kind.JACK.rank,
+                Kind.JACK.rank,
+                Kind.SEVEN.rank,
+                Kind.SEVEN.rank,
+                Kind.THREE.rank));
+  }
+
+  @Test
+  void evaluate_shouldNotTreatAceAsLowCardOfAStraight() {
+    List<Card> cards =
+        Arrays.asList(
+            new Card(Kind.ACE, Suit.DIAMONDS),
+            new Card(Kind.TWO, Suit.HEARTS),
+            new Card(Kind.THREE, Suit.HEARTS),
+            new Card(Kind.FOUR, Suit.CLUBS),
+            new Card(Kind.FIVE, Suit.CLUBS),
+            new Card(Kind.NINE, Suit.DIAMONDS),
+            new Card(Kind.JACK, Suit.SPADES));
+
+    assertThat(category(cards)).isEqualTo(HandStrength.HIGH_CARD);
+  }
+
+  @Test
+  void evaluate_shouldPreferFullHouseOverFlushAndFourOfAKindOverFullHouse() {
+    List<Card> fullHouseAndFlush =
+        Arrays.asList(
+            new Card(Kind.ACE, Suit.DIAMONDS),
+            new Card(Kind.ACE, Suit.HEARTS),
+            new Card(Kind.ACE, Suit.CLUBS),
+            new Card(Kind.FOUR, Suit.DIAMONDS),
+            new Card(Kind.FOUR, Suit.CLUBS),
+            new Card(Kind.NINE, Suit.DIAMONDS),
+            new Card(Kind.JACK, Suit.DIAMONDS));
+    List<Card> fourOfAKindAndThreeOfAKind =
+        Arrays.asList(
+            new Card(Kind.TWO, Suit.DIAMONDS),
+            new Card(Kind.TWO, Suit.HEARTS),
+            new Card(Kind.TWO, Suit.CLUBS),
+            new Card(Kind.TWO, Suit.SPADES),
+            new Card(Kind.KING, Suit.CLUBS),
+            new Card(Kind.KING, Suit.DIAMONDS),
+            new Card(Kind.KING, Suit.HEARTS));
+
+    assertThat(category(fullHouseAndFlush)).isEqualTo(HandStrength.FULL_HOUSE);
+    assertThat(evaluate(fourOfAKindAndThreeOfAKind))
+        .isEqualTo(
+            HandStrength.of(
+                HandStrength.FOUR_OF_A_KIND,
+                Kind.TWO.rank,
+                Kind.TWO.rank,
+                Kind.TWO.rank,
+                Kind.TWO.rank,
+                Kind.KING.rank));
+  }
+
+  @Test
+  void evaluate_shouldOrderHandsLikeTheHandClasses() {
+    Random random = new Random(7);
+    List<Card> deck = new PokerCardsSupplier().get();
+    List<List<Card>> hands = new ArrayList<>();
+    for (int i = 0; i < 2000; i++) {
+      Collections.shuffle(deck, random);
+      hands.add(new ArrayList<>(deck.subList(0, 7)));
+    }
+
+    for (int i = 1; i < hands.size(); i++) {
+      Hand previous = referenceHand(hands.get(i - 1));
+      Hand current = referenceHand(hands.get(i));
+      int expected = Integer.signum(current.compareTo(previous));
+
+      assertThat(category(hands.get(i))).isEqualTo(current.getRank());
+      assertThat(
+              Integer.signum(Integer.compare(evaluate(hands.get(i)), evaluate(hands.get(i - 1)))))
+          .isEqualTo(expected);
+    }
+  }
+
+  private Hand referenceHand(List<Card> cards) {
+    for (Function<List<Card>, Hand> createHand : HandRules.CREATION_FUNCTIONS) {
+      try {
+        return createHand.apply(cards);
+      } catch (InvalidHandException ignored) {
+      }
+    }
+    return new HighCard(cards);
+  }
+
+  private int category(List<Card> cards) {
+    return HandStrength.category(evaluate(cards));
+  }
+
+  private int evaluate(List<Card> cards) {
+    return underTest.evaluate(CardMask.of(cards));
+  }
+
+  @Test
+  void withBoard_shouldEvaluateHoleCardsTogetherWithTheBoard() {
+    List<Card> cards = HandFixtures.straightFlushWithKing();
+    long board = CardMask.of(cards.subList(2, 7));
+    long holeCards = CardMask.of(cards.subList(0, 2));
+
+    assertThat(underTest.withBoard(board).evaluate(holeCards))
+        .isEqualTo(underTest.evaluate(board | holeCards));
+  }
+}
@@ -0,0 +1,107 @@
+package com.sap.ase.poker.model.evaluator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sap.ase.poker.model.deck.CardMask;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class CachingHandEvaluatorTest {
+
+  private final BitmaskHandEvaluator bitmaskHandEvaluator = new BitmaskHandEvaluator();
+
+  @Test
+  void evaluate_shouldCallTheDelegateOnlyOnceForTheSameCards() {
+    AtomicInteger calls = new AtomicInteger();
+    CachingHandEvaluator underTest =
+        new CachingHandEvaluator(
+            cards -> {
+              calls.incrementAndGet();
+              return bitmaskHandEvaluator.evaluate(cards);
+            },
+            CachingHandEvaluator.MIN_CAPACITY);
+    long cards = randomHands(1, 1)[0];
+
+    int first = underTest.evaluate(cards);
+    int second = underTest.evaluate(cards);
+
+    assertThat(first).isEqualTo(second).isEqualTo(bitmaskHandEvaluator.evaluate(cards));
+    assertThat(calls).hasValue(1);
+    assertThat(underTest.getHits()).isEqualTo(1);
+    assertThat(underTest.getMisses()).isEqualTo(1);
+    assertThat(underTest.getEvictions()).isZero();
+  }
+
+  @Test
+  void evaluate_shouldReturnTheStrengthOfTheDelegateWhenEntriesAreEvicted() {
+    CachingHandEvaluator underTest =
+        new CachingHandEvaluator(bitmaskHandEvaluator, CachingHandEvaluator.MIN_CAPACITY);
+
+    for (long cards : randomHands(100_000, 2)) {
+      assertThat(underTest.evaluate(cards)).isEqualTo(bitmaskHandEvaluator.evaluate(cards));
+    }
+    assertThat(underTest.getEvictions()).isPositive();
+    assertThat(underTest.getHits() + underTest.getMisses()).isEqualTo(100_000);
+  }
+
+  @Test
+  void evaluate_shouldNotCacheValuesThatAreNoHandStrength() {
+    CachingHandEvaluator underTest =
+        new CachingHandEvaluator(cards -> Integer.MAX_VALUE, CachingHandEvaluator.MIN_CAPACITY);
+
+    underTest.evaluate(1L);
+    underTest.evaluate(1L);
+
+    assertThat(underTest.getMisses()).isEqualTo(2);
+  }
+
+  @Test
+  void evaluate_shouldReturnCorrectStrengthsWhenUsedConcurrently() {
+    CachingHandEvaluator underTest = new CachingHandEvaluator(bitmaskHandEvaluator, 1 << 14);
+    long[] hands = randomHands(20_000, 3);
+
+    IntStream.range(0, 400_000)
+        .parallel()
+        .forEach(
+            i -> {
+              long cards = hands[i % hands.length];
+              assertThat(underTest.evaluate(cards)).isEqualTo(bitmaskHandEvaluator.evaluate(cards));
+            });
+  }
+
+  @Test
+  void getCapacity_shouldRoundUpToAPowerOfTwo() {
+    assertThat(new CachingHandEvaluator(bitmaskHandEvaluator, 0).getCapacity())
+        .isEqualTo(CachingHandEvaluator.MIN_CAPACITY);
+    assertThat(new CachingHandEvaluator(bitmaskHandEvaluator, 100_000).getCapacity())
+        .isEqualTo(1 << 17);
+  }
+
+  @Test
+  void withBoard_shouldBypassTheCache() {
+    CachingHandEvaluator underTest =
+        new CachingHandEvaluator(bitmaskHandEvaluator, CachingHandEvaluator.MIN_CAPACITY);
+    long[] hands = randomHands(1, 3);
+    long board = hands[0] & ~Long.lowestOneBit(hands[0]) & ~Long.highestOneBit(hands[0]);
+    long holeCards = hands[0] & ~board;
+
+    int strength = underTest.withBoard(board).evaluate(holeCards);
+
+    assertThat(strength).isEqualTo(bitmaskHandEvaluator.evaluate(hands[0]));
+    assertThat(underTest.getHits()).isZero();
+    assertThat(underTest.getMisses()).isZero();
+  }
+
+  private static long[] randomHands(int count, long seed) {
+    Random random = new Random(seed);
+    long[] hands = new long[count];
+    for (int i = 0; i < count; i++) {
+      while (CardMask.size(hands[i]) < 7) {
+        hands[i] |= CardMask.of(CardMask.card(random.nextInt(4) * 16 + random.nextInt(13)));
+      }
+    }
+    return hands;
+  }
+}
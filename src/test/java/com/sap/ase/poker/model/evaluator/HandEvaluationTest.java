@@ -0,0 +1,97 @@
+package com.sap.ase.poker.model.evaluator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.sap.ase.poker.fixtures.HandFixtures;
+import com.sap.ase.poker.model.deck.Card;
+import com.sap.ase.poker.model.deck.CardMask;
+import com.sap.ase.poker.model.deck.Kind;
+import com.sap.ase.poker.model.deck.Suit;
+import com.sap.ase.poker.model.hands.FullHouse;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class HandEvaluationTest {
+
+  private final BitmaskHandEvaluator evaluator = new BitmaskHandEvaluator();
+
+  @Test
+  void getCards_shouldDeriveTheFiveCardsOfTheHand() {
+    List<Card> cards = HandFixtures.fullHouseWithAces();
+
+    HandEvaluation evaluation = evaluate(cards);
+
+    assertThat(evaluation.getCategory()).isEqualTo(HandStrength.FULL_HOUSE);
+    assertThat(evaluation.getCards())
+        .containsExactlyInAnyOrderElementsOf(new FullHouse(cards).getCards());
+  }
+
+  @Test
+  void getCards_shouldTakeTheCardsOfAFlushFromTheFlushSuit() {
+    List<Card> cards =
+        List.of(
+            new Card(Kind.ACE, Suit.SPADES),
+            new Card(Kind.ACE, Suit.HEARTS),
+            new Card(Kind.JACK, Suit.HEARTS),
+            new Card(Kind.NINE, Suit.HEARTS),
+            new Card(Kind.SEVEN, Suit.HEARTS),
+            new Card(Kind.FOUR, Suit.HEARTS),
+            new Card(Kind.JACK, Suit.CLUBS));
+
+    HandEvaluation evaluation = evaluate(cards);
+
+    assertThat(evaluation.getCategory()).isEqualTo(HandStrength.FLUSH);
+    assertThat(evaluation.getCards()).containsExactlyElementsOf(cards.subList(1, 6));
+  }
+
+  @Test
+  void getCards_shouldTakeAStraightFlushFromTheFlushSuit() {
+    List<Card> cards = HandFixtures.straightFlushWithKing();
+
+    HandEvaluation evaluation = evaluate(cards);
+
+    assertThat(evaluation.getCategory()).isEqualTo(HandStrength.STRAIGHT_FLUSH);
+    assertThat(evaluation.getCards()).extracting(Card::getSuit).containsOnly(Suit.DIAMONDS);
+    assertThat(evaluation.getCards())
+        .extracting(Card::getKind)
+        .containsExactly(Kind.KING, Kind.QUEEN, Kind.JACK, Kind.TEN, Kind.NINE);
+  }
+
+  @Test
+  void getCards_shouldTakeARoyalFlushFromTheFlushSuit() {
+    List<Card> cards = HandFixtures.royalFlush();
+
+    HandEvaluation evaluation = evaluate(cards);
+
+    assertThat(evaluation.getCategory()).isEqualTo(HandStrength.ROYAL_FLUSH);
+    assertThat(evaluation.getCards())
+        .extracting(Card::getSuit)
+        .containsOnly(cards.get(0).getSuit());
+  }
+
+  @Test
+  void getCards_shouldTakeTheHighestKickers() {
+    HandEvaluation evaluation = evaluate(HandFixtures.pairOfSevens());
+
+    assertThat(evaluation.getCards())
+        .extracting(Card::getKind)
+        .containsExactly(Kind.SEVEN, Kind.SEVEN, Kind.ACE, Kind.JACK, Kind.FIVE);
+    assertThat(evaluation.getStrength())
+        .isEqualTo(evaluator.evaluate(CardMask.of(HandFixtures.pairOfSevens())));
+  }
+
+  @Test
+  void getCards_shouldRejectAFlushWithoutFiveCardsOfASuit() {
+    long pairOfSevens = CardMask.of(HandFixtures.pairOfSevens());
+    HandEvaluation evaluation =
+        new HandEvaluation(HandStrength.of(HandStrength.FLUSH, 13, 11, 9, 7, 5), pairOfSevens);
+
+    assertThatThrownBy(evaluation::getCards).isInstanceOf(IllegalStateException.class);
+  }
+
+  private HandEvaluation evaluate(List<Card> cards) {
+    long mask = CardMask.of(cards);
+    return new HandEvaluation(evaluator.evaluate(mask), mask);
+  }
+}
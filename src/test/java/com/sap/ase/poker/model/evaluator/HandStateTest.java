@@ -0,0 +1,31 @@
+package com.sap.ase.poker.model.evaluator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sap.ase.poker.fixtures.HandFixtures;
+import com.sap.ase.poker.model.deck.Card;
+import com.sap.ase.poker.model.deck.CardMask;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class HandStateTest {
+
+  private final BitmaskHandEvaluator evaluator = new BitmaskHandEvaluator();
+
+  @Test
+  void deal_shouldEvaluateTheCardsOfEveryStreet() {
+    List<Card> cards = HandFixtures.fullHouseWithAces();
+    HandState underTest = new HandState(evaluator, CardMask.of(cards.subList(0, 2)));
+    assertThat(underTest.getStrength()).isZero();
+
+    underTest.deal(CardMask.of(cards.subList(2, 5)));
+    assertThat(underTest.getStrength())
+        .isEqualTo(evaluator.evaluate(CardMask.of(cards.subList(0, 5))));
+
+    underTest.deal(CardMask.of(cards.subList(5, 6)));
+    underTest.deal(CardMask.of(cards.subList(6, 7)));
+    assertThat(underTest.getCards()).isEqualTo(CardMask.of(cards));
+    assertThat(underTest.getStrength()).isEqualTo(evaluator.evaluate(CardMask.of(cards)));
+    assertThat(underTest.toEvaluation().getStrength()).isEqualTo(underTest.getStrength());
+  }
+}
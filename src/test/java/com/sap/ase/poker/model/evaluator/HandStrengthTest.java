@@ -0,0 +1,66 @@
+package com.sap.ase.poker.model.evaluator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sap.ase.poker.model.deck.Kind;
+import org.junit.jupiter.api.Test;
+
+class HandStrengthTest {
+
+  @Test
+  void of_shouldPackCategoryAndRanksSoThatTheCategoryDominates() {
+    int pairOfAces =
+        HandStrength.of(
+            HandStrength.PAIR,
+            Kind.ACE.rank,
+            Kind.ACE.rank,
+            Kind.KING.rank,
+            Kind.QUEEN.rank,
+            Kind.JACK.rank);
+    int twoPairsOfThreesAndTwos =
+        HandStrength.of(
+            HandStrength.TWO_PAIRS,
+            Kind.THREE.rank,
+            Kind.THREE.rank,
+            Kind.TWO.rank,
+            Kind.TWO.rank,
+            Kind.FOUR.rank);
+
+    assertThat(twoPairsOfThreesAndTwos).isGreaterThan(pairOfAces);
+    assertThat(HandStrength.category(pairOfAces)).isEqualTo(HandStrength.PAIR);
+  }
+
+  @Test
+  void categoryName_shouldNameTheCategoryOfTheStrength() {
+    int fullHouse =
+        HandStrength.of(
+            HandStrength.FULL_HOUSE,
+            Kind.SEVEN.rank,
+            Kind.SEVEN.rank,
+            Kind.SEVEN.rank,
+            Kind.KING.rank,
+            Kind.KING.rank);
+    int royalFlush = HandStrength.of(HandStrength.ROYAL_FLUSH, 13, 12, 11, 10, 9);
+
+    assertThat(HandStrength.categoryName(fullHouse)).isEqualTo("Full House");
+    assertThat(HandStrength.categoryName(royalFlush)).isEqualTo("Royal Flush");
+  }
+
+  @Test
+  void rank_shouldReturnTheRankAtEveryPosition() {
+    int strength =
+        HandStrength.of(
+            HandStrength.HIGH_CARD,
+            Kind.ACE.rank,
+            Kind.JACK.rank,
+            Kind.NINE.rank,
+            Kind.FIVE.rank,
+            Kind.TWO.rank);
+
+    assertThat(HandStrength.rank(strength, 0)).isEqualTo(Kind.ACE.rank);
+    assertThat(HandStrength.rank(strength, 1)).isEqualTo(Kind.JACK.rank);
+    assertThat(HandStrength.rank(strength, 2)).isEqualTo(Kind.NINE.rank);
+    assertThat(HandStrength.rank(strength, 3)).isEqualTo(Kind.FIVE.rank);
+    assertThat(HandStrength.rank(strength, 4)).isEqualTo(Kind.TWO.rank);
+  }
+}
@@ -0,0 +1,121 @@
+package com.sap.ase.poker.model.evaluator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.sap.ase.poker.fixtures.HandFixtures;
+import com.sap.ase.poker.model.deck.CardMask;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class LookupTableHandEvaluatorTest {
+
+  @TempDir static Path directory;
+
+  private static Path table;
+  private static LookupTableHandEvaluator underTest;
+
+  private final BitmaskHandEvaluator bitmaskHandEvaluator = new BitmaskHandEvaluator();
+
+  @BeforeAll
+  static void generateTable() {
+    table = directory.resolve("hand-ranks.dat");
+    new LookupTableGenerator().generate(table);
+    underTest = new LookupTableHandEvaluator(table);
+  }
+
+  @Test
+  void evaluate_shouldMatchTheBitmaskEvaluatorForFixtures() {
+    long royalFlush = CardMask.of(HandFixtures.royalFlush());
+    long fullHouse = CardMask.of(HandFixtures.fullHouseWithAces());
+    long flush = CardMask.of(HandFixtures.FlushWithKing());
+
+    assertThat(underTest.evaluate(royalFlush)).isEqualTo(bitmaskHandEvaluator.evaluate(royalFlush));
+    assertThat(underTest.evaluate(fullHouse)).isEqualTo(bitmaskHandEvaluator.evaluate(fullHouse));
+    assertThat(underTest.evaluate(flush)).isEqualTo(bitmaskHandEvaluator.evaluate(flush));
+  }
+
+  @Test
+  void evaluate_shouldMatchTheBitmaskEvaluatorForRandomHands() {
+    Random random = new Random(11);
+    for (int i = 0; i < 100_000; i++) {
+      long cards = 0L;
+      while (CardMask.size(cards) < 7) {
+        cards |= CardMask.of(CardMask.card(random.nextInt(4) * 16 + random.nextInt(13)));
+      }
+
+      assertThat(underTest.evaluate(cards)).isEqualTo(bitmaskHandEvaluator.evaluate(cards));
+    }
+  }
+
+  @Test
+  void withBoard_shouldMatchTheBitmaskEvaluatorForRandomHoldings() {
+    Random random = new Random(17);
+    for (int i = 0; i < 1_000; i++) {
+      long board = randomCards(random, 5, 0L);
+      HandEvaluator boardEvaluator = underTest.withBoard(board);
+      for (int j = 0; j < 20; j++) {
+        long holeCards = randomCards(random, 2, board);
+
+        assertThat(boardEvaluator.evaluate(holeCards))
+            .isEqualTo(bitmaskHandEvaluator.evaluate(board | holeCards));
+      }
+    }
+  }
+
+  @Test
+  void withBoard_shouldEvaluateIncompleteBoardsAndHoldings() {
+    long cards = CardMask.of(HandFixtures.fullHouseWithAces());
+    long flop = CardMask.of(HandFixtures.fullHouseWithAces().subList(0, 3));
+    long board = CardMask.of(HandFixtures.fullHouseWithAces().subList(0, 5));
+    int expected = bitmaskHandEvaluator.evaluate(cards);
+
+    assertThat(underTest.withBoard(flop).evaluate(cards & ~flop)).isEqualTo(expected);
+    assertThat(underTest.withBoard(board).evaluate(0L))
+        .isEqualTo(bitmaskHandEvaluator.evaluate(board));
+  }
+
+  @Test
+  void evaluate_shouldEvaluateFiveAndSixCards() {
+    long fiveCards = CardMask.of(HandFixtures.fullHouseWithAces().subList(0, 5));
+    long sixCards = CardMask.of(HandFixtures.fullHouseWithAces().subList(0, 6));
+
+    assertThat(underTest.evaluate(fiveCards)).isEqualTo(bitmaskHandEvaluator.evaluate(fiveCards));
+    assertThat(underTest.evaluate(sixCards)).isEqualTo(bitmaskHandEvaluator.evaluate(sixCards));
+  }
+
+  @Test
+  void constructor_shouldRejectFilesThatAreNoLookupTable() throws IOException {
+    Path tooShort = Files.write(directory.resolve("too-short.dat"), new byte[] {1, 2, 3});
+    Path wrongHeader = Files.write(directory.resolve("wrong-header.dat"), new byte[64]);
+    Path truncated;
+    try (InputStream tableStart = Files.newInputStream(table)) {
+      truncated = Files.write(directory.resolve("truncated.dat"), tableStart.readNBytes(1024));
+    }
+
+    assertThatThrownBy(() -> new LookupTableHandEvaluator(tooShort))
+        .isInstanceOf(IllegalStateException.class);
+    assertThatThrownBy(() -> new LookupTableHandEvaluator(wrongHeader))
+        .isInstanceOf(IllegalStateException.class);
+    assertThatThrownBy(() -> new LookupTableHandEvaluator(truncated))
+        .isInstanceOf(IllegalStateException.class);
+    assertThatThrownBy(() -> new LookupTableHandEvaluator(directory.resolve("missing.dat")))
+        .isInstanceOf(UncheckedIOException.class);
+  }
+
+  private static long randomCards(Random random, int count, long dead) {
+    long cards = 0L;
+    while (CardMask.size(cards) < count) {
+      long card = CardMask.of(CardMask.card(random.nextInt(4) * 16 + random.nextInt(13)));
+      cards |= (card & dead) == 0 ? card : 0L;
+    }
+    return cards;
+  }
+}
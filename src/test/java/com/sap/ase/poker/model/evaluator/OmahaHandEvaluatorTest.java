@@ -0,0 +1,159 @@
+package com.sap.ase.poker.model.evaluator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sap.ase.poker.model.deck.Card;
+import com.sap.ase.poker.model.deck.CardMask;
+import com.sap.ase.poker.model.deck.Kind;
+import com.sap.ase.poker.model.deck.Suit;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class OmahaHandEvaluatorTest {
+
+  private static final long FOUR_HEARTS =
+      CardMask.of(
+          List.of(
+              new Card(Kind.ACE, Suit.HEARTS),
+              new Card(Kind.KING, Suit.HEARTS),
+              new Card(Kind.QUEEN, Suit.HEARTS),
+              new Card(Kind.JACK, Suit.HEARTS)));
+  private static final long BOARD_WITH_TWO_HEARTS =
+      CardMask.of(
+          List.of(
+              new Card(Kind.TEN, Suit.HEARTS),
+              new Card(Kind.NINE, Suit.HEARTS),
+              new Card(Kind.TWO, Suit.CLUBS),
+              new Card(Kind.THREE, Suit.DIAMONDS),
+              new Card(Kind.EIGHT, Suit.SPADES)));
+
+  private final OmahaHandEvaluator underTest = new OmahaHandEvaluator();
+
+  private final BitmaskHandEvaluator bitmaskHandEvaluator = new BitmaskHandEvaluator();
+
+  @Test
+  void evaluate_shouldUseExactlyTwoHoleCards() {
+    int strength = underTest.evaluate(FOUR_HEARTS, BOARD_WITH_TWO_HEARTS);
+
+    // any five of the cards would make a royal flush
+    assertThat(HandStrength.category(strength)).isEqualTo(HandStrength.STRAIGHT);
+    assertThat(HandStrength.rank(strength, 0)).isEqualTo(Kind.QUEEN.rank);
+  }
+
+  @Test
+  void evaluate_shouldBeZeroBeforeTheFlop() {
+    assertThat(underTest.evaluate(FOUR_HEARTS, 0L)).isZero();
+  }
+
+  @Test
+  void evaluate_shouldMatchTheBestOfAllTwoPlusThreeCombinations() {
+    Random random = new Random(17);
+    for (int boardSize = 3; boardSize <= 5; boardSize++) {
+      for (int i = 0; i < 5000; i++) {
+        long board = randomCards(random, 0L, boardSize);
+        long holeCards = randomCards(random, board, 4);
+
+        assertThat(underTest.evaluate(holeCards, board))
+            .isEqualTo(bestOfAllCombinations(holeCards, board));
+      }
+    }
+  }
+
+  @Test
+  void evaluate_shouldFindFullHousesAndFlushesOnPairedAndSuitedBoards() {
+    Random random = new Random(19);
+    for (int i = 0; i < 5000; i++) {
+      // cards of two suits only, so there are many more pairs and flushes
+      long board = randomCards(random, 0L, 5, 2);
+      long holeCards = randomCards(random, board, 4, 2);
+
+      assertThat(underTest.evaluate(holeCards, board))
+          .isEqualTo(bestOfAllCombinations(holeCards, board));
+    }
+  }
+
+  @Test
+  void bestCards_shouldReturnTheTwoHoleCardsAndThreeBoardCardsOfTheHand() {
+    int strength = underTest.evaluate(FOUR_HEARTS, BOARD_WITH_TWO_HEARTS);
+    long bestCards = underTest.bestCards(FOUR_HEARTS, BOARD_WITH_TWO_HEARTS, strength);
+
+    assertThat(CardMask.toCards(bestCards))
+        .containsExactlyInAnyOrder(
+            new Card(Kind.QUEEN, Suit.HEARTS),
+            new Card(Kind.JACK, Suit.HEARTS),
+            new Card(Kind.TEN, Suit.HEARTS),
+            new Card(Kind.NINE, Suit.HEARTS),
+            new Card(Kind.EIGHT, Suit.SPADES));
+  }
+
+  @Test
+  void bestCards_shouldReturnAllCardsWithoutAHand() {
+    assertThat(underTest.bestCards(FOUR_HEARTS, 0L, 0)).isEqualTo(FOUR_HEARTS);
+  }
+
+  @Test
+  void forHoleCards_shouldEvaluateTheKnownCardsOfOnePlayer() {
+    HandEvaluator playerEvaluator = underTest.forHoleCards(FOUR_HEARTS);
+    long cards = FOUR_HEARTS | BOARD_WITH_TWO_HEARTS;
+    int strength = playerEvaluator.evaluate(cards);
+
+    assertThat(strength).isEqualTo(underTest.evaluate(FOUR_HEARTS, BOARD_WITH_TWO_HEARTS));
+    assertThat(playerEvaluator.handCards(cards, strength))
+        .isEqualTo(underTest.bestCards(FOUR_HEARTS, BOARD_WITH_TWO_HEARTS, strength));
+  }
+
+  @Test
+  void withBoard_shouldPickTheBestFiveOfTheHandCards() {
+    HandEvaluator boardEvaluator = underTest.withBoard(BOARD_WITH_TWO_HEARTS);
+    int strength = boardEvaluator.evaluate(FOUR_HEARTS);
+
+    assertThat(boardEvaluator.handCards(FOUR_HEARTS | BOARD_WITH_TWO_HEARTS, strength))
+        .isEqualTo(underTest.bestCards(FOUR_HEARTS, BOARD_WITH_TWO_HEARTS, strength));
+  }
+
+  @Test
+  void forHoleCards_shouldAnalyzeTheBoardOfEveryRunoutOnItsOwn() {
+    HandEvaluator playerEvaluator = underTest.forHoleCards(FOUR_HEARTS);
+    HandEvaluator boardEvaluator = playerEvaluator.withBoard(BOARD_WITH_TWO_HEARTS);
+
+    assertThat(boardEvaluator).isNotSameAs(playerEvaluator.withBoard(BOARD_WITH_TWO_HEARTS));
+    assertThat(boardEvaluator.evaluate(FOUR_HEARTS))
+        .isEqualTo(underTest.evaluate(FOUR_HEARTS, BOARD_WITH_TWO_HEARTS));
+  }
+
+  private int bestOfAllCombinations(long holeCards, long board) {
+    int best = 0;
+    for (long first = holeCards; first != 0; first &= first - 1) {
+      for (long second = first & (first - 1); second != 0; second &= second - 1) {
+        long pair = Long.lowestOneBit(first) | Long.lowestOneBit(second);
+        for (long third = board; third != 0; third &= third - 1) {
+          for (long fourth = third & (third - 1); fourth != 0; fourth &= fourth - 1) {
+            for (long fifth = fourth & (fourth - 1); fifth != 0; fifth &= fifth - 1) {
+              long triple =
+                  Long.lowestOneBit(third) | Long.lowestOneBit(fourth) | Long.lowestOneBit(fifth);
+              best = Math.max(best, bitmaskHandEvaluator.evaluate(pair | triple));
+            }
+          }
+        }
+      }
+    }
+    return best;
+  }
+
+  private static long randomCards(Random random, long dealt, int size) {
+    return randomCards(random, dealt, size, 4);
+  }
+
+  /* cards of the first suits only */
+  private static long randomCards(Random random, long dealt, int size, int suits) {
+    long cards = 0L;
+    while (CardMask.size(cards) < size) {
+      long card = CardMask.of(CardMask.card(random.nextInt(suits) * 16 + random.nextInt(13)));
+      if ((card & dealt) == 0) {
+        cards |= card;
+      }
+    }
+    return cards;
+  }
+}
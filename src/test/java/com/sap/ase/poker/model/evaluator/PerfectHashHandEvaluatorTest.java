@@ -0,0 +1,64 @@
+package com.sap.ase.poker.model.evaluator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sap.ase.poker.fixtures.HandFixtures;
+import com.sap.ase.poker.model.deck.CardMask;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class PerfectHashHandEvaluatorTest {
+
+  private static final PerfectHashHandEvaluator underTest = new PerfectHashHandEvaluator();
+
+  private final BitmaskHandEvaluator bitmaskHandEvaluator = new BitmaskHandEvaluator();
+
+  @Test
+  void tableBytes_shouldStayBelow100KB() {
+    assertThat(underTest.tableBytes()).isLessThan(100 * 1024);
+  }
+
+  @Test
+  void evaluate_shouldMatchTheBitmaskEvaluatorForFixtures() {
+    long royalFlush = CardMask.of(HandFixtures.royalFlush());
+    long fullHouse = CardMask.of(HandFixtures.fullHouseWithAces());
+    long flush = CardMask.of(HandFixtures.FlushWithKing());
+
+    assertThat(underTest.evaluate(royalFlush)).isEqualTo(bitmaskHandEvaluator.evaluate(royalFlush));
+    assertThat(underTest.evaluate(fullHouse)).isEqualTo(bitmaskHandEvaluator.evaluate(fullHouse));
+    assertThat(underTest.evaluate(flush)).isEqualTo(bitmaskHandEvaluator.evaluate(flush));
+  }
+
+  @Test
+  void evaluate_shouldMatchTheBitmaskEvaluatorForRandomFiveSixAndSevenCards() {
+    Random random = new Random(13);
+    for (int size = 5; size <= 7; size++) {
+      for (int i = 0; i < 50_000; i++) {
+        long cards = randomCards(random, size);
+
+        assertThat(underTest.evaluate(cards)).isEqualTo(bitmaskHandEvaluator.evaluate(cards));
+      }
+    }
+  }
+
+  @Test
+  void evaluate_shouldRankFourOfAKindWithEveryKicker() {
+    long quads = 0L;
+    for (int suit = 0; suit < 4; suit++) {
+      quads |= 1L << (suit * 16);
+    }
+    for (int kicker = 1; kicker < 13; kicker++) {
+      long cards = quads | 1L << kicker;
+
+      assertThat(underTest.evaluate(cards)).isEqualTo(HandStrength.of(8, 1, 1, 1, 1, kicker + 1));
+    }
+  }
+
+  private static long randomCards(Random random, int size) {
+    long cards = 0L;
+    while (CardMask.size(cards) < size) {
+      cards |= CardMask.of(CardMask.card(random.nextInt(4) * 16 + random.nextInt(13)));
+    }
+    return cards;
+  }
+}
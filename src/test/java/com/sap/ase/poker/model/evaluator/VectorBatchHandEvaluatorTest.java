@@ -0,0 +1,94 @@
+package com.sap.ase.poker.model.evaluator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sap.ase.poker.fixtures.HandFixtures;
+import com.sap.ase.poker.model.deck.CardMask;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class VectorBatchHandEvaluatorTest {
+
+  private final VectorBatchHandEvaluator underTest = new VectorBatchHandEvaluator();
+
+  private final ScalarBatchHandEvaluator scalarBatchHandEvaluator = new ScalarBatchHandEvaluator();
+
+  @Test
+  void create_shouldPickTheVectorEvaluatorWhenTheModuleIsPresent() {
+    assertThat(BatchHandEvaluator.create()).isInstanceOf(VectorBatchHandEvaluator.class);
+  }
+
+  @Test
+  void create_shouldFallBackToTheScalarEvaluatorWithoutTheModule() {
+    assertThat(BatchHandEvaluator.create(ModuleLayer.empty()))
+        .isInstanceOf(ScalarBatchHandEvaluator.class);
+  }
+
+  @Test
+  void evaluate_shouldMatchTheScalarEvaluatorForFixtures() {
+    long[] cards =
+        List.of(
+                HandFixtures.highCardOfAce(),
+                HandFixtures.pairOfNines(),
+                HandFixtures.twoPairsOfAcesAndTwos(),
+                HandFixtures.threeOfAKindOfSevens(),
+                HandFixtures.straightWithAce(),
+                HandFixtures.FlushWithKing(),
+                HandFixtures.fullHouseWithSevens(),
+                HandFixtures.fourOfAKindOfAces(),
+                HandFixtures.straightFlushWithKing(),
+                HandFixtures.royalFlush())
+            .stream()
+            .mapToLong(CardMask::of)
+            .toArray();
+
+    assertThat(evaluate(underTest, cards)).isEqualTo(evaluate(scalarBatchHandEvaluator, cards));
+  }
+
+  @Test
+  void evaluate_shouldMatchTheScalarEvaluatorForRandomFiveSixAndSevenCards() {
+    Random random = new Random(13);
+    for (int size = 5; size <= 7; size++) {
+      // not a multiple of the vector length, so the tail is evaluated as well
+      long[] cards = new long[3001];
+      for (int i = 0; i < cards.length; i++) {
+        cards[i] = randomCards(random, size);
+      }
+
+      assertThat(evaluate(underTest, cards)).isEqualTo(evaluate(scalarBatchHandEvaluator, cards));
+    }
+  }
+
+  @Test
+  void evaluate_shouldRankFourOfAKindWithEveryKicker() {
+    long quads = 0L;
+    for (int suit = 0; suit < 4; suit++) {
+      quads |= 1L << (suit * 16);
+    }
+    long[] cards = new long[64];
+    for (int i = 0; i < cards.length; i++) {
+      cards[i] = quads | 1L << (1 + i % 12);
+    }
+
+    int[] strengths = evaluate(underTest, cards);
+
+    for (int i = 0; i < cards.length; i++) {
+      assertThat(strengths[i]).isEqualTo(HandStrength.of(8, 1, 1, 1, 1, 2 + i % 12));
+    }
+  }
+
+  private static int[] evaluate(BatchHandEvaluator evaluator, long[] cards) {
+    int[] strengths = new int[cards.length];
+    evaluator.evaluate(cards, strengths);
+    return strengths;
+  }
+
+  private static long randomCards(Random random, int size) {
+    long cards = 0L;
+    while (CardMask.size(cards) < size) {
+      cards |= CardMask.of(CardMask.card(random.nextInt(4) * 16 + random.nextInt(13)));
+    }
+    return cards;
+  }
+}
@@ -0,0 +1,90 @@
+package com.sap.ase.poker.model.hands;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sap.ase.poker.fixtures.HandFixtures;
+import com.sap.ase.poker.model.InvalidHandException;
+import com.sap.ase.poker.model.deck.Card;
+import com.sap.ase.poker.model.deck.CardMask;
+import com.sap.ase.poker.model.deck.Kind;
+import com.sap.ase.poker.model.deck.Suit;
+import com.sap.ase.poker.model.evaluator.BitmaskHandEvaluator;
+import com.sap.ase.poker.model.evaluator.HandEvaluation;
+import com.sap.ase.poker.model.rules.HandRules;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+import org.junit.jupiter.api.Test;
+
+class HandClassifierTest {
+
+  private final BitmaskHandEvaluator evaluator = new BitmaskHandEvaluator();
+
+  @Test
+  void classify_shouldSplitRelevantAndKickerCards() {
+    Hand hand = classify(HandFixtures.twoPairsOfSevensAndAces());
+
+    assertThat(hand).isInstanceOf(TwoPairs.class);
+    assertThat(hand.getRelevantCards())
+        .extracting(Card::getKind)
+        .containsExactly(Kind.ACE, Kind.ACE, Kind.SEVEN, Kind.SEVEN);
+    assertThat(hand.getKickerCards()).containsExactly(new Card(Kind.JACK, Suit.DIAMONDS));
+    assertThat(hand.getCards()).hasSize(5);
+  }
+
+  @Test
+  void classify_shouldCreateARoyalFlush() {
+    Hand hand = classify(HandFixtures.royalFlush());
+
+    assertThat(hand).isInstanceOf(RoyalFlush.class);
+    assertThat(hand.getKickerCards()).isEmpty();
+    assertThat(hand.getRelevantCards()).extracting(Card::getSuit).containsOnly(Suit.DIAMONDS);
+  }
+
+  @Test
+  void classify_shouldCreateTheSameHandsAsTheHandConstructors() {
+    Random random = new Random(23);
+    for (int i = 0; i < 20000; i++) {
+      List<Card> cards = CardMask.toCards(randomCards(random, 5 + random.nextInt(3)));
+      Hand expected = createWithConstructors(cards);
+
+      Hand hand = classify(cards);
+
+      assertThat(hand).isInstanceOf(expected.getClass());
+      assertThat(hand.getValue()).isEqualTo(expected.getValue());
+      assertThat(hand.getRelevantCards())
+          .extracting(Card::getKind)
+          .containsExactlyInAnyOrderElementsOf(
+              expected.getRelevantCards().stream().map(Card::getKind).toList());
+      assertThat(hand.getKickerCards())
+          .extracting(Card::getKind)
+          .containsExactlyInAnyOrderElementsOf(
+              expected.getKickerCards().stream().map(Card::getKind).toList());
+      assertThat(cards).containsAll(hand.getCards());
+    }
+  }
+
+  private Hand classify(List<Card> cards) {
+    long mask = CardMask.of(cards);
+    return HandClassifier.classify(new HandEvaluation(evaluator.evaluate(mask), mask));
+  }
+
+  private static Hand createWithConstructors(List<Card> cards) {
+    for (Function<List<Card>, Hand> createHand : HandRules.CREATION_FUNCTIONS) {
+      try {
+        return createHand.apply(cards);
+      } catch (InvalidHandException ignored) {
+        // not this category, try the next lower one
+      }
+    }
+    return new HighCard(cards);
+  }
+
+  private static long randomCards(Random random, int size) {
+    long cards = 0L;
+    while (CardMask.size(cards) < size) {
+      cards |= CardMask.of(CardMask.card(random.nextInt(4) * 16 + random.nextInt(13)));
+    }
+    return cards;
+  }
+}
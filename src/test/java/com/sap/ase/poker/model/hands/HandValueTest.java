@@ -0,0 +1,61 @@
+package com.sap.ase.poker.model.hands;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sap.ase.poker.fixtures.HandFixtures;
+import com.sap.ase.poker.model.deck.Card;
+import com.sap.ase.poker.model.deck.CardMask;
+import com.sap.ase.poker.model.evaluator.BitmaskHandEvaluator;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class HandValueTest {
+
+  private final BitmaskHandEvaluator evaluator = new BitmaskHandEvaluator();
+
+  @Test
+  void getValue_shouldOrderFullHouseByTripsBeforePair() {
+    FullHouse fullHouse = new FullHouse(HandFixtures.fullHouseWithAces());
+
+    assertThat(HandValue.rank(fullHouse.getValue())).isEqualTo(fullHouse.getRank());
+    assertThat(fullHouse.getValue())
+        .isEqualTo(evaluator.evaluate(CardMask.of(HandFixtures.fullHouseWithAces())));
+  }
+
+  @Test
+  void getValue_shouldMatchTheHandStrengthOfTheSameCards() {
+    assertValueMatchesStrength(new TwoPairs(HandFixtures.twoPairsOfAcesAndTwos()));
+    assertValueMatchesStrength(new Pair(HandFixtures.pairOfNines()));
+    assertValueMatchesStrength(new HighCard(HandFixtures.highCardOfKing()));
+    assertValueMatchesStrength(new FourOfAKind(HandFixtures.fourOfAKindOfSevens()));
+    assertValueMatchesStrength(new Straight(HandFixtures.straightWithSeven()));
+    assertValueMatchesStrength(new Flush(HandFixtures.FlushWithKing()));
+  }
+
+  @Test
+  void of_shouldFillUpHandsWithLessThanFiveCards() {
+    Pair pair = new Pair(HandFixtures.pairOfNines());
+
+    long value = HandValue.of(pair.getRank(), pair.getRelevantCards(), List.of());
+
+    assertThat(value).isEqualTo(0x288000L);
+  }
+
+  @Test
+  void compareTo_shouldNotReorderTheCardsOfTheHands() {
+    Pair pairOfNines = new Pair(HandFixtures.pairOfNines());
+    Pair pairOfSevens = new Pair(HandFixtures.pairOfSevens());
+    List<Card> kickerCards = new ArrayList<>(pairOfNines.getKickerCards());
+    List<Card> otherKickerCards = new ArrayList<>(pairOfSevens.getKickerCards());
+
+    pairOfNines.compareTo(pairOfSevens);
+
+    assertThat(pairOfNines.getKickerCards()).containsExactlyElementsOf(kickerCards);
+    assertThat(pairOfSevens.getKickerCards()).containsExactlyElementsOf(otherKickerCards);
+  }
+
+  private void assertValueMatchesStrength(Hand hand) {
+    assertThat(hand.getValue()).isEqualTo(evaluator.evaluate(CardMask.of(hand.getCards())));
+  }
+}
@@ -0,0 +1,26 @@
+package com.sap.ase.poker.model.range;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sap.ase.poker.model.deck.CardMask;
+import java.util.HashSet;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class CombosTest {
+
+  @Test
+  void holeCards_shouldNumberEveryTwoCardCombinationOnce() {
+    Set<Long> holeCards = new HashSet<>();
+    for (int combo = 0; combo < Combos.COMBOS; combo++) {
+      long cards = Combos.holeCards(combo);
+
+      assertThat(CardMask.size(cards)).isEqualTo(2);
+      assertThat(cards & ~CardMask.FULL_DECK).isZero();
+      assertThat(Combos.index(cards)).isEqualTo(combo);
+      holeCards.add(cards);
+    }
+
+    assertThat(holeCards).hasSize(1326);
+  }
+}
@@ -0,0 +1,83 @@
+package com.sap.ase.poker.model.range;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.sap.ase.poker.model.deck.Card;
+import com.sap.ase.poker.model.deck.CardMask;
+import com.sap.ase.poker.model.deck.Kind;
+import com.sap.ase.poker.model.deck.Suit;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class HandRangeTest {
+
+  private static final long ACE_KING_OF_SPADES =
+      CardMask.of(List.of(new Card(Kind.ACE, Suit.SPADES), new Card(Kind.KING, Suit.SPADES)));
+  private static final long ACE_KING_OFFSUIT =
+      CardMask.of(List.of(new Card(Kind.ACE, Suit.SPADES), new Card(Kind.KING, Suit.HEARTS)));
+
+  private static final long TWO_DEUCES =
+      CardMask.of(List.of(new Card(Kind.TWO, Suit.CLUBS), new Card(Kind.TWO, Suit.HEARTS)));
+
+  @Test
+  void parse_shouldCountTheCombinationsOfEveryHandClass() {
+    assertThat(HandRange.parse("AA").size()).isEqualTo(6);
+    assertThat(HandRange.parse("AKs").size()).isEqualTo(4);
+    assertThat(HandRange.parse("AKo").size()).isEqualTo(12);
+    assertThat(HandRange.parse("AK").size()).isEqualTo(16);
+    assertThat(HandRange.parse("AsKh").size()).isEqualTo(1);
+  }
+
+  @Test
+  void parse_shouldExpandPlusAndSpans() {
+    assertThat(HandRange.parse("QQ+").size()).isEqualTo(18);
+    assertThat(HandRange.parse("22+").size()).isEqualTo(78);
+    assertThat(HandRange.parse("A2s+").size()).isEqualTo(48);
+    assertThat(HandRange.parse("KTo+").size()).isEqualTo(36);
+    assertThat(HandRange.parse("A2s-A5s").size()).isEqualTo(16);
+    assertThat(HandRange.parse("55-22").size()).isEqualTo(24);
+    assertThat(HandRange.parse("QQ+, AKs").size()).isEqualTo(22);
+  }
+
+  @Test
+  void parse_shouldSetTheWeights() {
+    HandRange range = HandRange.parse("AKs,AKo:0.25");
+
+    assertThat(range.weight(Combos.index(ACE_KING_OF_SPADES))).isEqualTo(1);
+    assertThat(range.weight(Combos.index(ACE_KING_OFFSUIT))).isEqualTo(0.25);
+    assertThat(range.weight(Combos.index(TWO_DEUCES))).isZero();
+  }
+
+  @Test
+  void parse_shouldRejectUnknownNotation() {
+    List<String> notations =
+        List.of("AX", "AKx", "AAs", "A", "AsAs", "AsKx", "AK:2", "AK:x", "A2s-K5s", "22-A5s");
+    for (String notation : notations) {
+      assertThatThrownBy(() -> HandRange.parse(notation))
+          .as(notation)
+          .isInstanceOf(InvalidRangeException.class);
+    }
+  }
+
+  @Test
+  void without_shouldRemoveTheCombinationsWithDeadCards() {
+    HandRange range = HandRange.parse("AK");
+
+    HandRange live = range.without(CardMask.of(new Card(Kind.KING, Suit.SPADES)));
+
+    assertThat(live.size()).isEqualTo(12);
+    assertThat(live.contains(ACE_KING_OF_SPADES)).isFalse();
+    assertThat(live.weight(Combos.index(ACE_KING_OF_SPADES))).isZero();
+    assertThat(live.contains(ACE_KING_OFFSUIT)).isTrue();
+    assertThat(range.contains(ACE_KING_OF_SPADES)).isTrue();
+  }
+
+  @Test
+  void of_shouldContainExactlyTheHoleCards() {
+    HandRange range = HandRange.of(ACE_KING_OFFSUIT);
+
+    assertThat(range.size()).isEqualTo(1);
+    assertThat(range.getCombos().nextSetBit(0)).isEqualTo(Combos.index(ACE_KING_OFFSUIT));
+  }
+}
@@ -0,0 +1,89 @@
+package com.sap.ase.poker.model.range;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sap.ase.poker.model.deck.Card;
+import com.sap.ase.poker.model.deck.CardMask;
+import com.sap.ase.poker.model.deck.Kind;
+import com.sap.ase.poker.model.deck.Suit;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class PreflopMatchupsTest {
+
+  @Test
+  void handClass_shouldPutPairsSuitedAndOffsuitHandsIntoTheGrid() {
+    int ace = Kind.ACE.ordinal();
+    int king = Kind.KING.ordinal();
+
+    assertThat(PreflopMatchups.handClass(hand(Kind.ACE, Suit.SPADES, Kind.ACE, Suit.HEARTS)))
+        .isEqualTo(ace * PreflopMatchups.RANKS + ace);
+    assertThat(PreflopMatchups.handClass(hand(Kind.KING, Suit.CLUBS, Kind.ACE, Suit.CLUBS)))
+        .isEqualTo(ace * PreflopMatchups.RANKS + king);
+    assertThat(PreflopMatchups.handClass(hand(Kind.ACE, Suit.CLUBS, Kind.KING, Suit.HEARTS)))
+        .isEqualTo(king * PreflopMatchups.RANKS + ace);
+  }
+
+  @Test
+  void canonicalKey_shouldNotDependOnTheNamesOfTheSuits() {
+    int key =
+        PreflopMatchups.canonicalKey(
+            hand(Kind.ACE, Suit.HEARTS, Kind.KING, Suit.HEARTS),
+            hand(Kind.QUEEN, Suit.HEARTS, Kind.JACK, Suit.SPADES));
+
+    assertThat(
+            PreflopMatchups.canonicalKey(
+                hand(Kind.ACE, Suit.CLUBS, Kind.KING, Suit.CLUBS),
+                hand(Kind.QUEEN, Suit.CLUBS, Kind.JACK, Suit.DIAMONDS)))
+        .isEqualTo(key);
+    assertThat(
+            PreflopMatchups.canonicalKey(
+                hand(Kind.ACE, Suit.CLUBS, Kind.KING, Suit.CLUBS),
+                hand(Kind.QUEEN, Suit.DIAMONDS, Kind.JACK, Suit.CLUBS)))
+        .isNotEqualTo(key);
+  }
+
+  @Test
+  void firstHandAndSecondHand_shouldBeTheHandsOfTheKey() {
+    long first = hand(Kind.ACE, Suit.HEARTS, Kind.KING, Suit.HEARTS);
+    long second = hand(Kind.TWO, Suit.SPADES, Kind.TWO, Suit.CLUBS);
+
+    int key = PreflopMatchups.canonicalKey(first, second);
+
+    assertThat(PreflopMatchups.handClass(PreflopMatchups.firstHand(key)))
+        .isEqualTo(PreflopMatchups.handClass(first));
+    assertThat(PreflopMatchups.handClass(PreflopMatchups.secondHand(key)))
+        .isEqualTo(PreflopMatchups.handClass(second));
+    assertThat(
+            PreflopMatchups.canonicalKey(
+                PreflopMatchups.firstHand(key), PreflopMatchups.secondHand(key)))
+        .isEqualTo(key);
+  }
+
+  @Test
+  void canonicalCombos_shouldNotDependOnTheOrderOrTheSuitsOfTheHands() {
+    long[] hands = {
+      hand(Kind.ACE, Suit.SPADES, Kind.ACE, Suit.HEARTS),
+      hand(Kind.KING, Suit.CLUBS, Kind.QUEEN, Suit.CLUBS),
+      hand(Kind.SEVEN, Suit.SPADES, Kind.TWO, Suit.DIAMONDS)
+    };
+    long[] renamed = {
+      hand(Kind.SEVEN, Suit.CLUBS, Kind.TWO, Suit.HEARTS),
+      hand(Kind.ACE, Suit.CLUBS, Kind.ACE, Suit.DIAMONDS),
+      hand(Kind.KING, Suit.SPADES, Kind.QUEEN, Suit.SPADES)
+    };
+    int[] slots = new int[3];
+    int[] renamedSlots = new int[3];
+
+    int[] combos = PreflopMatchups.canonicalCombos(hands, slots);
+
+    assertThat(PreflopMatchups.canonicalCombos(renamed, renamedSlots)).isEqualTo(combos);
+    assertThat(renamedSlots).containsExactly(slots[2], slots[0], slots[1]);
+    assertThat(PreflopMatchups.handClass(Combos.holeCards(combos[slots[1]])))
+        .isEqualTo(PreflopMatchups.handClass(hands[1]));
+  }
+
+  private static long hand(Kind firstKind, Suit firstSuit, Kind secondKind, Suit secondSuit) {
+    return CardMask.of(List.of(new Card(firstKind, firstSuit), new Card(secondKind, secondSuit)));
+  }
+}
@@ -8,6 +8,7 @@ import com.sap.ase.poker.model.deck.Card;
 import com.sap.ase.poker.model.deck.Kind;
 import com.sap.ase.poker.model.deck.Suit;
 import com.sap.ase.poker.model.hands.*;
+import java.util.ArrayList;
 import java.util.List;
 import org.junit.jupiter.api.Test;
 
@@ -16,14 +17,49 @@ public class HandRulesTest {
   private final HandRules underTest = new HandRules();
 
   @Test
-  void whenOnlySixCardsPresent_findBestHand_shouldReturnException() {
+  void whenOnlyFourCardsPresent_findBestHand_shouldReturnException() {
 
-    List<Card> cards = HandFixtures.invalidHandWith6Cards();
+    List<Card> cards = HandFixtures.highCardOfKingWith6Cards().subList(0, 4);
 
     assertThatThrownBy(() -> underTest.findBestHand(cards))
         .isInstanceOf(InvalidAmountOfCardsException.class);
   }
 
+  @Test
+  void whenEightCardsPresent_findBestHand_shouldReturnException() {
+    List<Card> cards = new ArrayList<>(HandFixtures.highCardOfKing());
+    cards.add(new Card(Kind.QUEEN, Suit.CLUBS));
+
+    assertThatThrownBy(() -> underTest.findBestHand(cards))
+        .isInstanceOf(InvalidAmountOfCardsException.class);
+  }
+
+  @Test
+  void whenOnlySixCardsPresent_findBestHand_shouldReturnHighCardWithKing() {
+    List<Card> cards = HandFixtures.highCardOfKingWith6Cards();
+
+    Hand hand = underTest.findBestHand(cards);
+
+    assertThat(hand.getCards()).hasSize(5).doesNotContain(new Card(Kind.TWO, Suit.SPADES));
+    assertThat(hand).isInstanceOf(HighCard.class);
+  }
+
+  @Test
+  void whenOnlyFiveCardsOfAFullHousePresent_findBestHand_shouldReturnFullHouse() {
+    List<Card> cards =
+        List.of(
+            new Card(Kind.NINE, Suit.HEARTS),
+            new Card(Kind.NINE, Suit.CLUBS),
+            new Card(Kind.NINE, Suit.SPADES),
+            new Card(Kind.FOUR, Suit.DIAMONDS),
+            new Card(Kind.FOUR, Suit.CLUBS));
+
+    Hand hand = underTest.findBestHand(cards);
+
+    assertThat(hand.getCards()).containsExactlyInAnyOrderElementsOf(cards);
+    assertThat(hand).isInstanceOf(FullHouse.class);
+  }
+
   @Test
   void whenOnlyHighCardKingPresent_findBestHand_shouldReturnHighCardWithKing() {
     List<Card> cards = HandFixtures.highCardOfKing();
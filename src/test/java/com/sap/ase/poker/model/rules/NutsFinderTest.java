@@ -0,0 +1,84 @@
+package com.sap.ase.poker.model.rules;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.sap.ase.poker.fixtures.HandFixtures;
+import com.sap.ase.poker.model.deck.Card;
+import com.sap.ase.poker.model.deck.Kind;
+import com.sap.ase.poker.model.deck.Suit;
+import com.sap.ase.poker.model.evaluator.BitmaskHandEvaluator;
+import com.sap.ase.poker.model.evaluator.HandStrength;
+import java.util.Comparator;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class NutsFinderTest {
+
+  private static final List<Card> BOARD_WITH_THREE_HEARTS =
+      List.of(
+          new Card(Kind.ACE, Suit.HEARTS),
+          new Card(Kind.KING, Suit.HEARTS),
+          new Card(Kind.QUEEN, Suit.HEARTS),
+          new Card(Kind.TWO, Suit.CLUBS),
+          new Card(Kind.SEVEN, Suit.DIAMONDS));
+
+  private final NutsFinder underTest = new NutsFinder(new BitmaskHandEvaluator());
+
+  @Test
+  void findNuts_shouldFindTheNutHandAndTheTopHoldings() {
+    Nuts nuts = underTest.findNuts(BOARD_WITH_THREE_HEARTS, 3);
+
+    assertThat(HandStrength.category(nuts.getNutStrength())).isEqualTo(HandStrength.ROYAL_FLUSH);
+    assertThat(nuts.getNutHoldings()).hasSize(1);
+    assertThat(nuts.getNutHoldings().get(0).getHoleCards())
+        .containsExactly(new Card(Kind.TEN, Suit.HEARTS), new Card(Kind.JACK, Suit.HEARTS));
+    assertThat(nuts.getTopHoldings())
+        .extracting(holding -> holding.getHoleCards().get(0))
+        .containsExactly(
+            new Card(Kind.TEN, Suit.HEARTS),
+            new Card(Kind.NINE, Suit.HEARTS),
+            new Card(Kind.EIGHT, Suit.HEARTS));
+    assertThat(nuts.getTopHoldings().get(1).getHand().getCategory()).isEqualTo(HandStrength.FLUSH);
+  }
+
+  @Test
+  void findNuts_shouldRankAllHoldingsStrongestFirst() {
+    Nuts nuts = underTest.findNuts(BOARD_WITH_THREE_HEARTS, Integer.MAX_VALUE);
+
+    assertThat(nuts.getTopHoldings()).hasSize(1081);
+    assertThat(nuts.getTopHoldings())
+        .isSortedAccordingTo(Comparator.comparingInt(Holding::getStrength).reversed());
+  }
+
+  @Test
+  void findNuts_shouldReturnEveryHoldingThatPlaysTheBoard() {
+    List<Card> royalFlush =
+        List.of(
+            new Card(Kind.ACE, Suit.DIAMONDS),
+            new Card(Kind.KING, Suit.DIAMONDS),
+            new Card(Kind.QUEEN, Suit.DIAMONDS),
+            new Card(Kind.JACK, Suit.DIAMONDS),
+            new Card(Kind.TEN, Suit.DIAMONDS));
+    Nuts nuts = underTest.findNuts(royalFlush, 2);
+
+    assertThat(nuts.getNutHoldings()).hasSize(1081);
+    assertThat(nuts.getTopHoldings()).hasSize(2);
+  }
+
+  @Test
+  void findNuts_shouldRankTheHoldingsOnTheFlop() {
+    Nuts nuts = underTest.findNuts(BOARD_WITH_THREE_HEARTS.subList(0, 3), 0);
+
+    assertThat(nuts.getNutHoldings()).hasSize(1);
+    assertThat(nuts.getTopHoldings()).isEmpty();
+  }
+
+  @Test
+  void findNuts_shouldRequireThreeToFiveCommunityCards() {
+    assertThatThrownBy(() -> underTest.findNuts(BOARD_WITH_THREE_HEARTS.subList(0, 2), 1))
+        .isInstanceOf(InvalidAmountOfCardsException.class);
+    assertThatThrownBy(() -> underTest.findNuts(HandFixtures.royalFlush(), 1))
+        .isInstanceOf(InvalidAmountOfCardsException.class);
+  }
+}
@@ -1,16 +1,29 @@
 package com.sap.ase.poker.model.rules;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.fail;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
 
 import com.sap.ase.poker.fixtures.HandFixtures;
 import com.sap.ase.poker.fixtures.PlayerFixtures;
+import com.sap.ase.poker.model.GameVariant;
 import com.sap.ase.poker.model.Player;
 import com.sap.ase.poker.model.deck.Card;
-import com.sap.ase.poker.model.hands.HighCard;
+import com.sap.ase.poker.model.deck.CardMask;
+import com.sap.ase.poker.model.deck.Kind;
+import com.sap.ase.poker.model.deck.Suit;
+import com.sap.ase.poker.model.evaluator.BitmaskHandEvaluator;
+import com.sap.ase.poker.model.evaluator.HandState;
+import com.sap.ase.poker.model.evaluator.HandStrength;
+import com.sap.ase.poker.model.evaluator.OmahaHandEvaluator;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -18,7 +31,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 @ExtendWith(MockitoExtension.class)
 class WinnerRulesTest {
 
-  WinnerRules underTest = new WinnerRules(new HandRules());
+  WinnerRules underTest = new WinnerRules(new HandRules(), new OmahaHandEvaluator());
 
   @Test
   void findWinners_shouldCombineCommunityCardsWithHandCards() {
@@ -34,7 +47,9 @@ class WinnerRulesTest {
 
     assertThat(winners.getWinners()).contains(alWithHighCard);
     if (winners.getWinningHand().isPresent()) {
-      assertThat(winners.getWinningHand().get()).isInstanceOf(HighCard.class);
+      assertThat(winners.getWinningHand().get().getCategory()).isEqualTo(HandStrength.HIGH_CARD);
+      assertThat(winners.getWinningHand().get().getCards())
+          .containsExactlyElementsOf(highCardOfKing.subList(0, 5));
     } else {
       fail("");
     }
@@ -159,4 +174,151 @@ class WinnerRulesTest {
     assertThat(winners.getWinners()).contains(alWithHighCard);
     assertThat(winners.getWinners()).doesNotContain(patWithLowCard);
   }
+
+  @Test
+  void showdown_shouldGroupPlayersWithEqualHandsBestFirst() {
+    Player alWithHighCard = PlayerFixtures.AL_CAPONE();
+    Player patWithTens = PlayerFixtures.PAT_GARRETT();
+    Player alisonWithTens = PlayerFixtures.ALISON_GARDENER();
+
+    alWithHighCard.setHandCards(HandFixtures.handWithLowCards());
+    patWithTens.setHandCards(HandFixtures.handWithTenAndLowCard());
+    alisonWithTens.setHandCards(
+        Arrays.asList(new Card(Kind.TEN, Suit.HEARTS), new Card(Kind.FOUR, Suit.HEARTS)));
+    List<Card> communityCards = HandFixtures.communityCardsWithPairOfTens();
+    Showdown showdown =
+        underTest.showdown(
+            communityCards, Arrays.asList(alWithHighCard, patWithTens, alisonWithTens));
+
+    assertThat(showdown.getTieGroups())
+        .containsExactly(List.of(patWithTens, alisonWithTens), List.of(alWithHighCard));
+    assertThat(showdown.getWinners()).containsExactly(patWithTens, alisonWithTens);
+    assertThat(HandStrength.category(showdown.getStrength(0)))
+        .isEqualTo(HandStrength.THREE_OF_A_KIND);
+    assertThat(HandStrength.category(showdown.getStrength(1))).isEqualTo(HandStrength.PAIR);
+    assertThat(showdown.getWinningHand().get().getCards())
+        .contains(new Card(Kind.TEN, Suit.SPADES), new Card(Kind.KING, Suit.SPADES));
+  }
+
+  @Test
+  void showdown_shouldRequireSevenCardsPerPlayer() {
+    Player al = PlayerFixtures.AL_CAPONE();
+    al.setHandCards(HandFixtures.handWithAce());
+
+    assertThatThrownBy(() -> underTest.showdown(Collections.emptyList(), List.of(al)))
+        .isInstanceOf(InvalidAmountOfCardsException.class);
+  }
+
+  @Test
+  void showdown_shouldUseExactlyTwoHoleCardsInOmaha() {
+    Player alWithFourHearts = PlayerFixtures.AL_CAPONE();
+    Player patWithTrips = PlayerFixtures.PAT_GARRETT();
+    alWithFourHearts.setHandCards(
+        List.of(
+            new Card(Kind.ACE, Suit.HEARTS),
+            new Card(Kind.KING, Suit.HEARTS),
+            new Card(Kind.SIX, Suit.HEARTS),
+            new Card(Kind.FIVE, Suit.HEARTS)));
+    patWithTrips.setHandCards(
+        List.of(
+            new Card(Kind.TEN, Suit.SPADES),
+            new Card(Kind.TEN, Suit.CLUBS),
+            new Card(Kind.TWO, Suit.SPADES),
+            new Card(Kind.THREE, Suit.SPADES)));
+    List<Card> boardWithOneHeart =
+        List.of(
+            new Card(Kind.TEN, Suit.HEARTS),
+            new Card(Kind.NINE, Suit.CLUBS),
+            new Card(Kind.FOUR, Suit.DIAMONDS),
+            new Card(Kind.SEVEN, Suit.SPADES),
+            new Card(Kind.QUEEN, Suit.DIAMONDS));
+
+    Showdown showdown =
+        underTest.showdown(
+            boardWithOneHeart, List.of(alWithFourHearts, patWithTrips), GameVariant.OMAHA);
+
+    assertThat(showdown.getWinners()).containsExactly(patWithTrips);
+    assertThat(HandStrength.category(showdown.getStrength(0)))
+        .isEqualTo(HandStrength.THREE_OF_A_KIND);
+    assertThat(showdown.getWinningHand().get().getCards())
+        .containsExactlyInAnyOrder(
+            new Card(Kind.TEN, Suit.SPADES),
+            new Card(Kind.TEN, Suit.CLUBS),
+            new Card(Kind.TEN, Suit.HEARTS),
+            new Card(Kind.QUEEN, Suit.DIAMONDS),
+            new Card(Kind.NINE, Suit.CLUBS));
+  }
+
+  @Test
+  void showdown_shouldRequireFourHoleCardsInOmaha() {
+    Player al = PlayerFixtures.AL_CAPONE();
+    al.setHandCards(HandFixtures.handWithAce());
+
+    assertThatThrownBy(
+            () ->
+                underTest.showdown(
+                    HandFixtures.communityCardsWithPairOfTens(), List.of(al), GameVariant.OMAHA))
+        .isInstanceOf(InvalidAmountOfCardsException.class)
+        .hasMessage("9 cards needed");
+  }
+
+  @Test
+  void showdown_shouldHaveNoWinnersWithoutPlayers() {
+    Showdown showdown = underTest.showdown(HandFixtures.communityCardsWithPairOfTens(), List.of());
+
+    assertThat(showdown.getWinners()).isEmpty();
+    assertThat(showdown.getTieGroups()).isEmpty();
+    assertThat(showdown.getWinningHand()).isEmpty();
+  }
+
+  @Test
+  void findWinners_shouldPickTheBestOfAlreadyEvaluatedHands() {
+    Player al = PlayerFixtures.AL_CAPONE();
+    Player pat = PlayerFixtures.PAT_GARRETT();
+    HandState alsSevens = handState(HandFixtures.pairOfSevens());
+    HandState patsNines = handState(HandFixtures.pairOfNines());
+
+    Winners winners = underTest.findWinners(hands(al, alsSevens, pat, patsNines));
+
+    assertThat(winners.getWinners()).containsExactly(pat);
+    assertThat(winners.getWinningHand().get().getStrength()).isEqualTo(patsNines.getStrength());
+    assertThat(winners.getWinningHand().get().getCards())
+        .contains(new Card(Kind.NINE, Suit.DIAMONDS), new Card(Kind.NINE, Suit.HEARTS));
+  }
+
+  @Test
+  void findWinners_shouldOnlyPickTheCardsOfTheWinningHand() {
+    Player al = PlayerFixtures.AL_CAPONE();
+    Player pat = PlayerFixtures.PAT_GARRETT();
+    HandState alsSevens = spy(handState(HandFixtures.pairOfSevens()));
+    HandState patsNines = spy(handState(HandFixtures.pairOfNines()));
+
+    underTest.findWinners(hands(al, alsSevens, pat, patsNines));
+
+    verify(alsSevens, never()).toEvaluation();
+    verify(patsNines).toEvaluation();
+  }
+
+  @Test
+  void findWinners_shouldKeepTheSeatOrderOfATie() {
+    Player al = PlayerFixtures.AL_CAPONE();
+    Player pat = PlayerFixtures.PAT_GARRETT();
+    HandState hand = handState(HandFixtures.pairOfNines());
+
+    Winners winners = underTest.findWinners(hands(al, hand, pat, hand));
+
+    assertThat(winners.getWinners()).containsExactly(al, pat);
+  }
+
+  private static Map<Player, HandState> hands(
+      Player first, HandState firstHand, Player second, HandState secondHand) {
+    Map<Player, HandState> hands = new LinkedHashMap<>();
+    hands.put(first, firstHand);
+    hands.put(second, secondHand);
+    return hands;
+  }
+
+  private static HandState handState(List<Card> cards) {
+    return new HandState(new BitmaskHandEvaluator(), CardMask.of(cards));
+  }
 }
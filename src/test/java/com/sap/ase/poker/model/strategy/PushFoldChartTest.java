@@ -0,0 +1,70 @@
+package com.sap.ase.poker.model.strategy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+import com.sap.ase.poker.model.deck.Card;
+import com.sap.ase.poker.model.deck.CardMask;
+import com.sap.ase.poker.model.deck.Kind;
+import com.sap.ase.poker.model.deck.Suit;
+import com.sap.ase.poker.model.range.PreflopMatchups;
+import com.sap.ase.poker.model.rules.InvalidAmountOfCardsException;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class PushFoldChartTest {
+
+  private static final long ACES =
+      CardMask.of(List.of(new Card(Kind.ACE, Suit.SPADES), new Card(Kind.ACE, Suit.HEARTS)));
+  private static final long SEVEN_DEUCE =
+      CardMask.of(List.of(new Card(Kind.SEVEN, Suit.CLUBS), new Card(Kind.TWO, Suit.DIAMONDS)));
+
+  @Test
+  void headsUp_shouldPushWideWhenShortAndTightWhenDeep() {
+    PushFoldChart chart = PushFoldChart.headsUp();
+
+    assertThat(chart.pushFrequency(SEVEN_DEUCE, 1)).isEqualTo(1.0);
+    assertThat(chart.pushFrequency(SEVEN_DEUCE, 20)).isZero();
+    assertThat(chart.pushFrequency(ACES, 20)).isEqualTo(1.0);
+    assertThat(chart.callFrequency(ACES, 25)).isEqualTo(1.0);
+  }
+
+  @Test
+  void read_shouldReadWhatWasWrittenForTheNearestStack() throws IOException {
+    double[] push = new double[PreflopMatchups.HAND_CLASSES];
+    double[] call = new double[PreflopMatchups.HAND_CLASSES];
+    Arrays.fill(push, 0.3);
+    Arrays.fill(call, 0.7);
+    List<PushFoldStrategy> strategies =
+        List.of(new PushFoldStrategy(5, push, call, 0), new PushFoldStrategy(10, call, push, 0));
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    PushFoldChart.write(strategies, out);
+    PushFoldChart chart = PushFoldChart.read(new ByteArrayInputStream(out.toByteArray()));
+
+    assertThat(chart.pushFrequency(ACES, 6)).isCloseTo(0.3, within(0.5 / 255));
+    assertThat(chart.callFrequency(ACES, 6)).isCloseTo(0.7, within(0.5 / 255));
+    assertThat(chart.pushFrequency(ACES, 9)).isCloseTo(0.7, within(0.5 / 255));
+  }
+
+  @Test
+  void read_shouldRejectOtherFiles() {
+    byte[] notAChart = new byte[3 * Integer.BYTES];
+
+    assertThatThrownBy(() -> PushFoldChart.read(new ByteArrayInputStream(notAChart)))
+        .isInstanceOf(IllegalStateException.class);
+  }
+
+  @Test
+  void pushFrequency_shouldRequireTwoHoleCards() {
+    long aceOfSpades = CardMask.of(new Card(Kind.ACE, Suit.SPADES));
+
+    assertThatThrownBy(() -> PushFoldChart.headsUp().pushFrequency(aceOfSpades, 10))
+        .isInstanceOf(InvalidAmountOfCardsException.class);
+  }
+}
@@ -0,0 +1,68 @@
+package com.sap.ase.poker.model.strategy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+import com.sap.ase.poker.model.deck.Kind;
+import com.sap.ase.poker.model.equity.PreflopEquityTable;
+import com.sap.ase.poker.model.range.PreflopMatchups;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class PushFoldSolverTest {
+
+  private static final int ACES = Kind.ACE.ordinal() * PreflopMatchups.RANKS + Kind.ACE.ordinal();
+  // offsuit, so the lower rank comes first
+  private static final int SEVEN_DEUCE =
+      Kind.TWO.ordinal() * PreflopMatchups.RANKS + Kind.SEVEN.ordinal();
+
+  // averaging the class equities takes a while, so all tests share one solver
+  private static final PushFoldSolver underTest = new PushFoldSolver(PreflopEquityTable.headsUp());
+
+  @Test
+  void solve_shouldPushAndCallEverythingWithOneBigBlind() {
+    PushFoldStrategy strategy = underTest.solve(1, 1000);
+
+    assertThat(strategy.getPushFrequency(SEVEN_DEUCE)).isCloseTo(1, within(0.01));
+    assertThat(strategy.getCallFrequency(SEVEN_DEUCE)).isCloseTo(1, within(0.01));
+  }
+
+  @Test
+  void solve_shouldOnlyPlayStrongHandsWithDeepStacks() {
+    PushFoldStrategy strategy = underTest.solve(20, 1000);
+
+    // the first iteration answers the other player's empty strategy, which fades away
+    assertThat(strategy.getPushFrequency(ACES)).isCloseTo(1, within(0.01));
+    assertThat(strategy.getCallFrequency(ACES)).isCloseTo(1, within(0.01));
+    assertThat(strategy.getPushFrequency(SEVEN_DEUCE)).isCloseTo(0, within(0.01));
+    assertThat(strategy.getCallFrequency(SEVEN_DEUCE)).isCloseTo(0, within(0.01));
+  }
+
+  @Test
+  void solve_shouldApproachTheEquilibriumWithMoreIterations() {
+    PushFoldStrategy rough = underTest.solve(10, 100);
+    PushFoldStrategy fine = underTest.solve(10, 2000);
+
+    assertThat(fine.getExploitability()).isLessThan(rough.getExploitability()).isLessThan(0.002);
+  }
+
+  @Test
+  void solve_shouldSolveEveryStackLikeOnItsOwn() {
+    List<PushFoldStrategy> strategies = underTest.solve(new double[] {4, 8}, 300);
+
+    PushFoldStrategy alone = underTest.solve(8, 300);
+    assertThat(strategies).extracting(PushFoldStrategy::getStack).containsExactly(4.0, 8.0);
+    for (int handClass = 0; handClass < PreflopMatchups.HAND_CLASSES; handClass++) {
+      assertThat(strategies.get(1).getPushFrequency(handClass))
+          .isEqualTo(alone.getPushFrequency(handClass));
+    }
+  }
+
+  @Test
+  void solve_shouldRequireStacksThatCoverTheBigBlind() {
+    assertThatThrownBy(() -> underTest.solve(0.5, 1000))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> underTest.solve(10, 0)).isInstanceOf(IllegalArgumentException.class);
+  }
+}
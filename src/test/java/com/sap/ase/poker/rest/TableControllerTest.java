@@ -8,12 +8,25 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sap.ase.poker.data.PlayerNamesRepository;
 import com.sap.ase.poker.dto.BetRequestDto;
+import com.sap.ase.poker.dto.CardDto;
+import com.sap.ase.poker.dto.EquityDto;
 import com.sap.ase.poker.dto.GetTableResponseDto;
+import com.sap.ase.poker.dto.OutsDto;
 import com.sap.ase.poker.model.GameState;
 import com.sap.ase.poker.model.Player;
+import com.sap.ase.poker.model.deck.Card;
+import com.sap.ase.poker.model.deck.CardMask;
+import com.sap.ase.poker.model.deck.Kind;
+import com.sap.ase.poker.model.deck.Suit;
+import com.sap.ase.poker.model.equity.Equity;
+import com.sap.ase.poker.model.equity.Outs;
 import com.sap.ase.poker.service.TableService;
 import java.security.Principal;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -52,6 +65,7 @@ public class TableControllerTest {
         .thenReturn(
             Arrays.asList(new Player(ALICE_ID, "Alice", 100), new Player("bob", "Bob", 100)));
     Mockito.when(tableService.getState()).thenReturn(GameState.FLOP);
+    Mockito.when(tableService.getHandLabel(ALICE_ID)).thenReturn(Optional.of("Pair"));
 
     MockHttpServletResponse response =
         mockMvc
@@ -65,6 +79,65 @@ public class TableControllerTest {
 
     assertThat(result.getPlayers()).hasSize(2);
     assertThat(result.getState()).isEqualTo(GameState.FLOP.getValue());
+    assertThat(result.getPlayerHand()).isEqualTo("Pair");
+  }
+
+  @Test
+  void getEquity_returnsTheEquitiesOfTheAllInPlayers() throws Exception {
+    Principal mockPrincipal = Mockito.mock(Principal.class);
+    Mockito.when(mockPrincipal.getName()).thenReturn(ALICE_ID);
+
+    Map<String, Equity> equities = new LinkedHashMap<>();
+    equities.put(ALICE_ID, new Equity(0.8, 0.02, 0.81));
+    equities.put("bob", new Equity(0.18, 0.02, 0.19));
+    Mockito.when(tableService.getEquities()).thenReturn(equities);
+
+    MockHttpServletResponse response =
+        mockMvc
+            .perform(get(PATH + "/equity").principal(mockPrincipal))
+            .andExpect(status().isOk())
+            .andReturn()
+            .getResponse();
+
+    EquityDto[] result = objectMapper.readValue(response.getContentAsString(), EquityDto[].class);
+
+    assertThat(result).extracting(EquityDto::getPlayerId).containsExactly(ALICE_ID, "bob");
+    assertThat(result[0].getEquity()).isEqualTo(0.81);
+    assertThat(result[1].getTie()).isEqualTo(0.02);
+  }
+
+  @Test
+  void getOuts_returnsTheOwnOutsOfThePlayer() throws Exception {
+    Principal mockPrincipal = Mockito.mock(Principal.class);
+    Mockito.when(mockPrincipal.getName()).thenReturn(ALICE_ID);
+    Outs outs =
+        new Outs(
+            CardMask.of(List.of(new Card(Kind.ACE, Suit.CLUBS), new Card(Kind.ACE, Suit.DIAMONDS))),
+            new Equity(0.05, 0, 0.05));
+    Mockito.when(tableService.getOuts(ALICE_ID)).thenReturn(Optional.of(outs));
+
+    MockHttpServletResponse response =
+        mockMvc
+            .perform(get(PATH + "/outs").principal(mockPrincipal))
+            .andExpect(status().isOk())
+            .andReturn()
+            .getResponse();
+
+    OutsDto result = objectMapper.readValue(response.getContentAsString(), OutsDto.class);
+
+    assertThat(result.getCards()).extracting(CardDto::getRank).containsExactly("ace", "ace");
+    assertThat(result.getWin()).isEqualTo(0.05);
+  }
+
+  @Test
+  void getOuts_returnsNoContentOutsideTheFlopAndTheTurn() throws Exception {
+    Principal mockPrincipal = Mockito.mock(Principal.class);
+    Mockito.when(mockPrincipal.getName()).thenReturn(ALICE_ID);
+    Mockito.when(tableService.getOuts(ALICE_ID)).thenReturn(Optional.empty());
+
+    mockMvc
+        .perform(get(PATH + "/outs").principal(mockPrincipal))
+        .andExpect(status().isNoContent());
   }
 
   @Test
@@ -1,17 +1,37 @@
 package com.sap.ase.poker.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.*;
 
 import com.sap.ase.poker.model.GameState;
+import com.sap.ase.poker.model.GameVariant;
 import com.sap.ase.poker.model.IllegalActionException;
 import com.sap.ase.poker.model.IllegalAmountException;
 import com.sap.ase.poker.model.Player;
 import com.sap.ase.poker.model.deck.Card;
+import com.sap.ase.poker.model.deck.CardMask;
 import com.sap.ase.poker.model.deck.Deck;
+import com.sap.ase.poker.model.deck.Kind;
+import com.sap.ase.poker.model.deck.PokerCardsSupplier;
+import com.sap.ase.poker.model.deck.Suit;
+import com.sap.ase.poker.model.equity.BoardRanksCache;
+import com.sap.ase.poker.model.equity.Equity;
+import com.sap.ase.poker.model.equity.EquityCalculator;
+import com.sap.ase.poker.model.equity.Outs;
+import com.sap.ase.poker.model.equity.OutsCalculator;
+import com.sap.ase.poker.model.evaluator.BitmaskHandEvaluator;
+import com.sap.ase.poker.model.evaluator.HandEvaluator;
+import com.sap.ase.poker.model.evaluator.HandStrength;
+import com.sap.ase.poker.model.evaluator.OmahaHandEvaluator;
+import com.sap.ase.poker.model.rules.HandRules;
+import com.sap.ase.poker.model.rules.WinnerRules;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
 import java.util.function.Supplier;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -22,19 +42,19 @@ import org.mockito.junit.jupiter.MockitoExtension;
 @ExtendWith(MockitoExtension.class)
 class TableServiceTest {
 
-  @Mock Card cardMock;
   @Mock Deck deckMock;
   @Mock private Supplier<Deck> deckSupplierMock;
   private TableService cut;
 
   @BeforeEach
   void setUp() {
+    List<Card> cards = new ArrayList<>(new PokerCardsSupplier().get());
     lenient().when(deckSupplierMock.get()).thenReturn(deckMock);
-    lenient().when(deckMock.draw()).thenReturn(cardMock);
+    lenient().when(deckMock.draw()).thenAnswer(invocation -> cards.remove(0));
     lenient()
         .when(deckMock.drawThreeCommunityCards())
-        .thenReturn(List.of(cardMock, cardMock, cardMock));
-    cut = new TableService(deckSupplierMock);
+        .thenAnswer(invocation -> List.of(cards.remove(0), cards.remove(0), cards.remove(0)));
+    cut = tableService(new BitmaskHandEvaluator(), GameVariant.TEXAS_HOLDEM, Runnable::run);
   }
 
   @Test
@@ -345,6 +365,409 @@ class TableServiceTest {
     assertThat(cut.getState()).isEqualTo(GameState.ENDED);
   }
 
+  @Test
+  void showdownShouldPayThePotToThePlayerWithTheBestHand() {
+    givenCardsAreDealtInOrder(
+        new Card(Kind.ACE, Suit.SPADES),
+        new Card(Kind.ACE, Suit.HEARTS),
+        new Card(Kind.TWO, Suit.CLUBS),
+        new Card(Kind.SEVEN, Suit.DIAMONDS),
+        new Card(Kind.THREE, Suit.CLUBS),
+        new Card(Kind.EIGHT, Suit.DIAMONDS),
+        new Card(Kind.KING, Suit.SPADES),
+        new Card(Kind.NINE, Suit.HEARTS),
+        new Card(Kind.FOUR, Suit.DIAMONDS),
+        new Card(Kind.JACK, Suit.CLUBS),
+        new Card(Kind.FIVE, Suit.HEARTS));
+    givenGameStateInTurn();
+    iterationOfChecks();
+    iterationOfChecks();
+
+    assertThat(cut.getWinner().get()).extracting(Player::getId).isEqualTo("al-capone");
+    assertThat(cut.getPlayers()).extracting(Player::getCash).containsExactly(160, 70, 70);
+    assertThat(cut.getPot()).isZero();
+    assertThat(cut.getWinnerHand())
+        .containsExactlyInAnyOrder(
+            new Card(Kind.ACE, Suit.SPADES),
+            new Card(Kind.ACE, Suit.HEARTS),
+            new Card(Kind.KING, Suit.SPADES),
+            new Card(Kind.JACK, Suit.CLUBS),
+            new Card(Kind.NINE, Suit.HEARTS));
+  }
+
+  @Test
+  void handStrengthShouldBeUpdatedWithEveryStreet() {
+    givenCardsAreDealtInOrder(
+        new Card(Kind.ACE, Suit.SPADES),
+        new Card(Kind.ACE, Suit.HEARTS),
+        new Card(Kind.TWO, Suit.CLUBS),
+        new Card(Kind.SEVEN, Suit.DIAMONDS),
+        new Card(Kind.THREE, Suit.CLUBS),
+        new Card(Kind.EIGHT, Suit.DIAMONDS),
+        new Card(Kind.KING, Suit.SPADES),
+        new Card(Kind.NINE, Suit.HEARTS),
+        new Card(Kind.FOUR, Suit.DIAMONDS),
+        new Card(Kind.KING, Suit.CLUBS));
+    givenThreePlayersJoinTheGame();
+    cut.start();
+    assertThat(cut.getHandStrength("al-capone")).isZero();
+
+    playFirstIteration();
+    playSecondIterationAndReachConsensus();
+    assertThat(cut.getHandStrength("al-capone"))
+        .isEqualTo(HandStrength.of(HandStrength.PAIR, 13, 13, 12, 8, 3));
+
+    iterationOfChecks();
+    assertThat(cut.getHandStrength("al-capone"))
+        .isEqualTo(HandStrength.of(HandStrength.TWO_PAIRS, 13, 13, 12, 12, 8));
+    assertThat(cut.getHandStrength("bob"))
+        .isEqualTo(HandStrength.of(HandStrength.PAIR, 12, 12, 8, 7, 3));
+    assertThat(cut.getHandStrength("nobody")).isZero();
+  }
+
+  @Test
+  void handLabelShouldShowTheCurrentHandFromTheFlopOn() {
+    givenCardsAreDealtInOrder(
+        new Card(Kind.ACE, Suit.SPADES),
+        new Card(Kind.ACE, Suit.HEARTS),
+        new Card(Kind.TWO, Suit.CLUBS),
+        new Card(Kind.SEVEN, Suit.DIAMONDS),
+        new Card(Kind.THREE, Suit.CLUBS),
+        new Card(Kind.EIGHT, Suit.DIAMONDS),
+        new Card(Kind.KING, Suit.SPADES),
+        new Card(Kind.NINE, Suit.HEARTS),
+        new Card(Kind.FOUR, Suit.DIAMONDS),
+        new Card(Kind.KING, Suit.CLUBS));
+    givenThreePlayersJoinTheGame();
+    cut.start();
+    assertThat(cut.getHandLabel("al-capone")).isEmpty();
+
+    playFirstIteration();
+    playSecondIterationAndReachConsensus();
+    assertThat(cut.getHandLabel("al-capone")).contains("Pair");
+    assertThat(cut.getHandLabel("alice")).contains("High Card");
+
+    iterationOfChecks();
+    assertThat(cut.getHandLabel("al-capone")).contains("Two Pairs");
+    assertThat(cut.getHandLabel("nobody")).isEmpty();
+  }
+
+  @Test
+  void pollingTheHandLabelShouldNotEvaluateHandsAgain() {
+    BitmaskHandEvaluator handEvaluator = spy(new BitmaskHandEvaluator());
+    cut = tableService(handEvaluator, GameVariant.TEXAS_HOLDEM, Runnable::run);
+    givenThreePlayersJoinTheGame();
+    cut.start();
+    playFirstIteration();
+    playSecondIterationAndReachConsensus();
+    long version = cut.getVersion();
+    clearInvocations(handEvaluator);
+
+    for (int i = 0; i < 10; i++) {
+      assertThat(cut.getHandLabel("al-capone")).isPresent();
+    }
+
+    verify(handEvaluator, never()).evaluate(anyLong());
+    assertThat(cut.getVersion()).isEqualTo(version);
+  }
+
+  @Test
+  void everyChangeOfTheTableShouldIncreaseItsVersion() {
+    long initial = cut.getVersion();
+    givenTwoPlayersJoinTheGame();
+    assertThat(cut.getVersion()).isEqualTo(initial + 2);
+
+    cut.start();
+    cut.performAction("raise", 10);
+    assertThat(cut.getVersion()).isEqualTo(initial + 4);
+  }
+
+  @Test
+  void showdownShouldSplitThePotBetweenPlayersWithEqualHands() {
+    givenGameStateInTurn();
+    iterationOfChecks();
+    iterationOfChecks();
+
+    assertThat(cut.getWinner().get()).extracting(Player::getId).isEqualTo("al-capone");
+    assertThat(cut.getPlayers()).extracting(Player::getCash).containsExactly(100, 100, 100);
+    assertThat(cut.getWinnerHand())
+        .extracting(Card::getKind)
+        .containsExactly(Kind.QUEEN, Kind.JACK, Kind.TEN, Kind.NINE, Kind.EIGHT);
+  }
+
+  @Test
+  void everyPlayerShouldGetDealtFourCardsInOmaha() {
+    cut = tableService(new BitmaskHandEvaluator(), GameVariant.OMAHA, Runnable::run);
+    List<Player> players = givenThreePlayersJoinTheGame();
+    cut.start();
+
+    verify(deckMock, times(players.size() * 4)).draw();
+    assertThat(cut.getPlayers())
+        .extracting(Player::getHandCards)
+        .allSatisfy(handCards -> assertThat(handCards).hasSize(4));
+  }
+
+  @Test
+  void omahaShowdownShouldOnlyCountTwoHoleCards() {
+    cut = tableService(new BitmaskHandEvaluator(), GameVariant.OMAHA, Runnable::run);
+    givenCardsAreDealtInOrder(
+        new Card(Kind.ACE, Suit.HEARTS),
+        new Card(Kind.KING, Suit.HEARTS),
+        new Card(Kind.SIX, Suit.HEARTS),
+        new Card(Kind.FIVE, Suit.HEARTS),
+        new Card(Kind.TEN, Suit.SPADES),
+        new Card(Kind.TEN, Suit.CLUBS),
+        new Card(Kind.TWO, Suit.SPADES),
+        new Card(Kind.THREE, Suit.SPADES),
+        new Card(Kind.EIGHT, Suit.CLUBS),
+        new Card(Kind.EIGHT, Suit.DIAMONDS),
+        new Card(Kind.TWO, Suit.CLUBS),
+        new Card(Kind.TWO, Suit.DIAMONDS),
+        new Card(Kind.TEN, Suit.HEARTS),
+        new Card(Kind.NINE, Suit.CLUBS),
+        new Card(Kind.FOUR, Suit.DIAMONDS),
+        new Card(Kind.SEVEN, Suit.SPADES),
+        new Card(Kind.QUEEN, Suit.HEARTS));
+    givenGameStateInTurn();
+    iterationOfChecks();
+    iterationOfChecks();
+
+    // four hearts in the hand and two on the board make no flush
+    assertThat(cut.getWinner().get()).extracting(Player::getId).isEqualTo("alice");
+    assertThat(cut.getHandLabel("al-capone")).contains("High Card");
+    assertThat(cut.getWinnerHand())
+        .containsExactlyInAnyOrder(
+            new Card(Kind.TEN, Suit.SPADES),
+            new Card(Kind.TEN, Suit.CLUBS),
+            new Card(Kind.TEN, Suit.HEARTS),
+            new Card(Kind.QUEEN, Suit.HEARTS),
+            new Card(Kind.NINE, Suit.CLUBS));
+  }
+
+  @Test
+  void equitiesShouldBeShownOnceThePlayersAreAllIn() {
+    givenTwoPlayersJoinTheGame();
+    cut.start();
+    cut.performAction("raise", 100);
+    assertThat(cut.getEquities()).isEmpty();
+
+    cut.performAction("call", 0);
+
+    assertThat(cut.getState()).isEqualTo(GameState.FLOP);
+    assertThat(cut.getEquities()).containsOnlyKeys("al-capone", "alice");
+    assertThat(cut.getEquities().values().stream().mapToDouble(Equity::getEquity).sum())
+        .isCloseTo(1.0, within(1e-9));
+  }
+
+  @Test
+  void equitiesShouldOnlyBeEnumeratedOncePerStreet() {
+    givenTwoPlayersJoinTheGame();
+    cut.start();
+    cut.performAction("raise", 100);
+    cut.performAction("call", 0);
+    Map<String, Equity> flopEquities = cut.getEquities();
+
+    cut.performAction("check", 0);
+    assertThat(cut.getEquities()).isSameAs(flopEquities);
+
+    cut.performAction("check", 0);
+    assertThat(cut.getState()).isEqualTo(GameState.TURN);
+    assertThat(cut.getEquities()).isNotSameAs(flopEquities).hasSize(2);
+  }
+
+  @Test
+  void allInShouldNotWaitForTheEquities() {
+    List<Runnable> enumerations = new ArrayList<>();
+    cut = tableService(new BitmaskHandEvaluator(), GameVariant.TEXAS_HOLDEM, enumerations::add);
+    givenTwoPlayersJoinTheGame();
+    cut.start();
+    cut.performAction("raise", 100);
+    cut.performAction("call", 0);
+
+    assertThat(enumerations).hasSize(1);
+    assertThat(cut.getEquities()).isEmpty();
+
+    enumerations.remove(0).run();
+    assertThat(cut.getEquities()).containsOnlyKeys("al-capone", "alice");
+  }
+
+  @Test
+  void equitiesOfTheLastStreetShouldBeShownUntilTheNextOnesAreEnumerated() {
+    List<Runnable> enumerations = new ArrayList<>();
+    cut = tableService(new BitmaskHandEvaluator(), GameVariant.TEXAS_HOLDEM, enumerations::add);
+    givenTwoPlayersJoinTheGame();
+    cut.start();
+    cut.performAction("raise", 100);
+    cut.performAction("call", 0);
+    enumerations.remove(0).run();
+    Map<String, Equity> flopEquities = cut.getEquities();
+
+    cut.performAction("check", 0);
+    cut.performAction("check", 0);
+    cut.performAction("check", 0);
+    cut.performAction("check", 0);
+
+    assertThat(cut.getState()).isEqualTo(GameState.RIVER);
+    assertThat(cut.getEquities()).isSameAs(flopEquities);
+    // the turn has passed before its equities were enumerated
+    enumerations.remove(0).run();
+    assertThat(cut.getEquities()).isSameAs(flopEquities);
+    enumerations.remove(0).run();
+    assertThat(cut.getEquities()).isNotSameAs(flopEquities);
+    assertThat(cut.getEquities().values())
+        .extracting(Equity::getEquity)
+        .allSatisfy(equity -> assertThat(equity).isIn(0.0, 0.5, 1.0));
+  }
+
+  @Test
+  void equitiesShouldBeRemovedWhenTheGameEnds() {
+    givenTwoPlayersJoinTheGame();
+    cut.start();
+    cut.performAction("raise", 100);
+    cut.performAction("call", 0);
+    for (int i = 0; i < 6; i++) {
+      cut.performAction("check", 0);
+    }
+
+    assertThat(cut.getState()).isEqualTo(GameState.ENDED);
+    assertThat(cut.getEquities()).isEmpty();
+  }
+
+  @Test
+  void outsShouldBeCountedForEveryActivePlayerOnTheFlopAndTheTurn() {
+    givenThreePlayersJoinTheGame();
+    cut.start();
+    assertThat(cut.getOuts("al-capone")).isEmpty();
+
+    playFirstIteration();
+    playSecondIterationAndReachConsensus();
+
+    assertThat(cut.getState()).isEqualTo(GameState.FLOP);
+    for (String playerId : List.of("al-capone", "alice", "bob")) {
+      assertThat(cut.getOuts(playerId).orElseThrow().getEquity().getEquity()).isBetween(0.0, 1.0);
+    }
+    assertThat(cut.getOuts("nobody")).isEmpty();
+  }
+
+  @Test
+  void outsShouldNotDependOnTheHoleCardsOfTheOpponents() {
+    List<Card> flop =
+        List.of(
+            new Card(Kind.SEVEN, Suit.HEARTS),
+            new Card(Kind.TWO, Suit.HEARTS),
+            new Card(Kind.NINE, Suit.CLUBS));
+    List<Card> cards = new ArrayList<>();
+    for (List<Card> aliceCards :
+        List.of(
+            List.of(new Card(Kind.QUEEN, Suit.HEARTS), new Card(Kind.JACK, Suit.HEARTS)),
+            List.of(new Card(Kind.THREE, Suit.CLUBS), new Card(Kind.FOUR, Suit.DIAMONDS)))) {
+      cards.addAll(List.of(new Card(Kind.ACE, Suit.HEARTS), new Card(Kind.KING, Suit.HEARTS)));
+      cards.addAll(aliceCards);
+      cards.addAll(List.of(new Card(Kind.FIVE, Suit.CLUBS), new Card(Kind.SIX, Suit.DIAMONDS)));
+      cards.addAll(flop);
+    }
+    givenCardsAreDealtInOrder(cards.toArray(Card[]::new));
+    givenThreePlayersJoinTheGame();
+    cut.start();
+    playFirstIteration();
+    playSecondIterationAndReachConsensus();
+    Outs againstFlushDraw = cut.getOuts("al-capone").orElseThrow();
+
+    cut = tableService(new BitmaskHandEvaluator(), GameVariant.TEXAS_HOLDEM, Runnable::run);
+    givenThreePlayersJoinTheGame();
+    cut.start();
+    playFirstIteration();
+    playSecondIterationAndReachConsensus();
+    Outs againstNothing = cut.getOuts("al-capone").orElseThrow();
+
+    assertThat(againstNothing.getCards())
+        .hasSize(15)
+        .contains(new Card(Kind.QUEEN, Suit.HEARTS), new Card(Kind.JACK, Suit.HEARTS))
+        .containsExactlyInAnyOrderElementsOf(againstFlushDraw.getCards());
+    assertThat(againstNothing.getEquity().getEquity())
+        .isEqualTo(againstFlushDraw.getEquity().getEquity());
+  }
+
+  @Test
+  void pollingTheOutsShouldNotEvaluateHandsAgainWithinAStreet() {
+    BitmaskHandEvaluator handEvaluator = spy(new BitmaskHandEvaluator());
+    cut = tableService(handEvaluator, GameVariant.TEXAS_HOLDEM, Runnable::run);
+    givenThreePlayersJoinTheGame();
+    cut.start();
+    playFirstIteration();
+    playSecondIterationAndReachConsensus();
+    Outs outs = cut.getOuts("alice").orElseThrow();
+    clearInvocations(handEvaluator);
+
+    for (int i = 0; i < 10; i++) {
+      assertThat(cut.getOuts("alice")).containsSame(outs);
+    }
+    cut.performAction("check", 0);
+    assertThat(cut.getOuts("alice")).containsSame(outs);
+
+    verify(handEvaluator, never()).evaluate(anyLong());
+    cut.performAction("check", 0);
+    cut.performAction("check", 0);
+    assertThat(cut.getState()).isEqualTo(GameState.TURN);
+    assertThat(cut.getOuts("alice").orElseThrow()).isNotSameAs(outs);
+  }
+
+  @Test
+  void outsShouldBeCountedOnTheEquityExecutorWhenTheStreetIsDealt() {
+    List<Runnable> countings = new ArrayList<>();
+    cut = tableService(new BitmaskHandEvaluator(), GameVariant.TEXAS_HOLDEM, countings::add);
+    givenThreePlayersJoinTheGame();
+    cut.start();
+    playFirstIteration();
+    playSecondIterationAndReachConsensus();
+
+    assertThat(countings).hasSize(1);
+    assertThat(cut.getOuts("alice")).isEmpty();
+    countings.remove(0).run();
+    assertThat(cut.getOuts("alice")).isPresent();
+
+    iterationOfChecks();
+    assertThat(cut.getState()).isEqualTo(GameState.TURN);
+    assertThat(cut.getOuts("alice")).isEmpty();
+    iterationOfChecks();
+    // the turn has passed before its outs were counted
+    countings.remove(0).run();
+    assertThat(countings).isEmpty();
+    assertThat(cut.getOuts("alice")).isEmpty();
+  }
+
+  @Test
+  void outsShouldNotBeCountedInOmaha() {
+    cut = tableService(new BitmaskHandEvaluator(), GameVariant.OMAHA, Runnable::run);
+    givenThreePlayersJoinTheGame();
+    cut.start();
+    playFirstIteration();
+    playSecondIterationAndReachConsensus();
+
+    assertThat(cut.getState()).isEqualTo(GameState.FLOP);
+    assertThat(cut.getOuts("alice")).isEmpty();
+  }
+
+  private TableService tableService(
+      HandEvaluator handEvaluator, GameVariant variant, Executor equityExecutor) {
+    return new TableService(
+        deckSupplierMock,
+        handEvaluator,
+        new OmahaHandEvaluator(),
+        new WinnerRules(new HandRules(), new OmahaHandEvaluator()),
+        new EquityCalculator(handEvaluator),
+        new OutsCalculator(new BoardRanksCache(handEvaluator, 1, Runnable::run)),
+        variant,
+        equityExecutor);
+  }
+
+  private void givenCardsAreDealtInOrder(Card... cards) {
+    List<Card> deck = new ArrayList<>(List.of(cards));
+    when(deckMock.draw()).thenAnswer(invocation -> deck.remove(0));
+    when(deckMock.drawThreeCommunityCards())
+        .thenAnswer(invocation -> List.of(deck.remove(0), deck.remove(0), deck.remove(0)));
+  }
+
   private void givenGameStateInTurn() {
     givenThreePlayersJoinTheGame();
     cut.start();
@@ -1,11 +1,20 @@
 package com.sap.ase.poker.smokeTests;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.when;
 
 import com.sap.ase.poker.dto.GetTableResponseDto;
 import com.sap.ase.poker.dto.PlayerDto;
 import com.sap.ase.poker.model.GameState;
+import com.sap.ase.poker.model.deck.Card;
+import com.sap.ase.poker.model.deck.CardShuffler;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.mock.mockito.MockBean;
 
 class WinningSmokeTest extends SmokeTest {
 
@@ -16,6 +25,20 @@ class WinningSmokeTest extends SmokeTest {
   // ██║  ██║██║  ██║██║ ╚████║██████╔╝███████║    ╚██████╔╝██║     ██║     ██╗██╗██╗
   // ╚═╝  ╚═╝╚═╝  ╚═╝╚═╝  ╚═══╝╚═════╝ ╚══════╝     ╚═════╝ ╚═╝     ╚═╝     ╚═╝╚═╝╚═╝
 
+  @MockBean CardShuffler cardShuffler;
+
+  /* deals the unshuffled cards backwards: Alice gets A-K, Bill Q-J of hearts, the board 10-6 */
+  @BeforeEach
+  void stackTheDeck() {
+    when(cardShuffler.shuffle(anyList()))
+        .thenAnswer(
+            invocation -> {
+              List<Card> cards = new ArrayList<>(invocation.<List<Card>>getArgument(0));
+              Collections.reverse(cards);
+              return cards;
+            });
+  }
+
   @Test
   void determineWinner_shouldDetermineWinner_withHighestCards() {
     addTwoPlayers();
@@ -27,7 +50,8 @@ class WinningSmokeTest extends SmokeTest {
     GetTableResponseDto result = getTableResponseDtoForPlayer(ALICE_ID);
     assertThat(result.getState()).isEqualTo(GameState.ENDED.getValue());
     String winnerId = result.getWinner().getId();
-    assertThat(winnerId).isNotNull();
+    assertThat(winnerId).isEqualTo(BILL_ID);
+    assertThat(result.getWinnerHand()).hasSize(5);
 
     PlayerDto winner =
         result.getPlayers().stream()
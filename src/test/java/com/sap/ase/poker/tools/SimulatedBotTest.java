@@ -0,0 +1,96 @@
+package com.sap.ase.poker.tools;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+import com.sap.ase.poker.model.Player;
+import com.sap.ase.poker.service.TableService;
+import com.sap.ase.poker.tools.SimulatedBot.Action;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class SimulatedBotTest {
+
+  @Mock private TableService tableMock;
+  @Mock private Random randomMock;
+  private Player alice;
+  private Player bob;
+
+  @BeforeEach
+  void setUp() {
+    alice = new Player("al-capone", "Alice", 100);
+    bob = new Player("bob", "Bob", 200);
+  }
+
+  @Test
+  void calling_shouldAlwaysCheckOrCall() {
+    SimulatedBot bot = SimulatedBot.of("calling");
+
+    assertThat(bot.act(tableMock, alice, 0, randomMock)).isEqualTo(Action.CHECK);
+    assertThat(bot.act(tableMock, alice, 7, randomMock)).isEqualTo(Action.CHECK);
+    verifyNoInteractions(tableMock, randomMock);
+  }
+
+  @Test
+  void script_shouldCycleThroughItsActions() {
+    SimulatedBot bot = SimulatedBot.of("script:raise:10, call");
+
+    assertThat(bot.act(tableMock, alice, 0, randomMock)).isEqualTo(new Action("raise", 10));
+    assertThat(bot.act(tableMock, alice, 1, randomMock)).isEqualTo(Action.CALL);
+    assertThat(bot.act(tableMock, alice, 2, randomMock)).isEqualTo(new Action("raise", 10));
+  }
+
+  @Test
+  void of_shouldRejectAnUnknownStrategy() {
+    assertThatThrownBy(() -> SimulatedBot.of("bluffing"))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("bluffing");
+  }
+
+  @Test
+  void random_shouldCheckCallOrFoldByChance() {
+    SimulatedBot bot = SimulatedBot.of("random");
+
+    when(randomMock.nextInt(100)).thenReturn(0, 39, 40, 69, 85, 99);
+
+    assertThat(bot.act(tableMock, alice, 0, randomMock)).isEqualTo(Action.CHECK);
+    assertThat(bot.act(tableMock, alice, 0, randomMock)).isEqualTo(Action.CHECK);
+    assertThat(bot.act(tableMock, alice, 0, randomMock)).isEqualTo(Action.CALL);
+    assertThat(bot.act(tableMock, alice, 0, randomMock)).isEqualTo(Action.CALL);
+    assertThat(bot.act(tableMock, alice, 0, randomMock)).isEqualTo(Action.FOLD);
+    assertThat(bot.act(tableMock, alice, 0, randomMock)).isEqualTo(Action.FOLD);
+  }
+
+  @Test
+  void random_shouldRaiseAtMostTheCashOfThePoorestPlayer() {
+    SimulatedBot bot = SimulatedBot.of("random");
+    alice.bet(20);
+    when(tableMock.getPlayers()).thenReturn(List.of(alice, bob));
+    when(tableMock.getBets()).thenReturn(Map.of(alice.getId(), 20));
+    when(randomMock.nextInt(100)).thenReturn(70);
+    // bob has to call 20 and alice has 80 left, so the raise is 21 + nextInt(60)
+    when(randomMock.nextInt(60)).thenReturn(4);
+
+    assertThat(bot.act(tableMock, bob, 0, randomMock)).isEqualTo(new Action("raise", 25));
+  }
+
+  @Test
+  void random_shouldCheckInsteadOfRaisingWhenNobodyCanCoverARaise() {
+    SimulatedBot bot = SimulatedBot.of("random");
+    alice = new Player("al-capone", "Alice", 30);
+    alice.bet(20);
+    when(tableMock.getPlayers()).thenReturn(List.of(alice, bob));
+    when(tableMock.getBets()).thenReturn(Map.of(alice.getId(), 20));
+    when(randomMock.nextInt(100)).thenReturn(84);
+
+    assertThat(bot.act(tableMock, bob, 0, randomMock)).isEqualTo(Action.CHECK);
+  }
+}